@@ -83,4 +83,28 @@ tasks.jar {
     manifest {
         attributes["Main-Class"] = application.mainClass.get()
     }
-}
\ No newline at end of file
+}
+/*
+ * Packs the sprites of the game atlases into power-of-two pages with a binary manifest,
+ * shipped under /packed so that the SpriteLoader resolves them without parsing their JSON metadata.
+ * The packer only needs the compiled classes and the original resources, not the processed ones.
+ */
+val packSprites by tasks.registering(JavaExec::class) {
+    group = "build"
+    description = "Packs the sprites into power-of-two atlases with a binary manifest"
+    val outputDir = layout.buildDirectory.dir("generated/packedSprites")
+    classpath = files(sourceSets.main.get().output.classesDirs, "src/main/resources") +
+        configurations.runtimeClasspath.get()
+    mainClass.set("dev.emberline.core.graphics.SpritePacker")
+    jvmArgs("-Djava.awt.headless=true", "-Dprism.order=sw")
+    argumentProviders.add(CommandLineArgumentProvider { listOf(outputDir.get().asFile.absolutePath) })
+    inputs.dir("src/main/resources/sprites")
+    inputs.dir("src/main/resources/gui")
+    outputs.dir(outputDir)
+}
+
+tasks.processResources {
+    from(packSprites) {
+        into("packed")
+    }
+}
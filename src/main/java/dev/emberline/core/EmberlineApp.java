@@ -1,6 +1,7 @@
 package dev.emberline.core;
 
 import dev.emberline.core.input.InputDispatcher;
+import dev.emberline.core.render.RenderLayer;
 import dev.emberline.preferences.PreferenceKey;
 import dev.emberline.preferences.PreferencesManager;
 import javafx.application.Application;
@@ -17,6 +18,9 @@ import javafx.scene.layout.Pane;
 import javafx.scene.paint.Color;
 import javafx.stage.Stage;
 
+import java.util.EnumMap;
+import java.util.Map;
+
 /**
  * The {@code EmberlineApp} class serves as the main entry point for the Emberline JavaFX
  * application. It initializes the application's graphical components, directs where input events
@@ -33,7 +37,7 @@ public class EmberlineApp extends Application {
     /**
      * The entry point for the JavaFX application. This method is called after the
      * JavaFX system is initialized and sets up the primary stage for the application.
-     * It includes initializing the scene graph, creating a canvas for rendering, configuring
+     * It includes initializing the scene graph, creating a canvas for every {@link RenderLayer}, configuring
      * event routing for input handling, and starting the game loop.
      *
      * @param stage the primary stage for this application, provided by the JavaFX runtime. This stage
@@ -47,11 +51,18 @@ public class EmberlineApp extends Application {
         final Pane root = new Pane();
         root.setBackground(Background.fill(Color.BLACK));
 
-        // Canvas
-        final Canvas canvas = new Canvas(MIN_WINDOW_WIDTH, MIN_WINDOW_HEIGHT);
-        canvas.widthProperty().bind(root.widthProperty());
-        canvas.heightProperty().bind(root.heightProperty());
-        root.getChildren().add(canvas);
+        // Canvases, stacked from the bottom layer, each redrawn only when its layer changes
+        final Map<RenderLayer, Canvas> canvases = new EnumMap<>(RenderLayer.class);
+        for (final RenderLayer layer : RenderLayer.values()) {
+            final Canvas canvas = new Canvas(MIN_WINDOW_WIDTH, MIN_WINDOW_HEIGHT);
+            // Render-scaled canvases are sized by the renderer
+            if (!layer.isRenderScaled()) {
+                canvas.widthProperty().bind(root.widthProperty());
+                canvas.heightProperty().bind(root.heightProperty());
+            }
+            root.getChildren().add(canvas);
+            canvases.put(layer, canvas);
+        }
 
         // Scene
         final Scene scene = new Scene(root);
@@ -78,7 +89,7 @@ public class EmberlineApp extends Application {
         stage.show();
 
         // Starting the Game Thread
-        GameLoop.init(stage, canvas);
+        GameLoop.init(stage, canvases);
         this.gameLoop = GameLoop.getInstance();
         this.gameLoop.start();
     }
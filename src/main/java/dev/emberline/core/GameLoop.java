@@ -1,23 +1,42 @@
 package dev.emberline.core;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
+import dev.emberline.core.config.ConfigLoader;
 import dev.emberline.core.input.InputDispatcher;
+import dev.emberline.core.render.RenderLayer;
 import dev.emberline.core.render.Renderer;
 import dev.emberline.core.update.Updater;
 import dev.emberline.game.GameRoot;
+import dev.emberline.preferences.PreferenceKey;
+import dev.emberline.preferences.PreferencesManager;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import javafx.application.Platform;
 import javafx.scene.canvas.Canvas;
 import javafx.stage.Stage;
 
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
 
 /**
  * Represents the main game loop thread responsible for managing game processes in a loop,
  * such as input handling, updating game logic, and rendering frames. The game loop runs
  * with a fixed update rate to ensure consistent gameplay.
  * <p>
+ * The update rate is read from the {@code /gameLoop.json} configuration file and is independent
+ * of the rate at which frames are rendered: frames rendered between two updates are
+ * interpolated through {@link Renderer#getInterpolationAlpha()}.
+ * <p>
+ * Frames are paced to the FPS cap stored in the {@link PreferenceKey#FPS_CAP} preference: once a frame
+ * has been issued, the thread is parked until the start of the next frame period instead of spinning.
+ * To avoid a spiral of death after a long stall, at most {@code maxCatchUpTicks} updates are
+ * performed per frame and the rest of the accumulated time is dropped.
+ * <p>
+ * The game can be fast-forwarded through the {@link Updater}, which then performs several
+ * fixed time step updates for every real time step, so the simulation stays deterministic.
+ * <p>
  * This class is implemented as a singleton and must be initialized using the static
- * {@link GameLoop#init(Stage, Canvas)} method before obtaining an instance.
+ * {@link GameLoop#init(Stage, Map)} method before obtaining an instance.
  */
 public final class GameLoop extends Thread {
     // GameLoop initialized only once
@@ -33,8 +52,24 @@ public final class GameLoop extends Thread {
     private final InputDispatcher inputDispatcher;
 
     // Game loop settings
-    private static final long TICKS_PER_SECOND = 20;
-    private static final long NS_PER_UPDATE = (long) 1e9 / TICKS_PER_SECOND;
+    private record Metadata(
+            @JsonProperty int ticksPerSecond,
+            @JsonProperty int maxCatchUpTicks
+    ) {
+        private Metadata {
+            if (ticksPerSecond <= 0 || maxCatchUpTicks <= 0) {
+                throw new IllegalArgumentException("ticksPerSecond and maxCatchUpTicks must be positive");
+            }
+        }
+    }
+
+    private static final Metadata METADATA = ConfigLoader.loadConfig("/gameLoop.json", Metadata.class);
+    // Package-private so that the headless simulation steps with the same fixed time step
+    static final long NS_PER_UPDATE = (long) 1e9 / METADATA.ticksPerSecond();
+    private static final double SECOND_IN_NS = 1e9;
+
+    // Target duration of a frame, derived from the FPS cap
+    private volatile long nsPerFrame;
 
     // To stop the game loop
     private final AtomicBoolean running = new AtomicBoolean(false);
@@ -42,29 +77,33 @@ public final class GameLoop extends Thread {
     // Game
     private final GameRoot gameRoot;
 
-    private GameLoop(final Stage stage, final Canvas canvas) {
+    private GameLoop(final Stage stage, final Map<RenderLayer, Canvas> canvases) {
         super("Game Thread");
         this.stage = stage;
         this.gameRoot = new GameRoot();
-        this.renderer = new Renderer(gameRoot, canvas);
+        this.renderer = new Renderer(gameRoot, canvases);
         this.updater = new Updater(gameRoot);
         this.inputDispatcher = new InputDispatcher(gameRoot);
+        setFpsCap(PreferencesManager.getDoublePreference(PreferenceKey.FPS_CAP));
+        renderer.setRenderScale(PreferencesManager.getDoublePreference(PreferenceKey.RENDER_SCALE));
     }
 
     /**
      * Initializes the {@code GameLoop} as a singleton instance. This method must be called
      * before getting an instance of the game loop or attempting to start the game processes.
-     * It associates the game loop with the specified JavaFX {@link Stage} and {@link Canvas}.
+     * It associates the game loop with the specified JavaFX {@link Stage} and with the {@link Canvas} of every
+     * {@link RenderLayer}.
      *
      * @param stage the primary {@link Stage} of the JavaFX application, used for managing the GUI and resources.
-     * @param canvas the {@link Canvas} on which the game is rendered, dynamically bound to the stage dimensions.
+     * @param canvases the stacked {@link Canvas canvases} on which each layer of the game is rendered, dynamically
+     *                 bound to the stage dimensions.
      * @throws IllegalStateException if the {@code GameLoop} is already initialized.
      */
-    public static synchronized void init(final Stage stage, final Canvas canvas) {
+    public static synchronized void init(final Stage stage, final Map<RenderLayer, Canvas> canvases) {
         if (instance != null) {
             throw new IllegalStateException("GameLoop already initialized");
         }
-        instance = new GameLoop(stage, canvas);
+        instance = new GameLoop(stage, canvases);
         initialized = true;
     }
 
@@ -86,6 +125,17 @@ public final class GameLoop extends Thread {
         return instance;
     }
 
+    /**
+     * Returns whether the {@code GameLoop} has been initialized through {@link GameLoop#init(Stage, Map)}.
+     * When the game is simulated headlessly (see {@link HeadlessSimulation}) the game loop is never
+     * initialized and there is no {@link Renderer} to obtain.
+     *
+     * @return {@code true} if the game loop has been initialized, {@code false} otherwise.
+     */
+    public static synchronized boolean isInitialized() {
+        return initialized;
+    }
+
     /**
      * Executes the game loop that manages the core lifecycle of the game, including input processing,
      * updating, and rendering. This method runs until explicitly stopped, maintaining a fixed
@@ -99,34 +149,61 @@ public final class GameLoop extends Thread {
         running.set(true);
         while (running.get()) {
             // Timings
-            final long now = System.nanoTime();
-            final long elapsed = now - previous;
-            previous = now;
+            final long frameStart = System.nanoTime();
+            final long elapsed = frameStart - previous;
+            previous = frameStart;
             lagUpdate += elapsed;
 
             // Resolve inputs
             inputDispatcher.dispatchInputs();
 
-            // Update with fixed time step
-            while (lagUpdate >= NS_PER_UPDATE) {
+            // Update with fixed time step, catching up at most maxCatchUpTicks steps
+            int ticks = 0;
+            while (lagUpdate >= NS_PER_UPDATE && ticks < METADATA.maxCatchUpTicks()) {
                 lagUpdate -= NS_PER_UPDATE;
                 updater.update(NS_PER_UPDATE);
+                ticks++;
             }
+            // The game fell too far behind, the whole steps still accumulated are dropped
+            lagUpdate %= NS_PER_UPDATE;
 
-            // Render (maybe add a synchronization concept to avoid the busy waiting)
+            // Render in between the last two updates based on how much of the next time step has elapsed
+            renderer.setInterpolationAlpha((double) lagUpdate / NS_PER_UPDATE);
             renderer.render();
 
-            // sleep (for fixed FPS, although I'm not sure if we actually have control over
-            // the rate at which JavaFX sends screen update requests)
-            try {
-                sleep(1);
-            } catch (InterruptedException e) {
-                interrupt();
+            // Wait for the next frame period
+            parkUntil(frameStart + nsPerFrame);
+            if (isInterrupted()) {
                 return;
             }
         }
     }
 
+    // Parks the game thread until the deadline, parkNanos may return early so the remaining time is checked again
+    private void parkUntil(final long deadlineNs) {
+        long remaining = deadlineNs - System.nanoTime();
+        while (remaining > 0 && !isInterrupted()) {
+            LockSupport.parkNanos(this, remaining);
+            remaining = deadlineNs - System.nanoTime();
+        }
+    }
+
+    /**
+     * Sets the maximum number of frames rendered per second. Between frames the game thread is parked,
+     * so lower values reduce the CPU usage of the game. The frame period is also the budget against which
+     * the {@link Renderer} chooses its quality tier.
+     *
+     * @param fpsCap the maximum number of frames per second
+     * @throws IllegalArgumentException if {@code fpsCap} is not positive
+     */
+    public void setFpsCap(final double fpsCap) {
+        if (fpsCap <= 0) {
+            throw new IllegalArgumentException("The FPS cap must be positive");
+        }
+        nsPerFrame = (long) (SECOND_IN_NS / fpsCap);
+        renderer.setFrameBudgetNs(nsPerFrame);
+    }
+
     /**
      * Retrieves the renderer associated with the game loop.
      *
@@ -141,6 +218,20 @@ public final class GameLoop extends Thread {
         return renderer;
     }
 
+    /**
+     * Retrieves the updater associated with the game loop.
+     *
+     * @return the {@link Updater} responsible for updating the game state.
+     */
+    @SuppressFBWarnings(
+            value = "EI_EXPOSE_REP",
+            justification = "When this method is called, "
+                    + "it should return the reference to the Updater."
+    )
+    public Updater getUpdater() {
+        return updater;
+    }
+
     /**
      * Retrieves the current instance of the {@code GameRoot}.
      *
@@ -0,0 +1,48 @@
+package dev.emberline.core;
+
+import dev.emberline.game.world.World;
+
+import java.text.DecimalFormatSymbols;
+import java.util.Locale;
+
+/**
+ * The class {@code HeadlessMain} which defines the entry point for running matches
+ * without a display, using a {@link HeadlessSimulation} for each of them.
+ * <p>
+ * Accepted arguments, both optional: the number of matches to run (default {@value DEFAULT_MATCHES})
+ * and the maximum number of ticks per match (default {@value DEFAULT_MAX_TICKS}).
+ */
+public final class HeadlessMain {
+
+    private static final int DEFAULT_MATCHES = 1;
+    private static final long DEFAULT_MAX_TICKS = 1_000_000;
+
+    private HeadlessMain() {
+
+    }
+
+    /**
+     * The entry point of the headless simulation.
+     *
+     * @param args the command-line arguments passed to the simulation.
+     */
+    @SuppressWarnings("PMD.SystemPrintln")
+    public static void main(final String[] args) {
+        // Images are still decoded to run the simulation, the software pipeline needs no display
+        if (System.getProperty("prism.order") == null) {
+            System.setProperty("prism.order", "sw");
+        }
+        Locale.setDefault(Locale.US);
+        DecimalFormatSymbols.getInstance().setDecimalSeparator('.');
+
+        final int matches = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_MATCHES;
+        final long maxTicks = args.length > 1 ? Long.parseLong(args[1]) : DEFAULT_MAX_TICKS;
+
+        for (int i = 0; i < matches; i++) {
+            final HeadlessSimulation.Result result = new HeadlessSimulation(new World()).run(maxTicks);
+            System.out.printf("match %d: %d ticks (%.1f s simulated) in %.3f s, %.0f ticks/s, game over: %b%n",
+                    i + 1, result.ticks(), result.simulatedSeconds(), result.wallTimeNs() / 1e9,
+                    result.ticksPerSecond(), result.gameOver());
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package dev.emberline.core;
+
+import dev.emberline.core.event.EventDispatcher;
+import dev.emberline.core.event.EventHandler;
+import dev.emberline.core.update.Updater;
+import dev.emberline.game.world.World;
+import dev.emberline.gui.event.GameOverEvent;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+
+import java.util.EventListener;
+
+/**
+ * Drives a {@link World} without any JavaFX {@code Stage}, {@code Canvas} or running toolkit.
+ * <p>
+ * The simulation calls {@link World#update(long)} in a tight loop with the same fixed time step
+ * used by the {@link GameLoop}, as fast as the CPU allows. The render and input sides are never
+ * invoked and no {@link dev.emberline.core.sounds.AudioController} is created, so sound requests
+ * dispatched by the world have no listener and are discarded.
+ * <p>
+ * This is meant for balance sweeps and performance runs on machines without a display.
+ */
+public final class HeadlessSimulation implements EventListener {
+
+    private final Updater updater;
+    private boolean gameOver;
+
+    /**
+     * Represents the outcome of a headless run.
+     *
+     * @param ticks the number of fixed time step updates that were performed
+     * @param wallTimeNs the real time spent performing the updates, in nanoseconds
+     * @param gameOver whether the run ended because the world dispatched a {@link GameOverEvent}
+     */
+    public record Result(long ticks, long wallTimeNs, boolean gameOver) {
+        private static final double SECOND_IN_NS = 1e9;
+
+        /**
+         * Returns the number of ticks performed per real second.
+         *
+         * @return the achieved tick rate.
+         */
+        public double ticksPerSecond() {
+            return wallTimeNs == 0 ? 0 : ticks * SECOND_IN_NS / wallTimeNs;
+        }
+
+        /**
+         * Returns the amount of game time that has been simulated, in seconds.
+         *
+         * @return the simulated time in seconds.
+         */
+        public double simulatedSeconds() {
+            return ticks * GameLoop.NS_PER_UPDATE / SECOND_IN_NS;
+        }
+    }
+
+    /**
+     * Creates a headless simulation of the given world.
+     *
+     * @param world the world to simulate
+     */
+    @SuppressFBWarnings(
+            value = "EI_EXPOSE_REP2",
+            justification = "The simulation is meant to update the given world instance."
+    )
+    public HeadlessSimulation(final World world) {
+        this.updater = new Updater(world);
+    }
+
+    /**
+     * Updates the world until it dispatches a {@link GameOverEvent} or until {@code maxTicks}
+     * updates have been performed, whichever comes first.
+     *
+     * @param maxTicks the maximum number of updates to perform
+     * @return the {@link Result} of the run
+     * @throws IllegalArgumentException if {@code maxTicks} is negative
+     */
+    public Result run(final long maxTicks) {
+        if (maxTicks < 0) {
+            throw new IllegalArgumentException("maxTicks cannot be negative");
+        }
+        EventDispatcher.getInstance().registerListener(this);
+        try {
+            final long start = System.nanoTime();
+            long ticks = 0;
+            while (!gameOver && ticks < maxTicks) {
+                updater.update(GameLoop.NS_PER_UPDATE);
+                ticks++;
+            }
+            return new Result(ticks, System.nanoTime() - start, gameOver);
+        } finally {
+            EventDispatcher.getInstance().unregisterListener(this);
+        }
+    }
+
+    @EventHandler
+    // This method is used by the EventDispatcher and should not be removed.
+    @SuppressWarnings({"unused", "PMD.AvoidDuplicateLiterals"})
+    private void handleGameOverEvent(final GameOverEvent event) {
+        gameOver = true;
+    }
+}
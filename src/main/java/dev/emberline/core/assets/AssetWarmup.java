@@ -0,0 +1,225 @@
+package dev.emberline.core.assets;
+
+import dev.emberline.core.config.ConfigLoader;
+import dev.emberline.core.graphics.SpriteLoader;
+import dev.emberline.core.graphics.spritefactories.MapSpriteFactory;
+import dev.emberline.core.graphics.spritekeys.SpriteKey;
+import dev.emberline.core.graphics.spritekeys.SpriteKeys;
+import dev.emberline.core.sounds.AudioController;
+import dev.emberline.core.sounds.event.SfxSoundEvent.SoundType;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystemAlreadyExistsException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * The {@code AssetWarmup} class loads the assets of the game in parallel ahead of their first use,
+ * so that the first frame showing a sprite or playing a sound does not pay for decoding it.
+ * <p>
+ * Every asset is loaded through the same cache that serves it later, like the {@link SpriteLoader},
+ * the {@link ConfigLoader} or the {@link AudioController}, on a virtual thread of its own.
+ * The warm-up never fails: an asset that cannot be loaded is only recorded as failed, and the error
+ * surfaces again when the asset is actually requested. Errors, like a failed class initialisation, are also
+ * recorded and counted as loaded before being rethrown, so that the warm-up still gets done.
+ * <p>
+ * The progress can be polled from any thread, and the time spent loading each asset is recorded.
+ * Once the warm-up is done, the assets that failed and the slowest ones are logged.
+ */
+public final class AssetWarmup {
+    private static final String[] CONFIG_ROOTS = {"/world", "/sprites"};
+    private static final String JSON_EXTENSION = ".json";
+    private static final Logger LOGGER = Logger.getLogger(AssetWarmup.class.getName());
+    private static final int SLOWEST_LOGGED = 5;
+    private static final double NS_PER_MS = 1e6;
+
+    private final List<Asset> assets = new ArrayList<>();
+    private final AtomicInteger loaded = new AtomicInteger();
+    private final ConcurrentLinkedQueue<LoadTiming> timings = new ConcurrentLinkedQueue<>();
+    private volatile boolean started;
+
+    /**
+     * The time spent loading a single asset.
+     *
+     * @param asset a description of the asset
+     * @param loadNs the time spent loading the asset in nanoseconds
+     * @param failed whether the asset could not be loaded
+     */
+    public record LoadTiming(String asset, long loadNs, boolean failed) {
+    }
+
+    private record Asset(String name, Runnable loader) {
+    }
+
+    /**
+     * Creates an empty warm-up, whose assets have to be {@link #addAsset added} before it is started.
+     */
+    public AssetWarmup() {
+        // Assets are added one by one
+    }
+
+    /**
+     * Creates a warm-up of all the sprites and map frames, the configuration files under {@code /world}
+     * and {@code /sprites} and the sound effects of the game. The warm-up has to be {@link #start() started}.
+     *
+     * @param audioController the audio controller whose sound effects are loaded
+     * @return the warm-up of the game assets
+     */
+    public static AssetWarmup forGameAssets(final AudioController audioController) {
+        final AssetWarmup warmup = new AssetWarmup();
+        for (final SpriteKey key : SpriteKeys.atlasKeys()) {
+            warmup.addAsset(key.toString(), () -> SpriteLoader.loadSprite(key));
+        }
+        // Map frames are streamed and not kept, they are only stored decoded for the waves to come
+        warmup.addAsset("map frames", MapSpriteFactory::storeFrames);
+        for (final String root : CONFIG_ROOTS) {
+            for (final String config : listJsonResources(root)) {
+                warmup.addAsset(config, () -> ConfigLoader.loadNode(config));
+            }
+        }
+        for (final SoundType type : SoundType.values()) {
+            warmup.addAsset("sfx " + type, () -> audioController.preloadSfx(type));
+        }
+        return warmup;
+    }
+
+    /**
+     * Adds an asset to be loaded. Assets can only be added before the warm-up is started.
+     *
+     * @param name a description of the asset, used for its timing
+     * @param loader the routine loading the asset into its cache
+     * @throws IllegalStateException if the warm-up has already been started
+     */
+    public void addAsset(final String name, final Runnable loader) {
+        if (started) {
+            throw new IllegalStateException("The warm-up has already been started");
+        }
+        assets.add(new Asset(name, loader));
+    }
+
+    /**
+     * Starts loading all the assets in parallel, each on its own virtual thread, and returns immediately.
+     *
+     * @throws IllegalStateException if the warm-up has already been started
+     */
+    public void start() {
+        if (started) {
+            throw new IllegalStateException("The warm-up has already been started");
+        }
+        started = true;
+        // Not closed, as closing waits for all the assets to be loaded
+        final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor(); // NOPMD
+        for (final Asset asset : assets) {
+            executor.execute(() -> load(asset));
+        }
+        executor.shutdown();
+    }
+
+    private void load(final Asset asset) {
+        final long startNs = System.nanoTime();
+        boolean failed = true;
+        try {
+            asset.loader().run();
+            failed = false;
+        } catch (RuntimeException e) { // NOPMD - a failed asset must not stop the warm-up
+            // Recorded as failed below
+        } finally {
+            timings.add(new LoadTiming(asset.name(), System.nanoTime() - startNs, failed));
+            if (loaded.incrementAndGet() == assets.size()) {
+                logTimings();
+            }
+        }
+    }
+
+    // Called by the last asset to be loaded, once all the timings have been recorded
+    private void logTimings() {
+        final List<LoadTiming> sorted = getTimings();
+        for (final LoadTiming timing : sorted) {
+            if (timing.failed()) {
+                LOGGER.warning(() -> "Asset failed to warm up: " + timing.asset());
+            }
+        }
+        LOGGER.info(() -> sorted.stream()
+                .limit(SLOWEST_LOGGED)
+                .map(timing -> String.format(Locale.ROOT, "%s (%.1f ms)", timing.asset(), timing.loadNs() / NS_PER_MS))
+                .collect(Collectors.joining(", ", "Warm-up done, slowest assets: ", "")));
+    }
+
+    /**
+     * Returns the fraction of the assets that have been loaded.
+     *
+     * @return the progress of the warm-up, from {@code 0} to {@code 1}
+     */
+    public double getProgress() {
+        return assets.isEmpty() ? 1 : (double) loaded.get() / assets.size();
+    }
+
+    /**
+     * Returns whether all the assets have been loaded.
+     *
+     * @return {@code true} if the warm-up has been started and all the assets have been loaded
+     */
+    public boolean isDone() {
+        return started && loaded.get() == assets.size();
+    }
+
+    /**
+     * Returns the time spent loading each of the assets loaded so far, from the slowest one.
+     *
+     * @return the load timings of the assets
+     */
+    public List<LoadTiming> getTimings() {
+        final List<LoadTiming> result = new ArrayList<>(timings);
+        result.sort(Comparator.comparingLong(LoadTiming::loadNs).reversed());
+        return Collections.unmodifiableList(result);
+    }
+
+    // Lists the JSON resources under the given root, both from the file system and from a jar
+    private static List<String> listJsonResources(final String root) {
+        final URL url = AssetWarmup.class.getResource(root);
+        if (url == null) {
+            return List.of();
+        }
+        try {
+            final URI uri = url.toURI();
+            if (!"jar".equals(uri.getScheme())) {
+                return listJsonResources(Path.of(uri), root);
+            }
+            try (FileSystem jarFileSystem = FileSystems.newFileSystem(uri, Map.of())) {
+                return listJsonResources(jarFileSystem.getPath(root), root);
+            } catch (FileSystemAlreadyExistsException e) {
+                return listJsonResources(FileSystems.getFileSystem(uri).getPath(root), root);
+            }
+        } catch (IOException | URISyntaxException e) {
+            // The configurations are then loaded on demand
+            return List.of();
+        }
+    }
+
+    private static List<String> listJsonResources(final Path directory, final String root) throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            return paths.filter(path -> path.getFileName().toString().endsWith(JSON_EXTENSION))
+                    .map(path -> root + "/" + directory.relativize(path).toString().replace('\\', '/'))
+                    .sorted()
+                    .toList();
+        }
+    }
+}
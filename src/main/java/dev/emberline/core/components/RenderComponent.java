@@ -31,4 +31,18 @@ public interface RenderComponent {
      * @see Renderer#addRenderTask(RenderTask)
      */
     void render();
+
+    /**
+     * Returns whether something changed since the last {@link #render()} call and the component
+     * has to be drawn again.
+     * <p>
+     * The {@link Renderer} asks the root component before every frame: when no redraw is needed
+     * and the canvas has not been resized, the last frame is left on screen and nothing is rendered.
+     * Components that change over time, such as the game world, must keep the default.
+     *
+     * @return {@code true} if the component has to be rendered again, {@code true} by default
+     */
+    default boolean isRedrawNeeded() {
+        return true;
+    }
 }
@@ -33,4 +33,16 @@ public interface UpdateComponent {
      * @param elapsed the time elapsed since the last update in nanoseconds
      */
     void update(long elapsed);
+
+    /**
+     * Marks the beginning of a step of the game loop, before all of its updates are performed.
+     * <p>
+     * When the game is sped up a single step performs several updates, so this is where the state
+     * that the rendering interpolates from should be recorded, to span the whole step.
+     * Like {@link #update(long)}, this method must only be called in cascade from the {@link Updater}.
+     * By default nothing is recorded.
+     */
+    default void beginStep() {
+        // Nothing to record by default
+    }
 }
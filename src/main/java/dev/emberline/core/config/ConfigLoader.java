@@ -8,6 +8,8 @@ import com.fasterxml.jackson.module.paramnames.ParameterNamesModule;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * The {@code ConfigLoader} class provides utility methods for loading configuration
@@ -16,12 +18,17 @@ import java.io.InputStream;
  * <p>
  * It supports loading JSON content from a resource path, and it offers methods to
  * transform the loaded content into desired data types.
+ * <p>
+ * Every resource is parsed at most once: the parsed trees are cached, so that loading the same
+ * configuration again, like the wave files when a new world is created, only costs the deserialization.
+ * The cache is thread-safe, which allows the configurations to be warmed up in parallel.
  */
 public final class ConfigLoader {
     private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
             .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
             .registerModule(new ParameterNamesModule())
             .findAndRegisterModules();
+    private static final Map<String, JsonNode> NODE_CACHE = new ConcurrentHashMap<>();
 
     private ConfigLoader() {
 
@@ -32,12 +39,24 @@ public final class ConfigLoader {
      * The method reads the content of the file located at the specified resource path
      * and converts it into a {@link JsonNode} object using the Jackson library.
      * If an I/O error occurs during the process, a {@link ConfigLoaderLoadingException} is thrown.
+     * <p>
+     * The returned node is shared with all the other callers loading the same resource, so it must not be modified.
      *
      * @param resourcePath the path to the resource file, relative to the class's location.
      * @return a {@link JsonNode} representation of the JSON content from the resource file.
      * @throws ConfigLoaderLoadingException if an error occurs while reading or parsing the resource.
      */
     public static JsonNode loadNode(final String resourcePath) {
+        final JsonNode cached = NODE_CACHE.get(resourcePath);
+        if (cached != null) {
+            return cached;
+        }
+        final JsonNode node = readNode(resourcePath);
+        final JsonNode previous = NODE_CACHE.putIfAbsent(resourcePath, node);
+        return previous == null ? node : previous;
+    }
+
+    private static JsonNode readNode(final String resourcePath) {
         try {
             try (InputStream resourceStream = ConfigLoader.class.getResourceAsStream(resourcePath)) {
                 final JsonNode node = OBJECT_MAPPER.readTree(resourceStream);
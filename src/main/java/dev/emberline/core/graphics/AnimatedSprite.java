@@ -8,13 +8,17 @@ import java.io.ObjectInputStream;
 import java.io.Serial;
 import java.io.Serializable;
 import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 /**
  * The {@code AnimatedSprite} class represents a sprite composed of multiple frames,
- * enabling animation by cycling through these frames. Each frame is represented by
- * an {@link Image} and displayed for a fixed duration.
+ * enabling animation by cycling through these frames. Each frame is an {@link AtlasRegion}
+ * of a shared atlas and is displayed for a fixed duration.
  * The class provides access to individual frames and general animation properties,
  * such as the number of frames and the duration per frame.
+ * <p>
+ * Frames are meant to be drawn through {@link #region(int)}; the image of a frame is only
+ * copied out of the atlas, once, if {@link #image(int)} is called.
  *
  * @see Sprite
  */
@@ -22,7 +26,9 @@ public class AnimatedSprite implements Sprite, Serializable {
     @Serial
     private static final long serialVersionUID = -6515408676254063528L;
 
-    private transient Image[] images;
+    private transient AtlasRegion[] frames;
+    // Frames copied out of the atlas, built on demand by image(int), possibly from several threads
+    private transient AtomicReferenceArray<Image> images;
     private final SpriteKey key;
     private final int frameTimeNs;
 
@@ -40,7 +46,28 @@ public class AnimatedSprite implements Sprite, Serializable {
         if (images == null || images.length == 0) {
             throw new IllegalArgumentException("Image array cannot be null or empty");
         }
-        this.images = Arrays.copyOf(images, images.length);
+        this.images = new AtomicReferenceArray<>(images);
+        this.frames = Arrays.stream(images).map(AtlasRegion::of).toArray(AtlasRegion[]::new);
+        this.key = spriteKey;
+        this.frameTimeNs = frameTimeNs;
+    }
+
+    /**
+     * Constructs an {@code AnimatedSprite} whose animation frames are regions of a shared atlas,
+     * each displayed for the given duration.
+     *
+     * @param frames      an array of {@link AtlasRegion}s representing the frames of the animation;
+     *                    must not be null or empty
+     * @param spriteKey   the sprite key associated with this animated sprite
+     * @param frameTimeNs the duration in nanoseconds each frame is displayed; must be a positive integer
+     * @throws IllegalArgumentException if the {@code frames} array is null or empty
+     */
+    public AnimatedSprite(final AtlasRegion[] frames, final SpriteKey spriteKey, final int frameTimeNs) {
+        if (frames == null || frames.length == 0) {
+            throw new IllegalArgumentException("Frame array cannot be null or empty");
+        }
+        this.frames = Arrays.copyOf(frames, frames.length);
+        this.images = new AtomicReferenceArray<>(frames.length);
         this.key = spriteKey;
         this.frameTimeNs = frameTimeNs;
     }
@@ -55,7 +82,7 @@ public class AnimatedSprite implements Sprite, Serializable {
      */
     @Override
     public Image image() {
-        return images[0];
+        return image(0);
     }
 
     /**
@@ -66,7 +93,24 @@ public class AnimatedSprite implements Sprite, Serializable {
      * @throws ArrayIndexOutOfBoundsException if the provided frameIndex is out of bounds
      */
     public Image image(final int frameIndex) {
-        return images[frameIndex];
+        final Image image = images.get(frameIndex);
+        if (image != null) {
+            return image;
+        }
+        // Racing threads may both copy the frame, but they all get the copy stored first
+        images.compareAndSet(frameIndex, null, frames[frameIndex].toImage());
+        return images.get(frameIndex);
+    }
+
+    /**
+     * Retrieves the atlas region of the specified frame index in the animation sequence.
+     *
+     * @param frameIndex the index of the frame whose region is to be retrieved; must be within the bounds of the animation frames
+     * @return the {@link AtlasRegion} at the specified frame index
+     * @throws ArrayIndexOutOfBoundsException if the provided frameIndex is out of bounds
+     */
+    public AtlasRegion region(final int frameIndex) {
+        return frames[frameIndex];
     }
 
     /**
@@ -75,7 +119,7 @@ public class AnimatedSprite implements Sprite, Serializable {
      * @return the total number of frames available in the animation
      */
     public int getFrameCount() {
-        return images.length;
+        return frames.length;
     }
 
     /**
@@ -87,14 +131,22 @@ public class AnimatedSprite implements Sprite, Serializable {
         return frameTimeNs;
     }
 
+    /**
+     * Returns the sprite key associated with this animated sprite.
+     *
+     * @return the sprite key of the sprite
+     */
+    SpriteKey getKey() {
+        return key;
+    }
+
     @Serial
     private void readObject(final ObjectInputStream e) throws IOException, ClassNotFoundException {
         e.defaultReadObject();
 
         final AnimatedSprite animatedSprite = (AnimatedSprite) SpriteLoader.loadSpriteAfterSerialization(key);
 
-        images = new Image[animatedSprite.getFrameCount()];
-
-        System.arraycopy(animatedSprite.images, 0, this.images, 0, animatedSprite.images.length);
+        frames = Arrays.copyOf(animatedSprite.frames, animatedSprite.frames.length);
+        images = new AtomicReferenceArray<>(frames.length);
     }
 }
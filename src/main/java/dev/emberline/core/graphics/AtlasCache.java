@@ -0,0 +1,82 @@
+package dev.emberline.core.graphics;
+
+import javafx.scene.image.Image;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The {@code AtlasCache} class decodes every atlas image of the game at most once and shares it between
+ * all the sprites cut from it, which refer to it through {@link AtlasRegion}s.
+ * <p>
+ * Atlases are a small fixed set of resources, so they are kept for the whole execution.
+ * Their decoded pixels are also kept on disk by the {@link DecodedAtlasStore}, so that the following
+ * launches map them instead of decoding the PNG files again.
+ * The cache is thread-safe, since sprites are loaded both on the Game Loop thread and
+ * the JavaFX Application thread.
+ */
+public final class AtlasCache {
+    private static final Map<String, Image> ATLASES = new ConcurrentHashMap<>();
+    private static final DecodedAtlasStore STORE = new DecodedAtlasStore();
+
+    private AtlasCache() {
+    }
+
+    /**
+     * Returns the decoded atlas image at the given resource path, loading it on the first request.
+     *
+     * @param resourcePath the classpath resource path of the atlas image
+     * @return the decoded atlas image
+     * @throws NullPointerException if the resource does not exist
+     */
+    public static Image getAtlas(final String resourcePath) {
+        return ATLASES.computeIfAbsent(resourcePath, STORE::load);
+    }
+
+    /**
+     * Returns a new image of the given region of the atlas at the given resource path, without keeping the atlas.
+     * This is meant for large frames that are only needed a few at a time: the image is not cached, and once
+     * the region has been stored by the {@link DecodedAtlasStore} it is mapped without decoding the atlas.
+     *
+     * @param resourcePath the classpath resource path of the atlas image
+     * @param x the X coordinate of the top-left corner of the region in the atlas
+     * @param y the Y coordinate of the top-left corner of the region in the atlas
+     * @param width the width of the region in pixels
+     * @param height the height of the region in pixels
+     * @return an image with the content of the region
+     * @throws NullPointerException if the resource does not exist
+     */
+    public static Image loadRegion(final String resourcePath, final int x, final int y,
+                                   final int width, final int height) {
+        return STORE.loadRegion(resourcePath, x, y, width, height);
+    }
+
+    /**
+     * Stores the given region of the atlas at the given resource path, so that loading it later maps it
+     * without decoding the atlas. The atlas is decoded at most once for all its regions, and kept until
+     * {@link #releaseDecodedAtlas(String)} is called.
+     *
+     * @param resourcePath the classpath resource path of the atlas image
+     * @param x the X coordinate of the top-left corner of the region in the atlas
+     * @param y the Y coordinate of the top-left corner of the region in the atlas
+     * @param width the width of the region in pixels
+     * @param height the height of the region in pixels
+     * @return whether the region is stored
+     * @throws NullPointerException if the resource does not exist
+     * @see #loadRegion(String, int, int, int, int)
+     */
+    public static boolean storeRegion(final String resourcePath, final int x, final int y,
+                                      final int width, final int height) {
+        return STORE.storeRegion(resourcePath, x, y, width, height);
+    }
+
+    /**
+     * Releases the atlas at the given resource path decoded to store its regions. It is decoded again
+     * if a region that is not stored is requested afterwards.
+     *
+     * @param resourcePath the classpath resource path of the atlas image
+     */
+    public static void releaseDecodedAtlas(final String resourcePath) {
+        STORE.releaseDecoded(resourcePath);
+    }
+}
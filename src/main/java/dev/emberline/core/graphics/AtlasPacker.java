@@ -0,0 +1,128 @@
+package dev.emberline.core.graphics;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * The {@code AtlasPacker} places rectangles into as few square pages as possible, with a shelf algorithm:
+ * the rectangles are placed from the tallest one, left to right on rows as tall as their first rectangle,
+ * in the first page with room for them.
+ * <p>
+ * Every page is then shrunk to the smallest power of two sizes holding its rectangles.
+ * Rectangles are kept apart by a padding, so that sampling a rectangle never bleeds into its neighbours.
+ */
+final class AtlasPacker {
+    private final int maxSide;
+    private final int padding;
+
+    /**
+     * The size of a rectangle to place.
+     *
+     * @param width the width of the rectangle
+     * @param height the height of the rectangle
+     */
+    record Size(int width, int height) {
+    }
+
+    /**
+     * The position of a placed rectangle.
+     *
+     * @param page the index of the page holding the rectangle
+     * @param x the X coordinate of the top-left corner of the rectangle in the page
+     * @param y the Y coordinate of the top-left corner of the rectangle in the page
+     */
+    record Placement(int page, int x, int y) {
+    }
+
+    /**
+     * The result of a packing.
+     *
+     * @param placements the placement of every rectangle, in the order of the rectangles
+     * @param pages the size of every page, each a power of two
+     */
+    record Packing(List<Placement> placements, List<Size> pages) {
+    }
+
+    // A page being filled, whose last row is still open
+    private static final class Page {
+        private int rowY;
+        private int rowHeight;
+        private int cursorX;
+        private int usedWidth;
+        private int usedHeight;
+    }
+
+    /**
+     * Creates a packer.
+     *
+     * @param maxSide the side of the pages, which should be a power of two
+     * @param padding the pixels left empty between the rectangles
+     */
+    AtlasPacker(final int maxSide, final int padding) {
+        this.maxSide = maxSide;
+        this.padding = padding;
+    }
+
+    /**
+     * Places the given rectangles into pages.
+     *
+     * @param sizes the sizes of the rectangles
+     * @return the placement of every rectangle and the size of every page
+     * @throws IllegalArgumentException if a rectangle does not fit in a page
+     */
+    Packing pack(final List<Size> sizes) {
+        final Integer[] order = new Integer[sizes.size()];
+        Arrays.setAll(order, i -> i);
+        Arrays.sort(order, Comparator.<Integer>comparingInt(i -> sizes.get(i).height())
+                .thenComparingInt(i -> sizes.get(i).width()).reversed());
+
+        final Placement[] placements = new Placement[sizes.size()];
+        final List<Page> pages = new ArrayList<>();
+        for (final int index : order) {
+            final Size size = sizes.get(index);
+            if (size.width() > maxSide || size.height() > maxSide) {
+                throw new IllegalArgumentException("A " + size.width() + "x" + size.height()
+                        + " rectangle does not fit in a page of side " + maxSide);
+            }
+            Placement placement = null;
+            for (int p = 0; p < pages.size() && placement == null; p++) {
+                placement = place(pages.get(p), p, size);
+            }
+            if (placement == null) {
+                pages.add(new Page());
+                placement = place(pages.getLast(), pages.size() - 1, size);
+            }
+            placements[index] = placement;
+        }
+        return new Packing(List.of(placements),
+                pages.stream().map(page -> new Size(powerOfTwo(page.usedWidth), powerOfTwo(page.usedHeight))).toList());
+    }
+
+    // Returns null if the page has no room for the rectangle
+    private Placement place(final Page page, final int pageIndex, final Size size) {
+        final boolean fitsInRow = page.cursorX + size.width() <= maxSide
+                && (page.cursorX == 0 || size.height() <= page.rowHeight)
+                && page.rowY + size.height() <= maxSide;
+        if (!fitsInRow) {
+            final int nextRowY = page.rowY + page.rowHeight + padding;
+            if (page.cursorX == 0 || nextRowY + size.height() > maxSide) {
+                return null;
+            }
+            page.rowY = nextRowY;
+            page.rowHeight = 0;
+            page.cursorX = 0;
+        }
+        final Placement placement = new Placement(pageIndex, page.cursorX, page.rowY);
+        page.cursorX += size.width() + padding;
+        page.rowHeight = Math.max(page.rowHeight, size.height());
+        page.usedWidth = Math.max(page.usedWidth, placement.x() + size.width());
+        page.usedHeight = Math.max(page.usedHeight, placement.y() + size.height());
+        return placement;
+    }
+
+    private static int powerOfTwo(final int value) {
+        return value <= 1 ? 1 : Integer.highestOneBit(value - 1) << 1;
+    }
+}
@@ -0,0 +1,58 @@
+package dev.emberline.core.graphics;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.image.WritableImage;
+
+/**
+ * The {@code AtlasRegion} record identifies a sprite as a rectangle of a shared atlas image,
+ * so that it can be drawn with the source-rect
+ * {@link GraphicsContext#drawImage(Image, double, double, double, double, double, double, double, double)}
+ * without copying its pixels into an image of its own.
+ *
+ * @param atlas  the atlas image containing the sprite
+ * @param x      the X coordinate of the top-left corner of the sprite in the atlas
+ * @param y      the Y coordinate of the top-left corner of the sprite in the atlas
+ * @param width  the width of the sprite in pixels
+ * @param height the height of the sprite in pixels
+ */
+@SuppressFBWarnings(
+        value = {"EI_EXPOSE_REP2", "EI_EXPOSE_REP"},
+        justification = "This is intended behaviour as Image is an immutable container."
+)
+public record AtlasRegion(Image atlas, int x, int y, int width, int height) {
+
+    /**
+     * Creates a region covering the whole given image.
+     *
+     * @param image the image
+     * @return the region covering the whole image
+     */
+    public static AtlasRegion of(final Image image) {
+        return new AtlasRegion(image, 0, 0, (int) image.getWidth(), (int) image.getHeight());
+    }
+
+    /**
+     * Draws the region on the given graphics context, stretched over the given rectangle.
+     *
+     * @param gc     the graphics context to draw on
+     * @param x      the X coordinate of the destination on the canvas
+     * @param y      the Y coordinate of the destination on the canvas
+     * @param width  the width of the destination on the canvas
+     * @param height the height of the destination on the canvas
+     */
+    public void draw(final GraphicsContext gc, final double x, final double y,
+                     final double width, final double height) {
+        gc.drawImage(atlas, this.x, this.y, this.width, this.height, x, y, width, height);
+    }
+
+    /**
+     * Copies the pixels of the region into a new image, for the code that needs an {@link Image} of its own.
+     *
+     * @return a new image with the content of the region
+     */
+    public Image toImage() {
+        return new WritableImage(atlas.getPixelReader(), x, y, width, height);
+    }
+}
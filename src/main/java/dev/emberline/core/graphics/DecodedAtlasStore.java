@@ -0,0 +1,242 @@
+package dev.emberline.core.graphics;
+
+import javafx.scene.image.Image;
+import javafx.scene.image.PixelBuffer;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.WritableImage;
+import net.harawata.appdirs.AppDirs;
+import net.harawata.appdirs.AppDirsFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.ref.SoftReference;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The {@code DecodedAtlasStore} keeps the decoded pixels of the atlases on disk, so that after the first
+ * launch the atlases are memory-mapped instead of being decoded from PNG again.
+ * <p>
+ * Each atlas is stored as a small header followed by its raw premultiplied ARGB pixels, in a file named after
+ * the SHA-256 hash of the PNG resource: changing an atlas changes its hash, so stale files are never read.
+ * Stored atlases are mapped with {@link FileChannel#map} and wrapped in a {@link PixelBuffer}, so their pixels
+ * are neither copied nor decoded. The store lives in a versioned directory next to the saves of the game,
+ * to be bumped whenever the file format changes.
+ * <p>
+ * Single regions of an atlas can also be stored on their own, for the large frames that are only needed
+ * one after the other: once stored, a region is mapped without decoding nor keeping the whole atlas.
+ * <p>
+ * The store is only an optimization: whenever it cannot be read or written the atlas is decoded as usual.
+ */
+final class DecodedAtlasStore {
+    private static final AppDirs APP_DIRS = AppDirsFactory.getInstance();
+    private static final Path STORE_DIR = Path.of(APP_DIRS.getUserDataDir("Emberline", "1.0", null),
+            "atlasCache", "v1");
+    private static final String EXTENSION = ".argb";
+    private static final int MAGIC = 0x454D4252; // "EMBR"
+    // Magic, width and height
+    private static final int HEADER_BYTES = 3 * Integer.BYTES;
+
+    private final Path directory;
+    // Hash of every resource, so that resources are read at most once to find their files
+    private final Map<String, String> hashes = new ConcurrentHashMap<>();
+    // Atlases decoded to store their regions, released once they are all stored or under memory pressure
+    private final Map<String, SoftReference<Image>> decodedForRegions = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a store in the application data directory of the game.
+     */
+    DecodedAtlasStore() {
+        this(STORE_DIR);
+    }
+
+    /**
+     * Creates a store in the given directory, which is created when the first atlas is stored.
+     *
+     * @param directory the directory of the stored atlases
+     */
+    DecodedAtlasStore(final Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Returns the decoded atlas at the given resource path, mapping it from the store if it has already been
+     * decoded, otherwise decoding it and storing its pixels for the next launches.
+     *
+     * @param resourcePath the classpath resource path of the atlas image
+     * @return the decoded atlas image
+     * @throws NullPointerException if the resource does not exist
+     * @throws IllegalStateException if the resource cannot be read
+     */
+    Image load(final String resourcePath) {
+        final byte[] png = readResource(resourcePath);
+        final String hash = hashOf(png);
+        hashes.putIfAbsent(resourcePath, hash);
+        final Path file = directory.resolve(hash + EXTENSION);
+        final Image stored = map(file);
+        if (stored != null) {
+            return stored;
+        }
+        final Image decoded = new Image(new ByteArrayInputStream(png));
+        // On failure the atlas is simply decoded again on the next launch
+        store(decoded, 0, 0, (int) decoded.getWidth(), (int) decoded.getHeight(), file);
+        return decoded;
+    }
+
+    /**
+     * Returns an image of the given region of the atlas at the given resource path, mapping it from the store
+     * if it has already been stored, otherwise decoding the atlas and storing the region for the next requests.
+     * The returned image is not cached, so the caller decides how long to keep it.
+     *
+     * @param resourcePath the classpath resource path of the atlas image
+     * @param x the X coordinate of the top-left corner of the region in the atlas
+     * @param y the Y coordinate of the top-left corner of the region in the atlas
+     * @param width the width of the region in pixels
+     * @param height the height of the region in pixels
+     * @return an image with the content of the region
+     * @throws NullPointerException if the resource does not exist
+     * @throws IllegalStateException if the resource cannot be read
+     */
+    Image loadRegion(final String resourcePath, final int x, final int y, final int width, final int height) {
+        final Path file = regionFile(resourcePath, x, y, width, height);
+        final Image stored = map(file);
+        if (stored != null) {
+            return stored;
+        }
+        final Image atlas = decodeForRegions(resourcePath);
+        store(atlas, x, y, width, height, file);
+        final Image mapped = map(file);
+        return mapped == null ? new WritableImage(atlas.getPixelReader(), x, y, width, height) : mapped;
+    }
+
+    /**
+     * Stores the given region of the atlas at the given resource path for the next requests, unless it has
+     * already been stored. The decoded atlas is kept for the other regions until it is
+     * {@link #releaseDecoded(String) released}.
+     *
+     * @param resourcePath the classpath resource path of the atlas image
+     * @param x the X coordinate of the top-left corner of the region in the atlas
+     * @param y the Y coordinate of the top-left corner of the region in the atlas
+     * @param width the width of the region in pixels
+     * @param height the height of the region in pixels
+     * @return whether the region is stored
+     * @throws NullPointerException if the resource does not exist
+     * @throws IllegalStateException if the resource cannot be read
+     */
+    boolean storeRegion(final String resourcePath, final int x, final int y, final int width, final int height) {
+        final Path file = regionFile(resourcePath, x, y, width, height);
+        return Files.isRegularFile(file) || store(decodeForRegions(resourcePath), x, y, width, height, file);
+    }
+
+    /**
+     * Releases the atlas at the given resource path decoded to store its regions, once they have all been stored.
+     *
+     * @param resourcePath the classpath resource path of the atlas image
+     */
+    void releaseDecoded(final String resourcePath) {
+        decodedForRegions.remove(resourcePath);
+    }
+
+    private Path regionFile(final String resourcePath, final int x, final int y, final int width, final int height) {
+        final String hash = hashes.computeIfAbsent(resourcePath, path -> hashOf(readResource(path)));
+        return directory.resolve(hash + "-" + x + "-" + y + "-" + width + "-" + height + EXTENSION);
+    }
+
+    // Decodes the atlas at most once while its regions are being stored, even by concurrent requests
+    private Image decodeForRegions(final String resourcePath) {
+        synchronized (decodedForRegions) {
+            final SoftReference<Image> reference = decodedForRegions.get(resourcePath);
+            Image atlas = reference == null ? null : reference.get();
+            if (atlas == null) {
+                atlas = new Image(new ByteArrayInputStream(readResource(resourcePath)));
+                decodedForRegions.put(resourcePath, new SoftReference<>(atlas));
+            }
+            return atlas;
+        }
+    }
+
+    // Returns null if the atlas is not stored or the file is not valid
+    private static Image map(final Path file) {
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        // The mapping stays valid after the channel is closed; PRIVATE keeps the file untouched
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            final MappedByteBuffer mapped = channel.map(FileChannel.MapMode.PRIVATE, 0, channel.size());
+            mapped.order(ByteOrder.nativeOrder());
+            if (mapped.remaining() < HEADER_BYTES || mapped.getInt() != MAGIC) {
+                return null;
+            }
+            final int width = mapped.getInt();
+            final int height = mapped.getInt();
+            if (width <= 0 || height <= 0 || mapped.remaining() != (long) width * height * Integer.BYTES) {
+                return null;
+            }
+            final IntBuffer pixels = mapped.slice().order(ByteOrder.nativeOrder()).asIntBuffer();
+            return new WritableImage(new PixelBuffer<>(width, height, pixels, PixelFormat.getIntArgbPreInstance()));
+        } catch (IOException | IllegalArgumentException | UnsupportedOperationException e) {
+            return null;
+        }
+    }
+
+    // Returns whether the region of the atlas has been stored
+    private boolean store(final Image image, final int x, final int y, final int width, final int height,
+                          final Path file) {
+        if (image.isError()) {
+            return false;
+        }
+        final ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + width * height * Integer.BYTES)
+                .order(ByteOrder.nativeOrder());
+        buffer.putInt(MAGIC).putInt(width).putInt(height);
+        final int[] pixels = new int[width * height];
+        image.getPixelReader().getPixels(x, y, width, height, PixelFormat.getIntArgbPreInstance(), pixels, 0, width);
+        buffer.asIntBuffer().put(pixels);
+        try {
+            Files.createDirectories(directory);
+            // Written aside and moved in place, so that a partially written file is never mapped
+            final Path partial = Files.createTempFile(directory, null, EXTENSION + ".tmp");
+            try {
+                Files.write(partial, buffer.array());
+                Files.move(partial, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(partial);
+            }
+            return true;
+        } catch (IOException | UnsupportedOperationException e) {
+            // The atlas is decoded again on the next launch
+            return false;
+        }
+    }
+
+    private static byte[] readResource(final String resourcePath) {
+        try (InputStream stream = Objects.requireNonNull(
+                DecodedAtlasStore.class.getResourceAsStream(resourcePath), "Missing atlas: " + resourcePath)) {
+            return stream.readAllBytes();
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot read atlas: " + resourcePath, e);
+        }
+    }
+
+    private static String hashOf(final byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package dev.emberline.core.graphics;
+
+import javafx.geometry.Bounds;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.effect.Effect;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import javafx.scene.paint.Color;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.BiFunction;
+
+/**
+ * The {@code EffectBaker} applies an {@link Effect} to a sprite once and keeps the result, so that sprites always
+ * drawn with the same effect, like the tower crystals with their bloom or the text tinted with a
+ * {@link javafx.scene.effect.ColorAdjust}, are drawn with a plain
+ * {@link GraphicsContext#drawImage(Image, double, double, double, double, double, double, double, double)}
+ * instead of going through the effect pipeline on every frame.
+ * <p>
+ * Effects are identified by their instance, so only constant effects that are never modified should be baked.
+ * Effects whose parameters change continuously, like an animated glow, must still be applied live with
+ * {@link GraphicsContext#setEffect(Effect)}. The effect is applied at the resolution of the region, before it is
+ * scaled to the screen, which is indistinguishable for per-pixel effects and close enough for bloom.
+ * <p>
+ * Effects that spread beyond the sprite, like a bloom or a shadow, are baked into an image padded by the bounds
+ * of the effect, so that the baked sprite is not clipped, and the padding is accounted for when it is drawn.
+ * <p>
+ * Baking takes a snapshot, so the shared baker must only be used on the JavaFX Application thread,
+ * typically while the render commands are played back.
+ */
+public final class EffectBaker {
+    private static final EffectBaker SHARED = new EffectBaker(EffectBaker::snapshot);
+
+    private final BiFunction<AtlasRegion, Effect, BakedRegion> painter;
+    private final Map<Effect, Map<AtlasRegion, BakedRegion>> baked = new IdentityHashMap<>();
+
+    /**
+     * A region drawn with an effect, which may be larger than the original region when the effect spreads
+     * beyond it.
+     *
+     * @param region the region of the baked image, padded by the bounds of the effect
+     * @param offsetX the padding on the left of the original region, in pixels of the region
+     * @param offsetY the padding above the original region, in pixels of the region
+     * @param sourceWidth the width of the original region
+     * @param sourceHeight the height of the original region
+     */
+    public record BakedRegion(AtlasRegion region, int offsetX, int offsetY, int sourceWidth, int sourceHeight) {
+
+        /**
+         * Draws the baked region where the original region would be drawn stretched over the given rectangle,
+         * with its padding around the rectangle.
+         *
+         * @param gc the graphics context to draw on
+         * @param x the X coordinate of the original region on the canvas
+         * @param y the Y coordinate of the original region on the canvas
+         * @param width the width of the original region on the canvas
+         * @param height the height of the original region on the canvas
+         */
+        public void draw(final GraphicsContext gc, final double x, final double y,
+                         final double width, final double height) {
+            final double scaleX = width / sourceWidth;
+            final double scaleY = height / sourceHeight;
+            region.draw(gc, x - offsetX * scaleX, y - offsetY * scaleY,
+                    region.width() * scaleX, region.height() * scaleY);
+        }
+    }
+
+    /**
+     * Creates an empty baker.
+     *
+     * @param painter the routine returning the given region drawn with the given effect
+     */
+    EffectBaker(final BiFunction<AtlasRegion, Effect, BakedRegion> painter) {
+        this.painter = painter;
+    }
+
+    /**
+     * Returns the given region drawn with the given effect, baking it on the first request.
+     * Must be called on the JavaFX Application thread.
+     *
+     * @param region the region to draw
+     * @param effect the constant effect to apply to the region
+     * @return the region with the effect already applied, padded if the effect spreads beyond the region
+     */
+    public static BakedRegion bake(final AtlasRegion region, final Effect effect) {
+        return SHARED.get(region, effect);
+    }
+
+    /**
+     * Returns the given region drawn with the given effect, baking it on the first request.
+     *
+     * @param region the region to draw
+     * @param effect the constant effect to apply to the region
+     * @return the region with the effect already applied
+     */
+    BakedRegion get(final AtlasRegion region, final Effect effect) {
+        return baked.computeIfAbsent(effect, e -> new HashMap<>())
+                .computeIfAbsent(region, r -> painter.apply(r, effect));
+    }
+
+    /**
+     * Returns the number of baked regions.
+     *
+     * @return the number of baked regions
+     */
+    int size() {
+        return baked.values().stream().mapToInt(Map::size).sum();
+    }
+
+    // The bounds of a node include its effect, so the snapshot is taken over the whole area it spreads to
+    private static BakedRegion snapshot(final AtlasRegion region, final Effect effect) {
+        final ImageView view = new ImageView(region.atlas());
+        view.setViewport(new Rectangle2D(region.x(), region.y(), region.width(), region.height()));
+        view.setEffect(effect);
+        final Bounds bounds = view.getBoundsInLocal();
+        final int minX = (int) Math.floor(bounds.getMinX());
+        final int minY = (int) Math.floor(bounds.getMinY());
+        final int maxX = (int) Math.ceil(bounds.getMaxX());
+        final int maxY = (int) Math.ceil(bounds.getMaxY());
+
+        final SnapshotParameters parameters = new SnapshotParameters();
+        parameters.setFill(Color.TRANSPARENT);
+        parameters.setViewport(new Rectangle2D(minX, minY, maxX - minX, maxY - minY));
+        final Image image = view.snapshot(parameters, null);
+        return new BakedRegion(AtlasRegion.of(image), -minX, -minY, region.width(), region.height());
+    }
+}
@@ -0,0 +1,215 @@
+package dev.emberline.core.graphics;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import dev.emberline.core.config.ConfigLoader;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.effect.Effect;
+import javafx.scene.image.Image;
+import javafx.scene.image.PixelReader;
+
+import java.util.Arrays;
+
+/**
+ * The {@code GlyphAtlas} draws text straight from the bitmap font atlas, with one source-rect
+ * {@link GraphicsContext#drawImage(Image, double, double, double, double, double, double, double, double)}
+ * call for each character, so that no image has to be built for the strings being shown.
+ * <p>
+ * The atlas is a grid of equally sized cells described by {@code /font/font.json}. When the atlas is loaded
+ * the transparent columns on both sides of every glyph are trimmed once, and the resulting source rectangles
+ * are kept as the metrics of the font: a glyph advances the pen by its width plus one pixel of spacing.
+ * The space character is half a cell wide, while characters missing from the atlas or fully transparent
+ * are drawn as a space.
+ * <p>
+ * All the measures are in atlas pixels. Drawing is done on the JavaFX Application thread, while measuring
+ * can be done from any thread.
+ */
+public final class GlyphAtlas {
+    private static final Metadata METADATA = ConfigLoader.loadConfig("/font/font.json", Metadata.class);
+    private static final int GLYPH_SPACING = 1;
+
+    private static final Image ATLAS = AtlasCache.getAtlas(METADATA.filename);
+    private static final AtlasRegion ATLAS_REGION = AtlasRegion.of(ATLAS);
+    private static final int GLYPH_HEIGHT = METADATA.atlasHeight / METADATA.rows;
+    // Characters of the atlas in ascending order, and the source rectangle of each of them
+    private static final char[] CHARS;
+    private static final int[] GLYPH_X;
+    private static final int[] GLYPH_Y;
+    private static final int[] GLYPH_WIDTH;
+    private static final int SPACE;
+
+    private record Metadata(@JsonProperty String filename,
+                            @JsonProperty int atlasHeight, @JsonProperty int atlasWidth,
+                            @JsonProperty int rows, @JsonProperty int columns,
+                            @JsonProperty String charOrder) {
+    }
+
+    static {
+        final String charOrder = METADATA.charOrder;
+        CHARS = charOrder.toCharArray();
+        Arrays.sort(CHARS);
+        GLYPH_X = new int[CHARS.length];
+        GLYPH_Y = new int[CHARS.length];
+        GLYPH_WIDTH = new int[CHARS.length];
+
+        final int cellWidth = METADATA.atlasWidth / METADATA.columns;
+        final PixelReader reader = ATLAS.getPixelReader();
+        for (int i = 0; i < CHARS.length; i++) {
+            final int charIndex = charOrder.indexOf(CHARS[i]);
+            final int cellX = charIndex % METADATA.columns * cellWidth;
+            final int cellY = charIndex / METADATA.columns * GLYPH_HEIGHT;
+            GLYPH_Y[i] = cellY;
+            if (CHARS[i] == ' ') {
+                GLYPH_X[i] = cellX;
+                GLYPH_WIDTH[i] = cellWidth / 2;
+                continue;
+            }
+            // Trim the columns of only transparent pixels on both sides
+            int left = cellX;
+            while (left < cellX + cellWidth && isColumnTransparent(reader, left, cellY)) {
+                left++;
+            }
+            int right = cellX + cellWidth;
+            while (right > left && isColumnTransparent(reader, right - 1, cellY)) {
+                right--;
+            }
+            GLYPH_X[i] = left;
+            // Fully transparent glyphs are marked to be drawn as a space
+            GLYPH_WIDTH[i] = right - left;
+        }
+        SPACE = Arrays.binarySearch(CHARS, ' ');
+    }
+
+    private GlyphAtlas() {
+    }
+
+    /**
+     * Returns the image of the font atlas, which the glyphs are drawn from.
+     *
+     * @return the font atlas
+     */
+    @SuppressFBWarnings(
+            value = "MS_EXPOSE_REP",
+            justification = "This is intended behaviour as Image is an immutable container."
+    )
+    public static Image getAtlas() {
+        return ATLAS;
+    }
+
+    /**
+     * Returns the height of every glyph, which is the height of the text.
+     *
+     * @return the height of the text in atlas pixels
+     */
+    public static int getTextHeight() {
+        return GLYPH_HEIGHT;
+    }
+
+    /**
+     * Returns the width of the given text, including one pixel of spacing after each character.
+     *
+     * @param text the text to measure
+     * @return the width of the text in atlas pixels
+     */
+    public static int getTextWidth(final CharSequence text) {
+        int width = 0;
+        for (int i = 0; i < text.length(); i++) {
+            width += GLYPH_WIDTH[glyphOf(text.charAt(i))] + GLYPH_SPACING;
+        }
+        return width;
+    }
+
+    /**
+     * Returns the x coordinate in the atlas of the glyph of the given character.
+     *
+     * @param c the character
+     * @return the x coordinate of the glyph in atlas pixels
+     */
+    public static int getGlyphX(final char c) {
+        return GLYPH_X[glyphOf(c)];
+    }
+
+    /**
+     * Returns the y coordinate in the atlas of the glyph of the given character.
+     *
+     * @param c the character
+     * @return the y coordinate of the glyph in atlas pixels
+     */
+    public static int getGlyphY(final char c) {
+        return GLYPH_Y[glyphOf(c)];
+    }
+
+    /**
+     * Returns the width of the glyph of the given character, without spacing.
+     *
+     * @param c the character
+     * @return the width of the glyph in atlas pixels
+     */
+    public static int getGlyphWidth(final char c) {
+        return GLYPH_WIDTH[glyphOf(c)];
+    }
+
+    /**
+     * Draws the given text stretched over the given rectangle, which is in screen coordinates.
+     * The rectangle covers {@link #getTextWidth(CharSequence)} by {@link #getTextHeight()} atlas pixels.
+     *
+     * @param gc the graphics context to draw on
+     * @param text the text to draw
+     * @param x the X coordinate of the top-left corner of the text on the screen
+     * @param y the Y coordinate of the top-left corner of the text on the screen
+     * @param width the width of the text on the screen
+     * @param height the height of the text on the screen
+     */
+    public static void drawText(final GraphicsContext gc, final CharSequence text,
+                                final double x, final double y, final double width, final double height) {
+        drawText(gc, text, x, y, width, height, null);
+    }
+
+    /**
+     * Draws the given text stretched over the given rectangle, which is in screen coordinates, with the given
+     * constant effect applied to every glyph. The effect is baked into a copy of the atlas by the
+     * {@link EffectBaker}, so it must be a per-pixel effect like a {@link javafx.scene.effect.ColorAdjust},
+     * which does not depend on the neighbouring glyphs.
+     *
+     * @param gc the graphics context to draw on
+     * @param text the text to draw
+     * @param x the X coordinate of the top-left corner of the text on the screen
+     * @param y the Y coordinate of the top-left corner of the text on the screen
+     * @param width the width of the text on the screen
+     * @param height the height of the text on the screen
+     * @param effect the effect applied to the glyphs, or {@code null} to draw them as they are
+     */
+    public static void drawText(final GraphicsContext gc, final CharSequence text,
+                                final double x, final double y, final double width, final double height,
+                                final Effect effect) {
+        final int textWidth = getTextWidth(text);
+        if (textWidth == 0) {
+            return;
+        }
+        // Per-pixel effects are not padded, so the baked atlas has the same layout as the original one
+        final Image atlas = effect == null ? ATLAS : EffectBaker.bake(ATLAS_REGION, effect).region().atlas();
+        final double scale = width / textWidth;
+        int pen = 0;
+        for (int i = 0; i < text.length(); i++) {
+            final int glyph = glyphOf(text.charAt(i));
+            final int glyphWidth = GLYPH_WIDTH[glyph];
+            gc.drawImage(atlas, GLYPH_X[glyph], GLYPH_Y[glyph], glyphWidth, GLYPH_HEIGHT,
+                    x + pen * scale, y, glyphWidth * scale, height);
+            pen += glyphWidth + GLYPH_SPACING;
+        }
+    }
+
+    private static int glyphOf(final char c) {
+        final int glyph = Arrays.binarySearch(CHARS, c);
+        return glyph < 0 || GLYPH_WIDTH[glyph] == 0 ? SPACE : glyph;
+    }
+
+    private static boolean isColumnTransparent(final PixelReader reader, final int x, final int y) {
+        for (int j = y; j < y + GLYPH_HEIGHT; j++) {
+            if (reader.getArgb(x, j) >>> 24 != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,254 @@
+package dev.emberline.core.graphics;
+
+import dev.emberline.core.graphics.spritekeys.SpriteKey;
+import javafx.scene.image.Image;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * The {@code PackedSprites} class resolves sprite keys from the atlases packed at build time by the
+ * {@link SpritePacker}, so that a sprite is built with a single table lookup, without parsing the JSON
+ * metadata of its factory nor decoding its original atlas.
+ * <p>
+ * The packed atlases are power-of-two PNG pages described by a binary manifest, which lists for every
+ * sprite key the kind of sprite and the rectangles of its frames in the pages. The manifest format is
+ * versioned, a manifest that cannot be read is ignored and the sprites are loaded by their factories as usual.
+ */
+final class PackedSprites {
+    /**
+     * The classpath directory of the packed atlases and of their manifest.
+     */
+    static final String RESOURCE_DIR = "/packed";
+    /**
+     * The file name of the manifest.
+     */
+    static final String MANIFEST_NAME = "sprites.manifest";
+
+    private static final int MAGIC = 0x454D4253; // "EMBS"
+    private static final int VERSION = 1;
+    private static final ObjectInputFilter KEY_FILTER = ObjectInputFilter.Config.createFilter(
+            "dev.emberline.core.graphics.spritekeys.*;dev.emberline.game.**;java.lang.Enum;!*");
+
+    private final List<String> pages;
+    private final Map<SpriteKey, Entry> entries;
+    private final Function<String, Image> pageLoader;
+
+    /**
+     * The kind of sprite built from an entry.
+     */
+    enum Kind {
+        /**
+         * A {@link SingleSprite}, with an image of its own.
+         */
+        SINGLE,
+        /**
+         * A {@link RegionSprite}.
+         */
+        REGION,
+        /**
+         * An {@link AnimatedSprite}.
+         */
+        ANIMATED,
+        /**
+         * A {@link RotatedAnimatedSprite}, whose rotated cells are packed as well.
+         */
+        ROTATED
+    }
+
+    /**
+     * A rectangle of a packed page.
+     *
+     * @param page the index of the page
+     * @param x the X coordinate of the top-left corner of the rectangle in the page
+     * @param y the Y coordinate of the top-left corner of the rectangle in the page
+     * @param width the width of the rectangle
+     * @param height the height of the rectangle
+     */
+    record Rect(int page, int x, int y, int width, int height) {
+    }
+
+    /**
+     * The packed layout of a sprite.
+     *
+     * @param kind the kind of sprite
+     * @param frameTimeNs the duration of every frame in nanoseconds, for the animated kinds
+     * @param rotationSteps the number of rotation steps, for the rotated kind
+     * @param frames the rectangles of the frames
+     * @param rotated the rectangles of the rotated cells, for the rotated kind
+     */
+    record Entry(Kind kind, int frameTimeNs, int rotationSteps, List<Rect> frames, List<Rect> rotated) {
+        Entry {
+            frames = List.copyOf(frames);
+            rotated = List.copyOf(rotated);
+        }
+    }
+
+    /**
+     * Creates the packed sprites described by the given pages and entries.
+     *
+     * @param pages the file names of the pages, relative to {@value RESOURCE_DIR}
+     * @param entries the packed layout of every sprite
+     * @param pageLoader the routine loading a page from its classpath resource path
+     */
+    PackedSprites(final List<String> pages, final Map<SpriteKey, Entry> entries,
+                  final Function<String, Image> pageLoader) {
+        this.pages = List.copyOf(pages);
+        this.entries = Map.copyOf(entries);
+        this.pageLoader = pageLoader;
+    }
+
+    /**
+     * Loads the packed sprites from the manifest on the classpath, whose pages are loaded by the {@link AtlasCache}.
+     *
+     * @return the packed sprites, without any sprite if the atlases have not been packed
+     */
+    static PackedSprites load() {
+        try (InputStream stream = PackedSprites.class.getResourceAsStream(RESOURCE_DIR + "/" + MANIFEST_NAME)) {
+            if (stream != null) {
+                return read(stream, AtlasCache::getAtlas);
+            }
+        } catch (IOException | IllegalStateException e) {
+            // The sprites are then loaded by their factories
+        }
+        return new PackedSprites(List.of(), Map.of(), AtlasCache::getAtlas);
+    }
+
+    /**
+     * Returns the sprite of the given key, built from the packed pages.
+     *
+     * @param key the key of the sprite
+     * @return the sprite, or {@code null} if the key has not been packed
+     */
+    Sprite loadSprite(final SpriteKey key) {
+        final Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        final AtlasRegion[] frames = regions(entry.frames());
+        return switch (entry.kind()) {
+            case SINGLE -> new SingleSprite(frames[0].toImage());
+            case REGION -> new RegionSprite(frames[0]);
+            case ANIMATED -> new AnimatedSprite(frames, key, entry.frameTimeNs());
+            case ROTATED -> new RotatedAnimatedSprite(frames, regions(entry.rotated()),
+                    entry.rotationSteps(), key, entry.frameTimeNs());
+        };
+    }
+
+    /**
+     * Returns the number of packed sprites.
+     *
+     * @return the number of packed sprites
+     */
+    int size() {
+        return entries.size();
+    }
+
+    private AtlasRegion[] regions(final List<Rect> rects) {
+        final AtlasRegion[] regions = new AtlasRegion[rects.size()];
+        for (int i = 0; i < regions.length; i++) {
+            final Rect rect = rects.get(i);
+            final Image page = pageLoader.apply(RESOURCE_DIR + "/" + pages.get(rect.page()));
+            regions[i] = new AtlasRegion(page, rect.x(), rect.y(), rect.width(), rect.height());
+        }
+        return regions;
+    }
+
+    /**
+     * Writes a manifest.
+     *
+     * @param stream the stream to write the manifest to, which is not closed
+     * @param pages the file names of the pages, relative to {@value RESOURCE_DIR}
+     * @param entries the packed layout of every sprite
+     * @throws IOException if the manifest cannot be written
+     */
+    static void write(final OutputStream stream, final List<String> pages,
+                      final Map<SpriteKey, Entry> entries) throws IOException {
+        final ObjectOutputStream out = new ObjectOutputStream(stream);
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeInt(pages.size());
+        for (final String page : pages) {
+            out.writeUTF(page);
+        }
+        out.writeInt(entries.size());
+        for (final Map.Entry<SpriteKey, Entry> entry : entries.entrySet()) {
+            // Keys are records and enums, written with the serialization the saves already rely on
+            out.writeObject(entry.getKey());
+            out.writeByte(entry.getValue().kind().ordinal());
+            out.writeInt(entry.getValue().frameTimeNs());
+            out.writeInt(entry.getValue().rotationSteps());
+            writeRects(out, entry.getValue().frames());
+            writeRects(out, entry.getValue().rotated());
+        }
+        out.flush();
+    }
+
+    /**
+     * Reads a manifest.
+     *
+     * @param stream the stream to read the manifest from, which is not closed
+     * @param pageLoader the routine loading a page from its classpath resource path
+     * @return the packed sprites described by the manifest
+     * @throws IOException if the manifest cannot be read
+     * @throws IllegalStateException if the manifest is not valid or has another version
+     */
+    static PackedSprites read(final InputStream stream, final Function<String, Image> pageLoader) throws IOException {
+        final ObjectInputStream in = new ObjectInputStream(stream);
+        in.setObjectInputFilter(KEY_FILTER);
+        if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+            throw new IllegalStateException("Not a sprite manifest of version " + VERSION);
+        }
+        final int pageCount = in.readInt();
+        final List<String> pages = new ArrayList<>(pageCount);
+        for (int i = 0; i < pageCount; i++) {
+            pages.add(in.readUTF());
+        }
+        final int entryCount = in.readInt();
+        final Map<SpriteKey, Entry> entries = new HashMap<>();
+        final Kind[] kinds = Kind.values();
+        try {
+            for (int i = 0; i < entryCount; i++) {
+                final SpriteKey key = (SpriteKey) in.readObject();
+                final Kind kind = kinds[in.readByte()];
+                final int frameTimeNs = in.readInt();
+                final int rotationSteps = in.readInt();
+                entries.put(key, new Entry(kind, frameTimeNs, rotationSteps, readRects(in), readRects(in)));
+            }
+        } catch (ClassNotFoundException | ClassCastException | ArrayIndexOutOfBoundsException e) {
+            throw new IllegalStateException("Invalid sprite manifest", e);
+        }
+        return new PackedSprites(pages, entries, pageLoader);
+    }
+
+    private static void writeRects(final ObjectOutputStream out, final List<Rect> rects) throws IOException {
+        out.writeInt(rects.size());
+        for (final Rect rect : rects) {
+            // Pages are at most 2048 pixels wide, every value fits in a short
+            out.writeShort(rect.page());
+            out.writeShort(rect.x());
+            out.writeShort(rect.y());
+            out.writeShort(rect.width());
+            out.writeShort(rect.height());
+        }
+    }
+
+    private static List<Rect> readRects(final ObjectInputStream in) throws IOException {
+        final int count = in.readInt();
+        final List<Rect> rects = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            rects.add(new Rect(in.readUnsignedShort(), in.readUnsignedShort(), in.readUnsignedShort(),
+                    in.readUnsignedShort(), in.readUnsignedShort()));
+        }
+        return rects;
+    }
+}
@@ -0,0 +1,47 @@
+package dev.emberline.core.graphics;
+
+import javafx.scene.image.Image;
+
+/**
+ * A static sprite backed by a rectangle of a shared atlas, see {@link AtlasRegion}.
+ * <p>
+ * The sprite is meant to be drawn through its {@link #region()}. An image of its own is only built,
+ * once, if {@link #image()} is called.
+ */
+public final class RegionSprite implements Sprite {
+    private final AtlasRegion region;
+    private volatile Image image;
+
+    /**
+     * Creates a sprite from the given atlas region.
+     *
+     * @param region the region of the atlas holding the sprite
+     */
+    public RegionSprite(final AtlasRegion region) {
+        this.region = region;
+    }
+
+    /**
+     * Returns the region of the atlas holding the sprite.
+     *
+     * @return the atlas region of the sprite
+     */
+    public AtlasRegion region() {
+        return region;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The pixels of the region are copied into a new image on the first call.
+     */
+    @Override
+    public Image image() {
+        Image result = image;
+        if (result == null) {
+            result = region.toImage();
+            image = result;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,169 @@
+package dev.emberline.core.graphics;
+
+import dev.emberline.core.graphics.spritekeys.SpriteKey;
+import javafx.scene.image.PixelReader;
+import javafx.scene.image.PixelWriter;
+import javafx.scene.image.WritableImage;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.Serial;
+import java.util.Arrays;
+
+/**
+ * An {@link AnimatedSprite} whose frames are also available already rotated, in a fixed number of evenly spaced
+ * rotation steps, so that a rotating sprite is drawn with a plain
+ * {@link javafx.scene.canvas.GraphicsContext#drawImage} instead of changing the transform of the canvas.
+ * <p>
+ * Every rotated frame is a square cell, large enough to hold the frame at any angle, centered on the center
+ * of the frame; drawing a cell therefore takes {@link #getRotatedScale()} times the size of the frame.
+ * The pixels are rotated with nearest-neighbour sampling, which keeps the pixel art crisp.
+ * More steps give smoother rotations at the cost of memory: each step takes a cell for every frame.
+ * <p>
+ * Rotations are clockwise in degrees, like {@link javafx.scene.canvas.GraphicsContext#rotate(double)}.
+ * Frames are assumed to be drawn with the same scale on both axes.
+ */
+public class RotatedAnimatedSprite extends AnimatedSprite {
+    @Serial
+    private static final long serialVersionUID = 4250763152498851043L;
+    private static final double FULL_TURN = 360;
+
+    // Cell of frame f at step s is at index f * rotationSteps + s
+    private transient AtlasRegion[] rotatedFrames;
+    private final int rotationSteps;
+
+    /**
+     * Constructs a {@code RotatedAnimatedSprite} from the given frames and their rotated cells.
+     *
+     * @param frames        the unrotated frames of the animation
+     * @param rotatedFrames the rotated cells of the frames, as returned by {@link #rotateFrames(AtlasRegion[], int)}
+     * @param rotationSteps the number of rotation steps of every frame
+     * @param spriteKey     the sprite key associated with this animated sprite
+     * @param frameTimeNs   the duration in nanoseconds each frame is displayed
+     * @throws IllegalArgumentException if the number of rotated cells does not match the frames and steps
+     */
+    public RotatedAnimatedSprite(final AtlasRegion[] frames, final AtlasRegion[] rotatedFrames,
+                                 final int rotationSteps, final SpriteKey spriteKey, final int frameTimeNs) {
+        super(frames, spriteKey, frameTimeNs);
+        if (rotationSteps <= 0 || rotatedFrames.length != frames.length * rotationSteps) {
+            throw new IllegalArgumentException("There must be " + rotationSteps + " rotated cells for every frame");
+        }
+        this.rotatedFrames = Arrays.copyOf(rotatedFrames, rotatedFrames.length);
+        this.rotationSteps = rotationSteps;
+    }
+
+    /**
+     * Rotates every given frame in the given number of evenly spaced steps, starting from no rotation,
+     * into the cells of a new atlas.
+     *
+     * @param frames        the frames to rotate, all of the same size
+     * @param rotationSteps the number of rotation steps
+     * @return the rotated cells, the one of frame {@code f} at step {@code s} at index {@code f * rotationSteps + s}
+     * @throws IllegalArgumentException if there are no frames or no steps
+     */
+    public static AtlasRegion[] rotateFrames(final AtlasRegion[] frames, final int rotationSteps) {
+        if (frames.length == 0 || rotationSteps <= 0) {
+            throw new IllegalArgumentException("There must be at least a frame and a rotation step");
+        }
+        final int width = frames[0].width();
+        final int height = frames[0].height();
+        final int side = cellSide(width, height);
+        final WritableImage atlas = new WritableImage(side * rotationSteps, side * frames.length);
+        final PixelWriter writer = atlas.getPixelWriter();
+        final AtlasRegion[] rotated = new AtlasRegion[frames.length * rotationSteps];
+        for (int step = 0; step < rotationSteps; step++) {
+            final double angle = Math.toRadians(FULL_TURN * step / rotationSteps);
+            final double cos = Math.cos(angle);
+            final double sin = Math.sin(angle);
+            for (int f = 0; f < frames.length; f++) {
+                final AtlasRegion frame = frames[f];
+                final PixelReader reader = frame.atlas().getPixelReader();
+                final int cellX = step * side;
+                final int cellY = f * side;
+                for (int dy = 0; dy < side; dy++) {
+                    for (int dx = 0; dx < side; dx++) {
+                        // Inverse rotation of the center of the pixel around the center of the cell
+                        final double rx = dx + 0.5 - side / 2.0;
+                        final double ry = dy + 0.5 - side / 2.0;
+                        final int sx = (int) Math.floor(cos * rx + sin * ry + width / 2.0);
+                        final int sy = (int) Math.floor(-sin * rx + cos * ry + height / 2.0);
+                        if (sx >= 0 && sx < width && sy >= 0 && sy < height) {
+                            writer.setArgb(cellX + dx, cellY + dy, reader.getArgb(frame.x() + sx, frame.y() + sy));
+                        }
+                    }
+                }
+                rotated[f * rotationSteps + step] = new AtlasRegion(atlas, cellX, cellY, side, side);
+            }
+        }
+        return rotated;
+    }
+
+    /**
+     * Returns the given frame rotated by the step closest to the given rotation.
+     *
+     * @param frameIndex the index of the frame
+     * @param rotation   the clockwise rotation in degrees, any value is accepted
+     * @return the rotated cell of the frame
+     * @throws ArrayIndexOutOfBoundsException if the provided frameIndex is out of bounds
+     */
+    public AtlasRegion region(final int frameIndex, final double rotation) {
+        if (frameIndex < 0 || frameIndex >= getFrameCount()) {
+            throw new ArrayIndexOutOfBoundsException(frameIndex);
+        }
+        final int step = Math.floorMod(Math.round(rotation / FULL_TURN * rotationSteps), rotationSteps);
+        return rotatedFrames[frameIndex * rotationSteps + step];
+    }
+
+    /**
+     * Returns the ratio between the width of a rotated cell and the width of a frame, which is the scale
+     * a cell has to be drawn with for the frame to keep its size.
+     *
+     * @return the scale of the rotated cells relative to the frames
+     */
+    public double getRotatedScale() {
+        return (double) rotatedFrames[0].width() / region(0).width();
+    }
+
+    /**
+     * Returns the number of rotation steps of every frame.
+     *
+     * @return the number of rotation steps
+     */
+    public int getRotationSteps() {
+        return rotationSteps;
+    }
+
+    /**
+     * Returns the number of rotated cells, which is the number of frames times the number of steps.
+     *
+     * @return the number of rotated cells
+     */
+    int getRotatedFrameCount() {
+        return rotatedFrames.length;
+    }
+
+    /**
+     * Returns the rotated cell at the given index.
+     *
+     * @param index the index of the cell
+     * @return the rotated cell
+     */
+    AtlasRegion rotatedRegion(final int index) {
+        return rotatedFrames[index];
+    }
+
+    // The smallest side holding the frame at any angle, with the parity of the width so the frame stays centered
+    private static int cellSide(final int width, final int height) {
+        final int side = (int) Math.ceil(Math.hypot(width, height));
+        return (side - width) % 2 == 0 ? side : side + 1;
+    }
+
+    @Serial
+    private void readObject(final ObjectInputStream e) throws IOException, ClassNotFoundException {
+        e.defaultReadObject();
+
+        final RotatedAnimatedSprite sprite = (RotatedAnimatedSprite) SpriteLoader.loadSpriteAfterSerialization(getKey());
+
+        rotatedFrames = Arrays.copyOf(sprite.rotatedFrames, sprite.rotatedFrames.length);
+    }
+}
@@ -0,0 +1,137 @@
+package dev.emberline.core.graphics;
+
+import dev.emberline.core.graphics.spritekeys.SpriteKey;
+import javafx.scene.image.Image;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A thread-safe cache of {@link Sprite} objects, bounded by the memory taken by their pixels.
+ * <p>
+ * Sprites are either pinned or evictable. Pinned sprites, like the ones cut from the game atlases,
+ * are a bounded set and are never evicted. Evictable sprites, like the ones rendered from arbitrary
+ * strings, are kept in least recently used order and the oldest ones are evicted as soon as their total
+ * size exceeds the budget of the cache. A sprite still referenced elsewhere stays valid after being
+ * evicted, it is just built again the next time it is requested.
+ * <p>
+ * The size of a sprite is estimated as 4 bytes per pixel of each of its frames, even for the frames
+ * that share the pixels of an atlas.
+ */
+final class SpriteCache {
+    private static final int BYTES_PER_PIXEL = 4;
+
+    private final long evictableBudgetBytes;
+    private final Map<SpriteKey, Entry> pinned = new HashMap<>();
+    // Iterated from the least to the most recently used
+    private final LinkedHashMap<SpriteKey, Entry> evictable = new LinkedHashMap<>(16, 0.75f, true);
+    private long pinnedBytes;
+    private long evictableBytes;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    /**
+     * Creates an empty cache.
+     *
+     * @param evictableBudgetBytes the maximum size in bytes of the evictable sprites
+     */
+    SpriteCache(final long evictableBudgetBytes) {
+        this.evictableBudgetBytes = evictableBudgetBytes;
+    }
+
+    /**
+     * Returns the sprite cached for the given key, counting a hit or a miss.
+     *
+     * @param key the key of the sprite
+     * @return the cached sprite, or {@code null} if there is none
+     */
+    synchronized Sprite get(final SpriteKey key) {
+        Entry entry = pinned.get(key);
+        if (entry == null) {
+            entry = evictable.get(key);
+        }
+        if (entry == null) {
+            misses++;
+            return null;
+        }
+        hits++;
+        return entry.sprite();
+    }
+
+    /**
+     * Caches a sprite, unless another one has been cached for the same key in the meantime,
+     * then evicts the least recently used evictable sprites until the budget is respected.
+     *
+     * @param key the key of the sprite
+     * @param sprite the sprite to cache
+     * @param isEvictable whether the sprite may be evicted
+     * @return the sprite cached for the key, which is the given one unless it was already present
+     */
+    synchronized Sprite putIfAbsent(final SpriteKey key, final Sprite sprite, final boolean isEvictable) {
+        final Entry existing = isEvictable ? evictable.get(key) : pinned.get(key);
+        if (existing != null) {
+            return existing.sprite();
+        }
+        final Entry entry = new Entry(sprite, sizeOf(sprite));
+        if (isEvictable) {
+            evictable.put(key, entry);
+            evictableBytes += entry.bytes();
+            evictOverBudget();
+        } else {
+            pinned.put(key, entry);
+            pinnedBytes += entry.bytes();
+        }
+        return sprite;
+    }
+
+    /**
+     * Returns a snapshot of the counters of the cache.
+     *
+     * @return the current statistics of the cache
+     */
+    synchronized SpriteLoader.CacheStats getStats() {
+        return new SpriteLoader.CacheStats(hits, misses, evictions, pinned.size() + evictable.size(),
+                pinnedBytes, evictableBytes);
+    }
+
+    private void evictOverBudget() {
+        final Iterator<Entry> eldest = evictable.values().iterator();
+        // The newest sprite is kept even if it alone exceeds the budget
+        while (evictableBytes > evictableBudgetBytes && evictable.size() > 1) {
+            evictableBytes -= eldest.next().bytes();
+            eldest.remove();
+            evictions++;
+        }
+    }
+
+    private static long sizeOf(final Sprite sprite) {
+        // Regions are measured without copying them out of their atlas
+        if (sprite instanceof AnimatedSprite animatedSprite) {
+            long bytes = 0;
+            for (int i = 0; i < animatedSprite.getFrameCount(); i++) {
+                bytes += sizeOf(animatedSprite.region(i));
+            }
+            if (animatedSprite instanceof RotatedAnimatedSprite rotatedSprite) {
+                for (int i = 0; i < rotatedSprite.getRotatedFrameCount(); i++) {
+                    bytes += sizeOf(rotatedSprite.rotatedRegion(i));
+                }
+            }
+            return bytes;
+        }
+        if (sprite instanceof RegionSprite regionSprite) {
+            return sizeOf(regionSprite.region());
+        }
+        final Image image = sprite.image();
+        return image == null ? 0 : (long) image.getWidth() * (long) image.getHeight() * BYTES_PER_PIXEL;
+    }
+
+    private static long sizeOf(final AtlasRegion region) {
+        return (long) region.width() * region.height() * BYTES_PER_PIXEL;
+    }
+
+    private record Entry(Sprite sprite, long bytes) {
+    }
+}
@@ -3,7 +3,6 @@ package dev.emberline.core.graphics;
 
 import dev.emberline.core.graphics.spritefactories.CrystalSpriteFactory;
 import dev.emberline.core.graphics.spritefactories.EnemySpriteFactory;
-import dev.emberline.core.graphics.spritefactories.MapSpriteFactory;
 import dev.emberline.core.graphics.spritefactories.ProjectileSpriteFactory;
 import dev.emberline.core.graphics.spritefactories.SingleSpriteFactory;
 import dev.emberline.core.graphics.spritefactories.SpriteFactory;
@@ -12,42 +11,51 @@ import dev.emberline.core.graphics.spritefactories.TowerSpriteFactory;
 import dev.emberline.core.graphics.spritekeys.SpriteKey;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 
 /**
  * The SpriteFactoryRegistry class provides a centralized registry for managing and retrieving
  * sprite factories based on specific key types.
  * <p>
- * This class uses a synchronized list to store registered factories, ensuring thread-safe access
- * and modifications. Factories are registered with their respective key type statically.
+ * Factories are registered with their respective key type statically, and are never modified afterwards.
+ * The factory of each key class is resolved once and then memoized in a {@link ClassValue},
+ * so lookups are a constant time read that is safe from any thread.
  * <p>
  * {@link IllegalArgumentException} is thrown when no matching factory is found for a given key type.
  */
 final class SpriteFactoryRegistry {
 
-    private static final List<SpriteFactory<?>> FACTORIES = Collections.synchronizedList(new ArrayList<>());
+    private static final List<SpriteFactory<?>> FACTORIES = new ArrayList<>();
+    private static final ClassValue<SpriteFactory<?>> FACTORY_BY_KEY_TYPE = new ClassValue<>() {
+        @Override
+        protected SpriteFactory<?> computeValue(final Class<?> keyType) {
+            for (final SpriteFactory<?> factory : FACTORIES) {
+                if (factory.getKeyType().isAssignableFrom(keyType)) {
+                    return factory;
+                }
+            }
+            return null;
+        }
+    };
 
     private SpriteFactoryRegistry() {
 
     }
 
-    static <K extends SpriteKey> void registerFactory(final SpriteFactory<K> factory) {
+    private static <K extends SpriteKey> void registerFactory(final SpriteFactory<K> factory) {
         FACTORIES.add(factory);
     }
 
     static <K extends SpriteKey> SpriteFactory<K> getFactory(final K key) {
         final Class<?> keyType = key.getClass();
-
-        for (final SpriteFactory<?> factory : FACTORIES) {
-            if (factory.getKeyType().isAssignableFrom(keyType)) {
-                // This cast is safe because we check the key type against the factory's key type,
-                // and we know that the factory is registered for this key type.
-                @SuppressWarnings("unchecked") final SpriteFactory<K> result = (SpriteFactory<K>) factory;
-                return result;
-            }
+        final SpriteFactory<?> factory = FACTORY_BY_KEY_TYPE.get(keyType);
+        if (factory == null) {
+            throw new IllegalArgumentException("No factory found for key type: " + keyType.getName());
         }
-        throw new IllegalArgumentException("No factory found for key type: " + keyType.getName());
+        // This cast is safe because we check the key type against the factory's key type,
+        // and we know that the factory is registered for this key type.
+        @SuppressWarnings("unchecked") final SpriteFactory<K> result = (SpriteFactory<K>) factory;
+        return result;
     }
 
     static {
@@ -57,7 +65,6 @@ final class SpriteFactoryRegistry {
         registerFactory(new ProjectileSpriteFactory());
         registerFactory(new TowerSpriteFactory());
         registerFactory(new CrystalSpriteFactory());
-        registerFactory(new MapSpriteFactory());
     }
 
 }
@@ -1,11 +1,8 @@
 package dev.emberline.core.graphics;
 
+import dev.emberline.core.graphics.spritefactories.SpriteFactory;
 import dev.emberline.core.graphics.spritekeys.SpriteKey;
 
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.Map;
-
 /**
  * The {@code SpriteLoader} class is responsible for managing the retrieval and caching of {@link Sprite} objects
  * based on their corresponding {@link SpriteKey}.
@@ -13,20 +10,45 @@ import java.util.Map;
  * This class uses an internal cache to store loaded sprites, reducing redundant constructions
  * and improving performance. When a sprite is requested, it attempts to retrieve it from
  * the cache. If the sprite is not found, it delegates the loading operation to the appropriate
- * {@link dev.emberline.core.graphics.spritefactories.SpriteFactory} associated with the given key.
+ * {@link SpriteFactory} associated with the given key.
+ * <p>
+ * The cache is bounded: sprites whose factory declares them {@link SpriteFactory#isEvictable() evictable},
+ * like the ones rendered from strings, are evicted in least recently used order once they take more than
+ * {@value EVICTABLE_BUDGET_BYTES} bytes, while all the others are kept for the whole execution.
+ * <p>
+ * Sprites packed at build time by the {@link SpritePacker} are resolved from its manifest, see {@link PackedSprites},
+ * without going through their factory; the other ones, and all of them when the atlases have not been packed,
+ * are built by their factory.
  * <p>
  * Since the loading and retrival of sprites is done both on the Game Loop thread and the JavaFX application thread,
- * a synchronizedMap is used for mutual exclusive access to the sprite cache.
+ * the cache is thread-safe. Sprites are built outside of its lock, so that a slow load on one thread
+ * does not stall lookups on the other.
  */
 public final class SpriteLoader {
-    private static final Map<SpriteKey, Sprite> SPRITE_CACHE = Collections.synchronizedMap(new HashMap<>());
+    private static final long EVICTABLE_BUDGET_BYTES = 8L * 1024 * 1024;
+    private static final SpriteCache SPRITE_CACHE = new SpriteCache(EVICTABLE_BUDGET_BYTES);
+    private static final PackedSprites PACKED_SPRITES = PackedSprites.load();
+
+    /**
+     * The counters of the sprite cache.
+     *
+     * @param hits the number of lookups that found the sprite in the cache
+     * @param misses the number of lookups that had to build the sprite
+     * @param evictions the number of sprites evicted to respect the budget
+     * @param size the number of cached sprites
+     * @param pinnedBytes the estimated size of the sprites that are never evicted
+     * @param evictableBytes the estimated size of the sprites that may be evicted
+     */
+    public record CacheStats(long hits, long misses, long evictions, int size,
+                             long pinnedBytes, long evictableBytes) {
+    }
 
     private SpriteLoader() { }
 
     /**
      * Loads a {@link Sprite} corresponding to the provided {@link SpriteKey}. If the sprite
      * is already cached, it will be retrieved from the cache. Otherwise, it will be
-     * created using the appropriate {@link dev.emberline.core.graphics.spritefactories.SpriteFactory}
+     * created using the appropriate {@link SpriteFactory}
      * and stored in the cache.
      *
      * @param <K>       the type of the {@link SpriteKey}
@@ -35,13 +57,32 @@ public final class SpriteLoader {
      * @throws IllegalArgumentException if no factory is found for the provided key type
      */
     public static <K extends SpriteKey> Sprite loadSprite(final K spriteKey) {
-        return SPRITE_CACHE.computeIfAbsent(spriteKey, currKey -> SpriteFactoryRegistry.getFactory(currKey).loadSprite(currKey));
+        final Sprite cached = SPRITE_CACHE.get(spriteKey);
+        if (cached != null) {
+            return cached;
+        }
+        final Sprite packed = PACKED_SPRITES.loadSprite(spriteKey);
+        if (packed != null) {
+            // Only sprites cut from the game atlases are packed, and those are never evicted
+            return SPRITE_CACHE.putIfAbsent(spriteKey, packed, false);
+        }
+        final SpriteFactory<K> factory = SpriteFactoryRegistry.getFactory(spriteKey);
+        return SPRITE_CACHE.putIfAbsent(spriteKey, factory.loadSprite(spriteKey), factory.isEvictable());
+    }
+
+    /**
+     * Returns the current counters of the sprite cache.
+     *
+     * @return the statistics of the sprite cache
+     */
+    public static CacheStats getCacheStats() {
+        return SPRITE_CACHE.getStats();
     }
 
     /**
      * Loads a {@link Sprite} corresponding to the provided {@link SpriteKey}.
-     * It will ignore the cache, and it will create the Sprite
-     * using the appropriate {@link dev.emberline.core.graphics.spritefactories.SpriteFactory}.
+     * It will ignore the cache, and it will create the Sprite from the packed atlases
+     * or using the appropriate {@link SpriteFactory}.
      * This method is supposed to be used only after deserialization.
      *
      * @param <K>       the type of the {@link SpriteKey}
@@ -50,6 +91,7 @@ public final class SpriteLoader {
      * @throws IllegalArgumentException if no factory is found for the provided key type
      */
     public static <K extends SpriteKey> Sprite loadSpriteAfterSerialization(final K spriteKey) {
-        return SpriteFactoryRegistry.getFactory(spriteKey).loadSprite(spriteKey);
+        final Sprite packed = PACKED_SPRITES.loadSprite(spriteKey);
+        return packed != null ? packed : SpriteFactoryRegistry.getFactory(spriteKey).loadSprite(spriteKey);
     }
 }
@@ -0,0 +1,184 @@
+package dev.emberline.core.graphics;
+
+import dev.emberline.core.graphics.spritekeys.SpriteKey;
+import dev.emberline.core.graphics.spritekeys.SpriteKeys;
+import javafx.scene.image.PixelFormat;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The {@code SpritePacker} is the build-time tool packing the sprites of the game atlases into a few
+ * power-of-two pages, described by the binary manifest read by {@link PackedSprites}.
+ * <p>
+ * The sprites are built by their factories from the JSON metadata, as they would be at runtime, and the pixels
+ * of their frames are copied into the pages; identical frames are packed once. The rotated cells of the
+ * projectiles are packed as well, so they are no longer rotated when the game starts.
+ * Sprites that cannot be built are left out, and are then loaded by their factories at runtime.
+ * <p>
+ * It is run by the {@code packSprites} Gradle task, with the output directory as its only argument.
+ */
+public final class SpritePacker {
+    private static final int PAGE_SIDE = 2048;
+    private static final int PADDING = 1;
+    private static final String PAGE_PREFIX = "page";
+    private static final String PAGE_EXTENSION = ".png";
+
+    // Frames with the same pixels, found while collecting the sprites
+    private final Map<Pixels, Integer> frameIndices = new HashMap<>();
+    private final List<Pixels> frames = new ArrayList<>();
+    private final Map<SpriteKey, Layout> layouts = new LinkedHashMap<>();
+
+    // The pixels of a frame, compared by value
+    private record Pixels(int width, int height, int[] argb) {
+        @Override
+        public boolean equals(final Object obj) {
+            return obj instanceof Pixels other && width == other.width && height == other.height
+                    && Arrays.equals(argb, other.argb);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * (31 * width + height) + Arrays.hashCode(argb);
+        }
+
+        @Override
+        public String toString() {
+            return "Pixels[" + width + "x" + height + "]";
+        }
+    }
+
+    // A sprite whose frames are indices of the collected frames
+    private record Layout(PackedSprites.Kind kind, int frameTimeNs, int rotationSteps,
+                          int[] frames, int[] rotated) {
+    }
+
+    private SpritePacker() {
+
+    }
+
+    /**
+     * The entry point of the packer.
+     *
+     * @param args the output directory of the pages and of the manifest
+     * @throws IOException if the pages or the manifest cannot be written
+     */
+    @SuppressWarnings("PMD.SystemPrintln")
+    public static void main(final String[] args) throws IOException {
+        if (args.length != 1) {
+            throw new IllegalArgumentException("Usage: SpritePacker <output directory>");
+        }
+        // Images are decoded without a display, and written back with ImageIO
+        if (System.getProperty("prism.order") == null) {
+            System.setProperty("prism.order", "sw");
+        }
+        System.setProperty("java.awt.headless", "true");
+
+        final SpritePacker packer = new SpritePacker();
+        for (final SpriteKey key : SpriteKeys.atlasKeys()) {
+            try {
+                packer.add(key, loadFromFactory(key));
+            } catch (RuntimeException e) { // NOPMD - an unpackable sprite is still loaded by its factory
+                System.err.println("Not packed: " + key + " (" + e.getMessage() + ")");
+            }
+        }
+        final int pages = packer.write(Path.of(args[0]));
+        System.out.printf("Packed %d sprites, %d distinct frames, into %d pages%n",
+                packer.layouts.size(), packer.frames.size(), pages);
+    }
+
+    // The sprite as built from the JSON metadata, bypassing the packed sprites of a previous build
+    private static <K extends SpriteKey> Sprite loadFromFactory(final K key) {
+        return SpriteFactoryRegistry.getFactory(key).loadSprite(key);
+    }
+
+    private void add(final SpriteKey key, final Sprite sprite) {
+        final Layout layout = switch (sprite) {
+            case RotatedAnimatedSprite rotated -> new Layout(PackedSprites.Kind.ROTATED, rotated.getFrameTimeNs(),
+                    rotated.getRotationSteps(), addFrames(rotated), addRotatedFrames(rotated));
+            case AnimatedSprite animated -> new Layout(PackedSprites.Kind.ANIMATED, animated.getFrameTimeNs(), 0,
+                    addFrames(animated), new int[0]);
+            case RegionSprite region -> new Layout(PackedSprites.Kind.REGION, 0, 0,
+                    new int[] {addFrame(region.region())}, new int[0]);
+            case SingleSprite single -> new Layout(PackedSprites.Kind.SINGLE, 0, 0,
+                    new int[] {addFrame(AtlasRegion.of(single.image()))}, new int[0]);
+            default -> throw new IllegalArgumentException("Unsupported sprite: " + sprite.getClass().getName());
+        };
+        layouts.put(key, layout);
+    }
+
+    private int[] addFrames(final AnimatedSprite sprite) {
+        final int[] indices = new int[sprite.getFrameCount()];
+        Arrays.setAll(indices, i -> addFrame(sprite.region(i)));
+        return indices;
+    }
+
+    private int[] addRotatedFrames(final RotatedAnimatedSprite sprite) {
+        final int[] indices = new int[sprite.getRotatedFrameCount()];
+        Arrays.setAll(indices, i -> addFrame(sprite.rotatedRegion(i)));
+        return indices;
+    }
+
+    private int addFrame(final AtlasRegion region) {
+        if (region.atlas().isError()) {
+            throw new IllegalStateException("Cannot decode the atlas of the frame");
+        }
+        final int[] argb = new int[region.width() * region.height()];
+        region.atlas().getPixelReader().getPixels(region.x(), region.y(), region.width(), region.height(),
+                PixelFormat.getIntArgbInstance(), argb, 0, region.width());
+        final Pixels pixels = new Pixels(region.width(), region.height(), argb);
+        return frameIndices.computeIfAbsent(pixels, p -> {
+            frames.add(p);
+            return frames.size() - 1;
+        });
+    }
+
+    // Writes the pages and the manifest, returning the number of pages
+    private int write(final Path directory) throws IOException {
+        final AtlasPacker.Packing packing = new AtlasPacker(PAGE_SIDE, PADDING)
+                .pack(frames.stream().map(p -> new AtlasPacker.Size(p.width(), p.height())).toList());
+
+        Files.createDirectories(directory);
+        final List<String> pageNames = new ArrayList<>();
+        final List<BufferedImage> pages = new ArrayList<>();
+        for (final AtlasPacker.Size size : packing.pages()) {
+            pageNames.add(PAGE_PREFIX + pageNames.size() + PAGE_EXTENSION);
+            pages.add(new BufferedImage(size.width(), size.height(), BufferedImage.TYPE_INT_ARGB));
+        }
+        final List<PackedSprites.Rect> rects = new ArrayList<>(frames.size());
+        for (int i = 0; i < frames.size(); i++) {
+            final Pixels frame = frames.get(i);
+            final AtlasPacker.Placement placement = packing.placements().get(i);
+            pages.get(placement.page()).setRGB(placement.x(), placement.y(), frame.width(), frame.height(),
+                    frame.argb(), 0, frame.width());
+            rects.add(new PackedSprites.Rect(placement.page(), placement.x(), placement.y(),
+                    frame.width(), frame.height()));
+        }
+        for (int i = 0; i < pages.size(); i++) {
+            ImageIO.write(pages.get(i), "png", directory.resolve(pageNames.get(i)).toFile());
+        }
+
+        final Map<SpriteKey, PackedSprites.Entry> entries = new LinkedHashMap<>();
+        layouts.forEach((key, layout) -> entries.put(key, new PackedSprites.Entry(layout.kind(),
+                layout.frameTimeNs(), layout.rotationSteps(), toRects(layout.frames(), rects),
+                toRects(layout.rotated(), rects))));
+        try (OutputStream out = Files.newOutputStream(directory.resolve(PackedSprites.MANIFEST_NAME))) {
+            PackedSprites.write(out, pageNames, entries);
+        }
+        return pages.size();
+    }
+
+    private static List<PackedSprites.Rect> toRects(final int[] indices, final List<PackedSprites.Rect> rects) {
+        return Arrays.stream(indices).mapToObj(rects::get).toList();
+    }
+}
@@ -3,25 +3,29 @@ package dev.emberline.core.graphics.spritefactories;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import dev.emberline.core.config.ConfigLoader;
 import dev.emberline.core.graphics.AnimatedSprite;
+import dev.emberline.core.graphics.AtlasCache;
+import dev.emberline.core.graphics.AtlasRegion;
 import dev.emberline.core.graphics.Sprite;
 import dev.emberline.core.graphics.spritekeys.EnemySpriteKey;
 import dev.emberline.game.world.entities.enemies.enemy.AbstractEnemy.FacingDirection;
 import dev.emberline.game.world.entities.enemies.enemy.EnemyAnimation.EnemyAppearance;
 import dev.emberline.game.world.entities.enemies.enemy.EnemyType;
 import javafx.scene.image.Image;
-import javafx.scene.image.WritableImage;
 
 import java.util.Locale;
 import java.util.Map;
-import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * A factory class for creating animated enemy sprites based on a provided {@link EnemySpriteKey}.
- * The enemy sprite atlas is a single image containing all sprite frames,
- * and the individual frames are extracted during sprite creation based on metadata values.
+ * The enemy sprite atlas is a single image containing all sprite frames, decoded once by the {@link AtlasCache},
+ * and the individual frames are referenced as regions of it based on metadata values.
  */
 public final class EnemySpriteFactory implements SpriteFactory<EnemySpriteKey> {
 
+    // The metadata of each enemy type, parsed once and shared by all the keys of that type
+    private static final Map<EnemyType, Metadata> METADATA = new ConcurrentHashMap<>();
+
     private record Metadata(@JsonProperty int width, @JsonProperty int height,
                             @JsonProperty int frames, @JsonProperty int frameTimeNs,
                             @JsonProperty Map<FacingDirection, Integer> direction,
@@ -37,30 +41,26 @@ public final class EnemySpriteFactory implements SpriteFactory<EnemySpriteKey> {
         final FacingDirection direction = key.direction();
         final EnemyAppearance state = key.state();
 
-        final String jsonPath = String.format("/sprites/enemyAssets/%s.json", type.name().toLowerCase(Locale.US));
-        final Metadata metadata = ConfigLoader.loadConfig(jsonPath, Metadata.class);
+        final Metadata metadata = METADATA.computeIfAbsent(type, enemyType -> ConfigLoader.loadConfig(
+                String.format("/sprites/enemyAssets/%s.json", enemyType.name().toLowerCase(Locale.US)), Metadata.class));
 
         final int xOffset = metadata.direction.get(direction);
         final int yOffset = metadata.state.get(state);
 
         final String enemyAtlasPath = String.format("/sprites/enemyAssets/%sAtlas.png", type.name().toLowerCase(Locale.US));
-        final Image enemyAtals = getEnemyAtlas(enemyAtlasPath);
+        final Image enemyAtlas = AtlasCache.getAtlas(enemyAtlasPath);
 
-        final Image[] frames = new Image[metadata.frames];
+        final AtlasRegion[] frames = new AtlasRegion[metadata.frames];
         for (int i = 0; i < metadata.frames; ++i) {
             final int frameStep = metadata.width * metadata.direction.size();
             final int x = xOffset + i * frameStep;
             final int y = yOffset;
-            frames[i] = new WritableImage(enemyAtals.getPixelReader(), x, y, metadata.width, metadata.height);
+            frames[i] = new AtlasRegion(enemyAtlas, x, y, metadata.width, metadata.height);
         }
 
         return new AnimatedSprite(frames, key, metadata.frameTimeNs);
     }
 
-    private static Image getEnemyAtlas(final String enemyAtlasPath) {
-        return new Image(Objects.requireNonNull(EnemySpriteFactory.class.getResourceAsStream(enemyAtlasPath)));
-    }
-
     /**
      * {@inheritDoc}
      */
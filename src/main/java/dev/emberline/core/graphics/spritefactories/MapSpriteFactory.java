@@ -2,20 +2,20 @@ package dev.emberline.core.graphics.spritefactories;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 import dev.emberline.core.config.ConfigLoader;
-import dev.emberline.core.graphics.AnimatedSprite;
-import dev.emberline.core.graphics.Sprite;
-import dev.emberline.core.graphics.spritekeys.MapSpriteKey;
-import javafx.scene.image.Image;
-import javafx.scene.image.WritableImage;
+import dev.emberline.core.graphics.AtlasCache;
+import dev.emberline.core.graphics.AtlasRegion;
 
-import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
 
 /**
- * A factory class for creating animated map sprites based on a provided {@link MapSpriteKey}.
- * The map sprite atlas is a single image containing all sprite frames,
- * and the individual frames are extracted during sprite creation based on metadata values.
+ * A factory class for the frames of the map animations.
+ * The map sprite atlas is a single image containing all the frames, which are described by metadata values.
+ * <p>
+ * Map frames are large and only played a few at a time, so they are loaded one by one with
+ * {@link #loadFrame(int)}, without ever keeping the whole atlas in memory.
  */
-public final class MapSpriteFactory implements SpriteFactory<MapSpriteKey> {
+public final class MapSpriteFactory {
 
     private static final Metadata METADATA = ConfigLoader.loadConfig("/sprites/map/map.json", Metadata.class);
 
@@ -28,36 +28,71 @@ public final class MapSpriteFactory implements SpriteFactory<MapSpriteKey> {
                             @JsonProperty Waves[] waves) {
     }
 
+    private MapSpriteFactory() {
+
+    }
+
     /**
-     * {@inheritDoc}
+     * Returns the frames of the animation of every wave, as indices of the frames of the map atlas.
+     *
+     * @return for every wave, the atlas frames of its animation in playing order
      */
-    @Override
-    public Sprite loadSprite(final MapSpriteKey key) {
-        final int frameNumber = METADATA.waves[key.waveNumber()].frames;
-        final int startFrame = METADATA.waves[key.waveNumber()].startFrame;
-        final int endFrame = METADATA.waves[key.waveNumber()].endFrame;
-
-        final String mapAtlasPath = String.format(METADATA.filename);
-        final Image mapAtlas = getMapAtlas(mapAtlasPath);
-        final Image[] frames = new Image[frameNumber];
-
-        for (int i = startFrame; i <= endFrame; ++i) {
-            final int x = i * METADATA.mapLenght;
-            final int y = 0;
-            frames[i - startFrame] = new WritableImage(mapAtlas.getPixelReader(), x, y, METADATA.mapLenght, METADATA.mapHeight);
+    public static int[][] getWaveFrames() {
+        final int[][] waveFrames = new int[METADATA.waves.length][];
+        for (int wave = 0; wave < METADATA.waves.length; wave++) {
+            final int startFrame = METADATA.waves[wave].startFrame;
+            waveFrames[wave] = new int[METADATA.waves[wave].frames];
+            for (int i = 0; i < waveFrames[wave].length; i++) {
+                waveFrames[wave][i] = startFrame + i;
+            }
         }
-        return new AnimatedSprite(frames, key, METADATA.frameTimeNs);
+        return waveFrames;
     }
 
-    private static Image getMapAtlas(final String mapAtlasPath) {
-        return new Image(Objects.requireNonNull(MapSpriteFactory.class.getResourceAsStream(mapAtlasPath)));
+    /**
+     * Returns the duration of every frame of the map animations.
+     *
+     * @return the time in nanoseconds each frame is displayed
+     */
+    public static int getFrameTimeNs() {
+        return METADATA.frameTimeNs;
     }
 
     /**
-     * {@inheritDoc}
+     * Loads a single frame of the map atlas into an image of its own, which is not cached.
+     *
+     * @param atlasFrame the index of the frame in the map atlas
+     * @return the frame, as a region covering its whole image
+     * @see AtlasCache#loadRegion(String, int, int, int, int)
      */
-    @Override
-    public Class<MapSpriteKey> getKeyType() {
-        return MapSpriteKey.class;
+    public static AtlasRegion loadFrame(final int atlasFrame) {
+        return AtlasRegion.of(AtlasCache.loadRegion(METADATA.filename, atlasFrame * METADATA.mapLenght, 0,
+                METADATA.mapLenght, METADATA.mapHeight));
+    }
+
+    /**
+     * Stores the frames of all the map animations decoded, so that {@link #loadFrame(int)} maps them without
+     * decoding the map atlas, then releases the decoded atlas at once.
+     *
+     * @return whether every frame is stored
+     * @see AtlasCache#storeRegion(String, int, int, int, int)
+     */
+    public static boolean storeFrames() {
+        final Set<Integer> frames = new TreeSet<>();
+        for (final int[] waveFrames : getWaveFrames()) {
+            for (final int frame : waveFrames) {
+                frames.add(frame);
+            }
+        }
+        boolean allStored = true;
+        try {
+            for (final int frame : frames) {
+                allStored &= AtlasCache.storeRegion(METADATA.filename, frame * METADATA.mapLenght, 0,
+                        METADATA.mapLenght, METADATA.mapHeight);
+            }
+        } finally {
+            AtlasCache.releaseDecodedAtlas(METADATA.filename);
+        }
+        return allStored;
     }
 }
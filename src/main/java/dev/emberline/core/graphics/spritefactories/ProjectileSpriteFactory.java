@@ -2,29 +2,36 @@ package dev.emberline.core.graphics.spritefactories;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 import dev.emberline.core.config.ConfigLoader;
-import dev.emberline.core.graphics.AnimatedSprite;
+import dev.emberline.core.graphics.AtlasCache;
+import dev.emberline.core.graphics.AtlasRegion;
+import dev.emberline.core.graphics.RotatedAnimatedSprite;
 import dev.emberline.core.graphics.Sprite;
 import dev.emberline.core.graphics.spritekeys.ProjectileSpriteKey;
 import dev.emberline.game.model.EnchantmentInfo;
 import dev.emberline.game.model.ProjectileInfo;
 import javafx.scene.image.Image;
-import javafx.scene.image.WritableImage;
 
 import java.util.Map;
-import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * A factory class for creating animated projectile sprites based on a provided {@link ProjectileSpriteKey}.
- * The projectile sprite atlas is a single image containing all sprite frames,
- * and the individual frames are extracted during sprite creation based on metadata values.
+ * The projectile sprite atlas is a single image containing all sprite frames, decoded once by the {@link AtlasCache},
+ * and the individual frames are referenced as regions of it based on metadata values.
+ * <p>
+ * Projectiles rotate along their trajectory, so every frame is also pre-rotated in the number of steps
+ * given by the {@code rotationSteps} metadata value, see {@link RotatedAnimatedSprite}. The rotated frames of
+ * each projectile are built once and shared, also by the sprites rebuilt after deserialization.
  */
 public final class ProjectileSpriteFactory implements SpriteFactory<ProjectileSpriteKey> {
 
     private static final Metadata METADATA = ConfigLoader.loadConfig("/sprites/towerAssets/projectile.json", Metadata.class);
+    private static final Map<ProjectileSpriteKey, AtlasRegion[]> ROTATED_FRAMES = new ConcurrentHashMap<>();
 
     private record Metadata(@JsonProperty String filename,
                             @JsonProperty int width, @JsonProperty int height,
                             @JsonProperty int frames, @JsonProperty int frameTimeNs,
+                            @JsonProperty int rotationSteps,
                             @JsonProperty Map<ProjectileInfo.Type, Integer> size,
                             @JsonProperty Map<EnchantmentInfo.Type, Integer> enchant) {
     }
@@ -40,21 +47,19 @@ public final class ProjectileSpriteFactory implements SpriteFactory<ProjectileSp
         final int xOffset = METADATA.size.get(size);
         final int yOffset = METADATA.enchant.get(enchant);
 
-        final Image projectileAtals = getProjectileAtlas();
+        final Image projectileAtlas = AtlasCache.getAtlas(METADATA.filename);
 
-        final Image[] frames = new Image[METADATA.frames];
+        final AtlasRegion[] frames = new AtlasRegion[METADATA.frames];
         for (int i = 0; i < METADATA.frames; ++i) {
             final int frameStep = METADATA.width * METADATA.size.size();
             final int x = xOffset + i * frameStep;
             final int y = yOffset;
-            frames[i] = new WritableImage(projectileAtals.getPixelReader(), x, y, METADATA.width, METADATA.height);
+            frames[i] = new AtlasRegion(projectileAtlas, x, y, METADATA.width, METADATA.height);
         }
 
-        return new AnimatedSprite(frames, key, METADATA.frameTimeNs);
-    }
-
-    private static Image getProjectileAtlas() {
-        return new Image(Objects.requireNonNull(ProjectileSpriteFactory.class.getResourceAsStream(METADATA.filename)));
+        final AtlasRegion[] rotatedFrames = ROTATED_FRAMES.computeIfAbsent(key,
+                k -> RotatedAnimatedSprite.rotateFrames(frames, METADATA.rotationSteps));
+        return new RotatedAnimatedSprite(frames, rotatedFrames, METADATA.rotationSteps, key, METADATA.frameTimeNs);
     }
 
     /**
@@ -3,19 +3,22 @@ package dev.emberline.core.graphics.spritefactories;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.databind.JsonNode;
 import dev.emberline.core.config.ConfigLoader;
+import dev.emberline.core.graphics.AtlasCache;
 import dev.emberline.core.graphics.SingleSprite;
 import dev.emberline.core.graphics.Sprite;
 import dev.emberline.core.graphics.spritekeys.SingleSpriteKey;
 import javafx.scene.image.Image;
 import javafx.scene.image.WritableImage;
 
-import java.util.Objects;
 
 /**
  * A factory responsible for loading and creating instances of {@link SingleSprite} using
  * a {@link SingleSpriteKey} as an identifier. This implementation reads sprite metadata
  * from a pre-configured JSON resource file and uses that data to construct the sprite
  * based on its defined properties.
+ * <p>
+ * The atlases are decoded once by the {@link AtlasCache}, while the sprites are still copied into images
+ * of their own, since they are used as {@link Image}s by the GUI.
  */
 public final class SingleSpriteFactory implements SpriteFactory<SingleSpriteKey> {
 
@@ -33,8 +36,7 @@ public final class SingleSpriteFactory implements SpriteFactory<SingleSpriteKey>
     public Sprite loadSprite(final SingleSpriteKey uiSpriteKey) {
         final JsonNode currentNode = CONFIGS_ROOT.get(uiSpriteKey.name());
         final SpriteMetadata spriteMetadata = ConfigLoader.loadConfig(currentNode, SpriteMetadata.class);
-        final Image spriteAtlas = new Image(Objects.requireNonNull(
-                SingleSpriteFactory.class.getResourceAsStream(spriteMetadata.filename)));
+        final Image spriteAtlas = AtlasCache.getAtlas(spriteMetadata.filename);
         return new SingleSprite(new WritableImage(
                 spriteAtlas.getPixelReader(),
                 spriteMetadata.x, spriteMetadata.y,
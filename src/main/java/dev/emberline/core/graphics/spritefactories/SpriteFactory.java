@@ -26,4 +26,17 @@ public interface SpriteFactory<K extends SpriteKey> {
      * @return the class object representing the key type parameter K
      */
     Class<K> getKeyType();
+
+    /**
+     * Tells whether the sprites of this factory may be evicted from the sprite cache.
+     * <p>
+     * Sprites cut from the game atlases are a bounded set and are kept for the whole execution,
+     * factories building sprites from arbitrary input must return {@code true}
+     * so that their sprites do not grow the cache without limit.
+     *
+     * @return {@code true} if the sprites may be evicted, {@code false} by default
+     */
+    default boolean isEvictable() {
+        return false;
+    }
 }
@@ -2,21 +2,20 @@ package dev.emberline.core.graphics.spritefactories;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 import dev.emberline.core.config.ConfigLoader;
-import dev.emberline.core.graphics.SingleSprite;
+import dev.emberline.core.graphics.AtlasCache;
+import dev.emberline.core.graphics.AtlasRegion;
+import dev.emberline.core.graphics.RegionSprite;
 import dev.emberline.core.graphics.Sprite;
 import dev.emberline.core.graphics.spritekeys.TowerSpriteKey;
 import dev.emberline.game.model.EnchantmentInfo;
 import dev.emberline.game.model.ProjectileInfo;
-import javafx.scene.image.Image;
-import javafx.scene.image.WritableImage;
 
 import java.util.Map;
-import java.util.Objects;
 
 /**
  * A factory class for creating tower sprites based on a provided {@link TowerSpriteKey}.
- * The tower sprite atlas is a single image containing all possible towers,
- * and the specific ones are extracted during sprite creation based on metadata values.
+ * The tower sprite atlas is a single image containing all possible towers, decoded once by the {@link AtlasCache},
+ * and the specific ones are referenced as regions of it based on metadata values.
  */
 public final class TowerSpriteFactory implements SpriteFactory<TowerSpriteKey> {
 
@@ -41,13 +40,7 @@ public final class TowerSpriteFactory implements SpriteFactory<TowerSpriteKey> {
         final int x = METADATA.size.get(size);
         final int y = METADATA.enchant.get(enchant) - height;
 
-        final Image towerAtlas = getTowerAtlas();
-
-        return new SingleSprite(new WritableImage(towerAtlas.getPixelReader(), x, y, width, height));
-    }
-
-    private static Image getTowerAtlas() {
-        return new Image(Objects.requireNonNull(TowerSpriteFactory.class.getResourceAsStream(METADATA.filename)));
+        return new RegionSprite(new AtlasRegion(AtlasCache.getAtlas(METADATA.filename), x, y, width, height));
     }
 
     /**
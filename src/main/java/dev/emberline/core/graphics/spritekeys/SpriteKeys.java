@@ -0,0 +1,50 @@
+package dev.emberline.core.graphics.spritekeys;
+
+import dev.emberline.game.model.EnchantmentInfo;
+import dev.emberline.game.model.ProjectileInfo;
+import dev.emberline.game.world.entities.enemies.enemy.AbstractEnemy.FacingDirection;
+import dev.emberline.game.world.entities.enemies.enemy.EnemyAnimation.EnemyAppearance;
+import dev.emberline.game.world.entities.enemies.enemy.EnemyType;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Utility class listing the sprite keys of the game.
+ */
+public final class SpriteKeys {
+
+    private SpriteKeys() {
+
+    }
+
+    /**
+     * Returns every key of the sprites cut from the game atlases: the single sprites, the enemies,
+     * the towers, the projectiles and the crystals.
+     * <p>
+     * The keys of the sprites built from arbitrary input, like {@link StringSpriteKey}, are not listed.
+     * The map frames have no keys, since they are streamed on their own.
+     *
+     * @return the keys of the sprites cut from the game atlases
+     */
+    public static List<SpriteKey> atlasKeys() {
+        final List<SpriteKey> keys = new ArrayList<>();
+        Collections.addAll(keys, SingleSpriteKey.values());
+        for (final EnemyType type : EnemyType.values()) {
+            for (final FacingDirection direction : FacingDirection.values()) {
+                for (final EnemyAppearance appearance : EnemyAppearance.values()) {
+                    keys.add(new EnemySpriteKey(type, direction, appearance));
+                }
+            }
+        }
+        for (final EnchantmentInfo.Type enchantment : EnchantmentInfo.Type.values()) {
+            for (final ProjectileInfo.Type size : ProjectileInfo.Type.values()) {
+                keys.add(new TowerSpriteKey(size, enchantment));
+                keys.add(new ProjectileSpriteKey(size, enchantment));
+            }
+            keys.add(new CrystalSpriteKey(enchantment));
+        }
+        return Collections.unmodifiableList(keys);
+    }
+}
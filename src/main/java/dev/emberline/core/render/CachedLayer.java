@@ -0,0 +1,92 @@
+package dev.emberline.core.render;
+
+import javafx.scene.SnapshotParameters;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.WritableImage;
+import javafx.scene.paint.Color;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * A screen-sized layer that is painted offscreen once and then drawn with a single
+ * {@link GraphicsContext#drawImage} call, as long as what it shows does not change.
+ * <p>
+ * What the layer shows is identified by a key, which must change whenever the painted content would
+ * change, e.g. when the canvas is resized or the coordinate system moves. Painting the layer offscreen
+ * and reading it back costs more than painting it directly, so while the key keeps changing from one
+ * frame to the next, like during a camera animation, the layer is painted directly on the canvas and
+ * it is only cached once the same key is seen on two frames in a row.
+ * <p>
+ * All the methods must be called on the JavaFX Application thread, typically from a {@link RenderTask}.
+ */
+public final class CachedLayer {
+    private final SnapshotParameters snapshotParameters = new SnapshotParameters();
+    // Created lazily, so that no JavaFX node is built by layers that are never drawn
+    private Canvas offscreen;
+    private WritableImage image;
+    private Object cachedKey;
+    private Object lastKey;
+
+    /**
+     * Creates an empty {@code CachedLayer}.
+     */
+    public CachedLayer() {
+        snapshotParameters.setFill(Color.TRANSPARENT);
+    }
+
+    /**
+     * Draws the layer on the given graphics context, painting it again only if the key changed.
+     *
+     * @param gc the graphics context to draw the layer on
+     * @param width the width of the layer in pixels, usually the canvas width
+     * @param height the height of the layer in pixels, usually the canvas height
+     * @param key the identity of what the layer shows, compared with {@link Object#equals(Object)}
+     * @param painter the routine painting the content of the layer on the given graphics context,
+     *                in the same coordinates as {@code gc}
+     */
+    public void draw(final GraphicsContext gc, final double width, final double height,
+                     final Object key, final Consumer<GraphicsContext> painter) {
+        if (width < 1 || height < 1) {
+            return;
+        }
+        if (!Objects.equals(key, cachedKey)) {
+            if (!Objects.equals(key, lastKey)) {
+                // The content is still changing, caching it would be wasted
+                lastKey = key;
+                painter.accept(gc);
+                return;
+            }
+            repaint(Math.ceil(width), Math.ceil(height), painter);
+            cachedKey = key;
+        }
+        gc.drawImage(image, 0, 0);
+    }
+
+    /**
+     * Discards the cached content, for example to release its memory.
+     */
+    public void invalidate() {
+        image = null;
+        cachedKey = null;
+        lastKey = null;
+    }
+
+    private void repaint(final double width, final double height, final Consumer<GraphicsContext> painter) {
+        if (offscreen == null) {
+            offscreen = new Canvas();
+        }
+        offscreen.setWidth(width);
+        offscreen.setHeight(height);
+        final GraphicsContext offscreenGc = offscreen.getGraphicsContext2D();
+        offscreenGc.clearRect(0, 0, width, height);
+        offscreenGc.setImageSmoothing(false);
+        painter.accept(offscreenGc);
+        // The image is reused by the snapshot when its size still matches
+        if (image != null && (image.getWidth() != width || image.getHeight() != height)) {
+            image = null;
+        }
+        image = offscreen.snapshot(snapshotParameters, image);
+    }
+}
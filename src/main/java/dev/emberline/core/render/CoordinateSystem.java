@@ -34,11 +34,41 @@ public final class CoordinateSystem {
     private double screenOriginX;
     private double screenOriginY;
 
+    // Screen bottom right corner   [WORLD]
+    private double screenEndX;
+    private double screenEndY;
+
     // Package private; should only be constructed by Renderer
     CoordinateSystem(final double regionX1, final double regionY1, final double regionX2, final double regionY2) {
         setRegion(regionX1, regionY1, regionX2, regionY2);
     }
 
+    // Copy of the given coordinate system, taken while holding its lock
+    private CoordinateSystem(final CoordinateSystem other) {
+        this.regionX1 = other.regionX1;
+        this.regionY1 = other.regionY1;
+        this.regionX2 = other.regionX2;
+        this.regionY2 = other.regionY2;
+        this.scale = other.scale;
+        this.screenOriginX = other.screenOriginX;
+        this.screenOriginY = other.screenOriginY;
+        this.screenEndX = other.screenEndX;
+        this.screenEndY = other.screenEndY;
+    }
+
+    /**
+     * Returns a copy of the current state of this coordinate system, which is not affected by later
+     * changes of the region or of the screen size.
+     * <p>
+     * Render tasks run on the JavaFX thread while the game thread keeps updating the coordinate systems,
+     * so the tasks that map coordinates while drawing should use a snapshot taken when they are recorded.
+     *
+     * @return a detached copy of this coordinate system.
+     */
+    public synchronized CoordinateSystem snapshot() {
+        return new CoordinateSystem(this);
+    }
+
     /**
      * Sets the region boundaries for the coordinate system.
      * This method updates the coordinates of the region's corners.
@@ -67,6 +97,59 @@ public final class CoordinateSystem {
 
         screenOriginX = regionCenterX - screenCenterX / scale;
         screenOriginY = regionCenterY - screenCenterY / scale;
+        screenEndX = regionCenterX + screenCenterX / scale;
+        screenEndY = regionCenterY + screenCenterY / scale;
+    }
+
+    /**
+     * Returns whether the given rectangle in world space is at least partially visible on the screen.
+     * The whole screen is considered, not only the world region, since the region is fitted
+     * and parts of the world around it may be visible too.
+     *
+     * @param minX the x-coordinate of the top left corner of the rectangle in world space.
+     * @param minY the y-coordinate of the top left corner of the rectangle in world space.
+     * @param maxX the x-coordinate of the bottom right corner of the rectangle in world space.
+     * @param maxY the y-coordinate of the bottom right corner of the rectangle in world space.
+     * @return {@code true} if the rectangle intersects the visible area, {@code false} otherwise.
+     */
+    public synchronized boolean isVisible(final double minX, final double minY, final double maxX, final double maxY) {
+        return maxX >= screenOriginX && minX <= screenEndX && maxY >= screenOriginY && minY <= screenEndY;
+    }
+
+    /**
+     * Returns the x-coordinate in world space of the left edge of the screen.
+     *
+     * @return the smallest visible x-coordinate in world space.
+     */
+    public synchronized double getVisibleMinX() {
+        return screenOriginX;
+    }
+
+    /**
+     * Returns the y-coordinate in world space of the top edge of the screen.
+     *
+     * @return the smallest visible y-coordinate in world space.
+     */
+    public synchronized double getVisibleMinY() {
+        return screenOriginY;
+    }
+
+    /**
+     * Returns the x-coordinate in world space of the right edge of the screen.
+     *
+     * @return the largest visible x-coordinate in world space.
+     */
+    public synchronized double getVisibleMaxX() {
+        return screenEndX;
+    }
+
+    /**
+     * Returns the y-coordinate in world space of the bottom edge of the screen.
+     *
+     * @return the largest visible y-coordinate in world space.
+     */
+    public synchronized double getVisibleMaxY() {
+        return screenEndY;
     }
 
     /**
@@ -0,0 +1,93 @@
+package dev.emberline.core.render;
+
+/**
+ * The {@code QualityGovernor} chooses the {@link QualityTier} of the frames from the time taken to draw them.
+ * <p>
+ * Every rendered frame is recorded with the time the JavaFX Application thread took to draw the last frame,
+ * and whether the previous frame was replaced before being drawn at all. While the moving average of the draw
+ * time exceeds the frame budget, or frames are dropped, the quality is lowered one tier at a time; once the average
+ * stays well below the budget for a longer while, it is raised again one tier at a time. The two thresholds and
+ * delays keep the quality from flickering between two tiers.
+ * <p>
+ * The governor is not thread-safe, it is meant to be used by the game thread only.
+ */
+final class QualityGovernor {
+    // Weight of the newest sample in the moving average of the draw time
+    private static final double AVERAGE_WEIGHT = 0.1;
+    // Fraction of the budget the average draw time must stay below for the quality to be raised
+    private static final double HEADROOM = 0.5;
+    // Consecutive frames over budget before the quality is lowered
+    private static final int FRAMES_TO_LOWER = 10;
+    // Consecutive frames with headroom before the quality is raised, longer so that raising is cautious
+    private static final int FRAMES_TO_RAISE = 180;
+
+    private long frameBudgetNs;
+    private QualityTier tier = QualityTier.HIGH;
+    private double averageDrawNs;
+    private int framesOverBudget;
+    private int framesWithHeadroom;
+
+    /**
+     * Creates a governor starting at the {@link QualityTier#HIGH} tier.
+     *
+     * @param frameBudgetNs the time available to draw a frame in nanoseconds
+     */
+    QualityGovernor(final long frameBudgetNs) {
+        setFrameBudgetNs(frameBudgetNs);
+    }
+
+    /**
+     * Sets the time available to draw a frame.
+     *
+     * @param frameBudgetNs the time available to draw a frame in nanoseconds
+     * @throws IllegalArgumentException if {@code frameBudgetNs} is not positive
+     */
+    void setFrameBudgetNs(final long frameBudgetNs) {
+        if (frameBudgetNs <= 0) {
+            throw new IllegalArgumentException("The frame budget must be positive");
+        }
+        this.frameBudgetNs = frameBudgetNs;
+    }
+
+    /**
+     * Records a rendered frame, possibly changing the active tier.
+     *
+     * @param drawNs the time taken to draw the last drawn frame in nanoseconds
+     * @param dropped whether the previous frame was replaced before being drawn
+     */
+    void recordFrame(final long drawNs, final boolean dropped) {
+        averageDrawNs = averageDrawNs == 0 ? drawNs : averageDrawNs + (drawNs - averageDrawNs) * AVERAGE_WEIGHT;
+
+        if (dropped || averageDrawNs > frameBudgetNs) {
+            framesWithHeadroom = 0;
+            if (++framesOverBudget >= FRAMES_TO_LOWER) {
+                changeTier(tier.lower());
+            }
+        } else if (averageDrawNs < frameBudgetNs * HEADROOM) {
+            framesOverBudget = 0;
+            if (++framesWithHeadroom >= FRAMES_TO_RAISE) {
+                changeTier(tier.higher());
+            }
+        } else {
+            framesOverBudget = 0;
+            framesWithHeadroom = 0;
+        }
+    }
+
+    /**
+     * Returns the active tier.
+     *
+     * @return the tier the frames are drawn at
+     */
+    QualityTier getTier() {
+        return tier;
+    }
+
+    // The samples taken at the previous tier say nothing about the new one
+    private void changeTier(final QualityTier newTier) {
+        tier = newTier;
+        averageDrawNs = 0;
+        framesOverBudget = 0;
+        framesWithHeadroom = 0;
+    }
+}
@@ -0,0 +1,46 @@
+package dev.emberline.core.render;
+
+/**
+ * The {@code QualityTier} enum defines the levels of visual quality the game is drawn at,
+ * from the full quality to the cheapest one.
+ * <p>
+ * The active tier is chosen by the {@link Renderer} from the time it takes to draw the frames: when frames
+ * exceed their budget the quality is lowered one tier at a time, and it is raised again once there is headroom.
+ * Every tier keeps the cuts of the tiers above it.
+ *
+ * @see Renderer#getQualityTier()
+ */
+public enum QualityTier {
+    /**
+     * Every visual effect is drawn.
+     */
+    HIGH,
+    /**
+     * Decorative effects, like the bloom and the rotation of the tower crystals, are not drawn.
+     */
+    MEDIUM,
+    /**
+     * Details, like the edges of the fog and the health bars of the enemies at full health, are not drawn either.
+     */
+    LOW;
+
+    /**
+     * Returns whether this tier draws at least as much as the given one.
+     *
+     * @param other the tier to compare to
+     * @return {@code true} if this tier is the same as {@code other} or a higher one
+     */
+    public boolean isAtLeast(final QualityTier other) {
+        return ordinal() <= other.ordinal();
+    }
+
+    // The next tier towards the cheapest one, or this tier if it is the cheapest
+    QualityTier lower() {
+        return this == LOW ? this : values()[ordinal() + 1];
+    }
+
+    // The next tier towards the full quality, or this tier if it is the full quality
+    QualityTier higher() {
+        return this == HIGH ? this : values()[ordinal() - 1];
+    }
+}
@@ -0,0 +1,336 @@
+package dev.emberline.core.render;
+
+import dev.emberline.core.graphics.AtlasRegion;
+import dev.emberline.core.graphics.EffectBaker;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.effect.Effect;
+import javafx.scene.image.Image;
+import javafx.scene.paint.Paint;
+
+import java.util.Arrays;
+
+/**
+ * The {@code RenderCommandBuffer} records draw calls as primitive commands instead of capturing lambdas,
+ * to be played back later on a {@link GraphicsContext}.
+ * <p>
+ * Every command is an opcode stored in an {@code int} array, its numeric arguments are appended to a
+ * {@code double} array and the objects it refers to, like images or paints, to a reference array.
+ * The arrays only grow and are reused frame after frame, so recording allocates nothing once the
+ * buffer has reached the size of a typical frame.
+ * <p>
+ * Commands are recorded on the game thread and played back on the JavaFX Application thread by the
+ * {@link Renderer}, which makes sure the two never happen at the same time.
+ *
+ * @see Renderer#recordCommands(RenderPriority)
+ */
+public final class RenderCommandBuffer {
+    private static final int DRAW_IMAGE = 0;
+    private static final int FILL_RECT = 1;
+    private static final int SAVE = 2;
+    private static final int RESTORE = 3;
+    private static final int TRANSLATE = 4;
+    private static final int ROTATE = 5;
+    private static final int SET_TRANSFORM = 6;
+    private static final int SET_GLOBAL_ALPHA = 7;
+    private static final int SET_EFFECT = 8;
+    private static final int DRAW_REGION = 9;
+    private static final int DRAW_BAKED_REGION = 10;
+
+    private static final int INITIAL_CAPACITY = 256;
+
+    private int[] ops = new int[INITIAL_CAPACITY];
+    // Index of the first argument and of the first reference of each command
+    private int[] opArgs = new int[INITIAL_CAPACITY];
+    private int[] opRefs = new int[INITIAL_CAPACITY];
+    private double[] args = new double[INITIAL_CAPACITY * 4];
+    private Object[] refs = new Object[INITIAL_CAPACITY];
+    private int opCount;
+    private int argCount;
+    private int refCount;
+
+    RenderCommandBuffer() {
+    }
+
+    /**
+     * Records a {@link GraphicsContext#drawImage(Image, double, double, double, double)} call.
+     *
+     * @param image the image to draw
+     * @param x the x coordinate on the canvas
+     * @param y the y coordinate on the canvas
+     * @param width the width of the drawn image
+     * @param height the height of the drawn image
+     */
+    public void drawImage(final Image image, final double x, final double y, final double width, final double height) {
+        addOp(DRAW_IMAGE, image);
+        addArgs(x, y, width, height);
+    }
+
+    /**
+     * Records a {@link GraphicsContext#drawImage(Image, double, double, double, double, double, double, double, double)}
+     * call drawing the given atlas region.
+     *
+     * @param region the atlas region to draw
+     * @param x the x coordinate on the canvas
+     * @param y the y coordinate on the canvas
+     * @param width the width of the drawn region
+     * @param height the height of the drawn region
+     */
+    public void drawImage(final AtlasRegion region, final double x, final double y,
+                          final double width, final double height) {
+        addOp(DRAW_REGION, region.atlas());
+        addArgs(region.x(), region.y(), region.width(), region.height());
+        addArgs(x, y, width, height);
+    }
+
+    /**
+     * Records a {@link GraphicsContext#fillRect(double, double, double, double)} call preceded by
+     * {@link GraphicsContext#setFill(Paint)}. The fill is left set after the rectangle has been drawn.
+     *
+     * @param paint the fill of the rectangle
+     * @param x the x coordinate on the canvas
+     * @param y the y coordinate on the canvas
+     * @param width the width of the rectangle
+     * @param height the height of the rectangle
+     */
+    public void fillRect(final Paint paint, final double x, final double y, final double width, final double height) {
+        addOp(FILL_RECT, paint);
+        addArgs(x, y, width, height);
+    }
+
+    /**
+     * Records a {@link GraphicsContext#save()} call.
+     */
+    public void save() {
+        addOp(SAVE, null);
+    }
+
+    /**
+     * Records a {@link GraphicsContext#restore()} call.
+     */
+    public void restore() {
+        addOp(RESTORE, null);
+    }
+
+    /**
+     * Records a {@link GraphicsContext#translate(double, double)} call.
+     *
+     * @param x the translation on the x-axis
+     * @param y the translation on the y-axis
+     */
+    public void translate(final double x, final double y) {
+        addOp(TRANSLATE, null);
+        addArgs(x, y);
+    }
+
+    /**
+     * Records a {@link GraphicsContext#rotate(double)} call.
+     *
+     * @param degrees the clockwise rotation in degrees
+     */
+    public void rotate(final double degrees) {
+        addOp(ROTATE, null);
+        addArgs(degrees);
+    }
+
+    /**
+     * Records a {@link GraphicsContext#setTransform(double, double, double, double, double, double)} call.
+     *
+     * @param mxx the X coordinate scaling element
+     * @param myx the Y coordinate shearing element
+     * @param mxy the X coordinate shearing element
+     * @param myy the Y coordinate scaling element
+     * @param mxt the X coordinate translation element
+     * @param myt the Y coordinate translation element
+     */
+    public void setTransform(final double mxx, final double myx, final double mxy,
+                             final double myy, final double mxt, final double myt) {
+        addOp(SET_TRANSFORM, null);
+        addArgs(mxx, myx, mxy, myy);
+        addArgs(mxt, myt);
+    }
+
+    /**
+     * Records drawing the given atlas region with the given effect baked into it by the {@link EffectBaker},
+     * which gives the same result as drawing it under {@link #setEffect(Effect)} without applying the effect
+     * on every frame. The effect must be a constant that is never modified.
+     *
+     * @param region the atlas region to draw
+     * @param effect the constant effect applied to the region
+     * @param x the x coordinate on the canvas
+     * @param y the y coordinate on the canvas
+     * @param width the width of the drawn region
+     * @param height the height of the drawn region
+     */
+    public void drawImage(final AtlasRegion region, final Effect effect, final double x, final double y,
+                          final double width, final double height) {
+        // The region is baked on playback, which happens on the JavaFX Application thread
+        addOp(DRAW_BAKED_REGION, region);
+        addRef(effect);
+        addArgs(x, y, width, height);
+    }
+
+    /**
+     * Records a {@link GraphicsContext#setGlobalAlpha(double)} call.
+     *
+     * @param alpha the new global alpha
+     */
+    public void setGlobalAlpha(final double alpha) {
+        addOp(SET_GLOBAL_ALPHA, null);
+        addArgs(alpha);
+    }
+
+    /**
+     * Records a {@link GraphicsContext#setEffect(Effect)} call.
+     * The effect is read when the commands are played back, so it must not be changed afterwards.
+     *
+     * @param effect the effect to apply, or {@code null} to remove it
+     */
+    public void setEffect(final Effect effect) {
+        addOp(SET_EFFECT, effect);
+    }
+
+    /**
+     * Returns the number of recorded commands.
+     *
+     * @return the number of recorded commands
+     */
+    public int size() {
+        return opCount;
+    }
+
+    /**
+     * Plays back the commands in the range {@code [from, to)} on the given {@link GraphicsContext}.
+     *
+     * @param gc the graphics context to draw on
+     * @param from the index of the first command to play back
+     * @param to the index after the last command to play back
+     */
+    void replay(final GraphicsContext gc, final int from, final int to) {
+        for (int i = from; i < to; i++) {
+            final int a = opArgs[i];
+            final Object ref = refs[opRefs[i]];
+            switch (ops[i]) {
+                case DRAW_IMAGE -> gc.drawImage((Image) ref, args[a], args[a + 1], args[a + 2], args[a + 3]);
+                case DRAW_REGION -> gc.drawImage((Image) ref, args[a], args[a + 1], args[a + 2], args[a + 3],
+                        args[a + 4], args[a + 5], args[a + 6], args[a + 7]);
+                case FILL_RECT -> {
+                    gc.setFill((Paint) ref);
+                    gc.fillRect(args[a], args[a + 1], args[a + 2], args[a + 3]);
+                }
+                case SAVE -> gc.save();
+                case RESTORE -> gc.restore();
+                case TRANSLATE -> gc.translate(args[a], args[a + 1]);
+                case ROTATE -> gc.rotate(args[a]);
+                case SET_TRANSFORM -> gc.setTransform(args[a], args[a + 1], args[a + 2],
+                        args[a + 3], args[a + 4], args[a + 5]);
+                case SET_GLOBAL_ALPHA -> gc.setGlobalAlpha(args[a]);
+                case SET_EFFECT -> gc.setEffect((Effect) ref);
+                case DRAW_BAKED_REGION -> EffectBaker.bake((AtlasRegion) ref, (Effect) refs[opRefs[i] + 1])
+                        .draw(gc, args[a], args[a + 1], args[a + 2], args[a + 3]);
+                default -> throw new IllegalStateException("Unknown render command: " + ops[i]);
+            }
+        }
+    }
+
+    /**
+     * Mixes the commands in the range {@code [from, to)} into the given hash: their opcodes, their arguments
+     * and the identity of the objects they refer to. Ranges recording the same calls on the same objects
+     * always give the same hash, while any difference in the recorded calls changes it.
+     *
+     * @param hash the hash to mix the commands into
+     * @param from the index of the first command
+     * @param to the index after the last command
+     * @return the hash mixed with the commands
+     */
+    long hash(final long hash, final int from, final int to) {
+        if (from >= to) {
+            return hash;
+        }
+        long result = hash;
+        for (int i = from; i < to; i++) {
+            result = mix(result, ops[i]);
+        }
+        final int argsEnd = to < opCount ? opArgs[to] : argCount;
+        for (int i = opArgs[from]; i < argsEnd; i++) {
+            result = mix(result, Double.doubleToLongBits(args[i]));
+        }
+        final int refsEnd = to < opCount ? opRefs[to] : refCount;
+        for (int i = opRefs[from]; i < refsEnd; i++) {
+            result = mix(result, System.identityHashCode(refs[i]));
+        }
+        return result;
+    }
+
+    /**
+     * One step of the 64-bit multiplicative hash of the commands.
+     *
+     * @param hash the hash so far
+     * @param value the value to mix into the hash
+     * @return the hash mixed with the value
+     */
+    static long mix(final long hash, final long value) {
+        final long h = (hash ^ value) * 0x9E3779B97F4A7C15L;
+        return h ^ h >>> 32;
+    }
+
+    /**
+     * Discards all the recorded commands, keeping the allocated capacity.
+     */
+    void clear() {
+        // Drops the references so that images are not kept alive by the buffer
+        Arrays.fill(refs, 0, refCount, null);
+        opCount = 0;
+        argCount = 0;
+        refCount = 0;
+    }
+
+    private void addOp(final int op, final Object ref) {
+        if (opCount == ops.length) {
+            final int capacity = opCount * 2;
+            ops = Arrays.copyOf(ops, capacity);
+            opArgs = Arrays.copyOf(opArgs, capacity);
+            opRefs = Arrays.copyOf(opRefs, capacity);
+        }
+        if (refCount == refs.length) {
+            refs = Arrays.copyOf(refs, refCount * 2);
+        }
+        ops[opCount] = op;
+        opArgs[opCount] = argCount;
+        opRefs[opCount] = refCount;
+        opCount++;
+        refs[refCount++] = ref;
+    }
+
+    // Adds a further reference to the last command
+    private void addRef(final Object ref) {
+        if (refCount == refs.length) {
+            refs = Arrays.copyOf(refs, refCount * 2);
+        }
+        refs[refCount++] = ref;
+    }
+
+    private void addArgs(final double a0) {
+        ensureArgCapacity(1);
+        args[argCount++] = a0;
+    }
+
+    private void addArgs(final double a0, final double a1) {
+        ensureArgCapacity(2);
+        args[argCount++] = a0;
+        args[argCount++] = a1;
+    }
+
+    private void addArgs(final double a0, final double a1, final double a2, final double a3) {
+        ensureArgCapacity(4);
+        args[argCount++] = a0;
+        args[argCount++] = a1;
+        args[argCount++] = a2;
+        args[argCount++] = a3;
+    }
+
+    private void ensureArgCapacity(final int needed) {
+        if (argCount + needed > args.length) {
+            args = Arrays.copyOf(args, Math.max(args.length * 2, argCount + needed));
+        }
+    }
+}
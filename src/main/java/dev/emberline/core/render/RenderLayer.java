@@ -0,0 +1,50 @@
+package dev.emberline.core.render;
+
+/**
+ * The {@code RenderLayer} enum defines the groups of {@link RenderPriority} that are drawn on a canvas of their own,
+ * stacked from the first constant, at the bottom, to the last one, on top.
+ * <p>
+ * Each layer is cleared and drawn again only when what it shows changes, so that for example the static map
+ * and the GUI are not drawn again on every frame just because the enemies moved.
+ * <p>
+ * The canvas of a render-scaled layer is drawn at the render scale of the {@link Renderer} and then stretched
+ * over the screen, trading the resolution of the layer for fill rate.
+ *
+ * @see Renderer
+ */
+public enum RenderLayer {
+    /**
+     * The layer of the map and of the menu backgrounds.
+     */
+    BACKGROUND(false),
+    /**
+     * The layer of the entities of the world: buildings, enemies, projectiles and tower ranges.
+     * It is drawn again on almost every frame during a wave, so it is render-scaled.
+     */
+    WORLD(true),
+    /**
+     * The layer of the fog hiding the edges of the world.
+     */
+    FOG(false),
+    /**
+     * The layer of the GUI elements, whose text is always drawn at the native resolution.
+     */
+    GUI(false);
+
+    private final boolean renderScaled;
+
+    RenderLayer(final boolean renderScaled) {
+        this.renderScaled = renderScaled;
+    }
+
+    /**
+     * Returns whether the canvas of this layer is drawn at the render scale of the {@link Renderer}.
+     * The canvas of a render-scaled layer is sized by the {@link Renderer}, and must not be bound to the screen size.
+     *
+     * @return {@code true} if this layer is render-scaled
+     * @see Renderer#setRenderScale(double)
+     */
+    public boolean isRenderScaled() {
+        return renderScaled;
+    }
+}
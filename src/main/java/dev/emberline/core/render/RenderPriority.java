@@ -10,7 +10,8 @@ package dev.emberline.core.render;
  * layering in the rendered output.
  * <p>
  * Each constant is associated with a specific integer priority value, which can be
- * retrieved using the {@link #getPriority()} method.
+ * retrieved using the {@link #getPriority()} method, and with the {@link RenderLayer} it is drawn on.
+ * Priorities sharing the same value must share the same layer.
  */
 public enum RenderPriority {
     /**
@@ -20,31 +21,31 @@ public enum RenderPriority {
      * <p>
      * The associated priority value is {@code 21}.
      */
-    GUI_HIGH(21),
+    GUI_HIGH(21, RenderLayer.GUI),
     /**
      * Represents the rendering priority for standard GUI elements.
      * <p>
      * The associated priority value is {@code 20}.
      */
-    GUI(20),
+    GUI(20, RenderLayer.GUI),
     /**
      * Represents the rendering priority for fog elements.
      * <p>
      * The associated priority value is {@code 19}.
      */
-    FOG(19),
+    FOG(19, RenderLayer.FOG),
     /**
      * Represents the rendering priority for projectile elements.
      * <p>
      * The associated priority value is {@code 15}.
      */
-    PROJECTILES(15),
+    PROJECTILES(15, RenderLayer.WORLD),
     /**
      * Represents the rendering priority for the radius of towers in the application.
      * <p>
      * The associated priority value is {@code 11}.
      */
-    TOWER_RADIUS(11),
+    TOWER_RADIUS(11, RenderLayer.WORLD),
     /**
      * Represents the rendering priority for enemy entities in the application.
      * <p>
@@ -53,7 +54,7 @@ public enum RenderPriority {
      * <p>
      * The associated priority value is {@code 10}.
      */
-    ENEMIES(10),
+    ENEMIES(10, RenderLayer.WORLD),
     /**
      * Represents the rendering priority for buildings entities in the application.
      * <p>
@@ -62,7 +63,7 @@ public enum RenderPriority {
      * <p>
      * The associated priority value is {@code 10}.
      */
-    BUILDINGS(10),
+    BUILDINGS(10, RenderLayer.WORLD),
     /**
      * Represents the rendering priority for background layers in the application.
      * This is the lowest priority, ensuring that background elements are rendered
@@ -70,12 +71,14 @@ public enum RenderPriority {
      * <p>
      * The associated priority value is {@code 1}.
      */
-    BACKGROUND(1);
+    BACKGROUND(1, RenderLayer.BACKGROUND);
 
     private final int priority;
+    private final RenderLayer layer;
 
-    RenderPriority(final int priority) {
+    RenderPriority(final int priority, final RenderLayer layer) {
         this.priority = priority;
+        this.layer = layer;
     }
 
     /**
@@ -88,4 +91,13 @@ public enum RenderPriority {
     public int getPriority() {
         return priority;
     }
+
+    /**
+     * Retrieves the layer the elements of this priority are drawn on.
+     *
+     * @return the {@link RenderLayer} of this priority
+     */
+    public RenderLayer getLayer() {
+        return layer;
+    }
 }
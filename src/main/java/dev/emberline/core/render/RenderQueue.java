@@ -0,0 +1,289 @@
+package dev.emberline.core.render;
+
+import javafx.scene.canvas.GraphicsContext;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The {@code RenderQueue} collects what has to be drawn in a frame and runs it in the correct order.
+ * <p>
+ * An entry of the queue is either a {@link RenderTask} or a range of commands recorded in the
+ * {@link RenderCommandBuffer} owned by the queue. Entries are appended to one bucket for each distinct
+ * {@link RenderPriority} value, which keeps the insertion order. When the queue is drained the buckets are
+ * run from the lowest to the highest priority; a bucket is sorted only if at least one of its entries has
+ * a z-order, and the sort is stable, so entries with the same z-order are still run in insertion order.
+ * Entries without z-order in a sorted bucket count as having a z-order of {@code 0}.
+ * <p>
+ * This yields the same order as sorting all the tasks with {@link RenderTask#compareTo(RenderTask)}
+ * and an increasing secondary priority, without the cost of a heap. Buckets are made of primitive
+ * arrays that are reused frame after frame.
+ * <p>
+ * Every bucket belongs to the {@link RenderLayer} of its priorities, and the layers can be run one at a time,
+ * each on its own canvas. The {@link #signature(RenderLayer) signature} of a layer tells whether it draws
+ * the same as in a previous frame, so that it need not be drawn again.
+ * <p>
+ * The queue is not thread-safe: filling and draining must not overlap, and the caller is responsible
+ * for the hand-off between the threads doing them.
+ */
+final class RenderQueue {
+    // Bucket index of every RenderPriority, indexed by ordinal
+    private static final int[] BUCKET_INDEX = new int[RenderPriority.values().length];
+    private static final int BUCKETS;
+    // Layer of every bucket
+    private static final RenderLayer[] BUCKET_LAYER;
+
+    static {
+        final int[] priorities = Arrays.stream(RenderPriority.values())
+                .mapToInt(RenderPriority::getPriority)
+                .distinct()
+                .sorted()
+                .toArray();
+        for (final RenderPriority renderPriority : RenderPriority.values()) {
+            BUCKET_INDEX[renderPriority.ordinal()] = Arrays.binarySearch(priorities, renderPriority.getPriority());
+        }
+        BUCKETS = priorities.length;
+        BUCKET_LAYER = new RenderLayer[BUCKETS];
+        for (final RenderPriority renderPriority : RenderPriority.values()) {
+            BUCKET_LAYER[BUCKET_INDEX[renderPriority.ordinal()]] = renderPriority.getLayer();
+        }
+    }
+
+    private final Bucket[] buckets = new Bucket[BUCKETS];
+    private final RenderCommandBuffer commandBuffer = new RenderCommandBuffer();
+    // Entry whose command range is still being recorded, if any
+    private Bucket openBucket;
+    private int size;
+
+    /**
+     * Creates an empty {@code RenderQueue}.
+     */
+    RenderQueue() {
+        for (int i = 0; i < BUCKETS; i++) {
+            buckets[i] = new Bucket();
+        }
+    }
+
+    /**
+     * Appends a task to the bucket of its priority.
+     *
+     * @param renderTask the task to add, must not be null
+     * @throws NullPointerException if renderTask is null
+     */
+    void add(final RenderTask renderTask) {
+        closeCommands();
+        final RenderPriority renderPriority = Objects.requireNonNull(renderTask).getRenderPriority();
+        buckets[BUCKET_INDEX[renderPriority.ordinal()]].add(renderTask, renderTask.isZOrderEnabled(),
+                renderTask.getZOrder(), 0);
+        size++;
+    }
+
+    /**
+     * Appends an entry to the bucket of the given priority, made of all the commands recorded on the
+     * returned buffer until the next call to {@code add}, {@code recordCommands} or {@code runAndClear}.
+     *
+     * @param renderPriority the priority of the entry
+     * @param zOrderEnabled whether the entry has a z-order
+     * @param zOrder the z-order of the entry, ignored if not enabled
+     * @return the buffer to record the commands on
+     */
+    RenderCommandBuffer recordCommands(final RenderPriority renderPriority, final boolean zOrderEnabled,
+                                       final double zOrder) {
+        closeCommands();
+        openBucket = buckets[BUCKET_INDEX[renderPriority.ordinal()]];
+        openBucket.add(null, zOrderEnabled, zOrderEnabled ? zOrder : 0, commandBuffer.size());
+        size++;
+        return commandBuffer;
+    }
+
+    /**
+     * Runs all the entries in rendering order and empties the queue.
+     *
+     * @param gc the graphics context on which recorded commands are played back
+     */
+    void runAndClear(final GraphicsContext gc) {
+        closeCommands();
+        for (final Bucket bucket : buckets) {
+            bucket.runAndClear(gc, commandBuffer);
+        }
+        commandBuffer.clear();
+        size = 0;
+    }
+
+    /**
+     * Runs the entries of the given layer in rendering order and removes them from the queue.
+     * The recorded commands are kept until the queue is {@link #clear() cleared}, which must follow once
+     * all the layers to draw have been run.
+     *
+     * @param gc the graphics context on which the entries of the layer are drawn
+     * @param layer the layer to run
+     */
+    void runLayer(final GraphicsContext gc, final RenderLayer layer) {
+        closeCommands();
+        for (int b = 0; b < BUCKETS; b++) {
+            if (BUCKET_LAYER[b] == layer) {
+                size -= buckets[b].count;
+                buckets[b].runAndClear(gc, commandBuffer);
+            }
+        }
+    }
+
+    /**
+     * Returns the identity of what the entries of the given layer draw: two frames whose layers have
+     * equal signatures draw the same pixels on that layer.
+     *
+     * @param layer the layer
+     * @return the signature of the layer, or {@code null} if one of its tasks has no content key
+     * @see RenderTask#withContentKey(Object)
+     */
+    LayerSignature signature(final RenderLayer layer) {
+        closeCommands();
+        final List<Object> contentKeys = new ArrayList<>();
+        long commandsHash = 0;
+        for (int b = 0; b < BUCKETS; b++) {
+            if (BUCKET_LAYER[b] != layer) {
+                continue;
+            }
+            final Bucket bucket = buckets[b];
+            for (int i = 0; i < bucket.count; i++) {
+                commandsHash = RenderCommandBuffer.mix(commandsHash, Double.doubleToLongBits(bucket.zOrders[i]));
+                final RenderTask task = bucket.tasks[i];
+                if (task == null) {
+                    commandsHash = commandBuffer.hash(commandsHash, bucket.commandsStart[i], bucket.commandsEnd[i]);
+                } else if (task.getContentKey() == null) {
+                    return null;
+                } else {
+                    contentKeys.add(task.getContentKey());
+                }
+            }
+            // Entries moving between the buckets of the layer change what is drawn
+            commandsHash = RenderCommandBuffer.mix(commandsHash, bucket.count);
+        }
+        return new LayerSignature(contentKeys, commandsHash);
+    }
+
+    /**
+     * Empties the queue without running its entries.
+     */
+    void clear() {
+        closeCommands();
+        for (final Bucket bucket : buckets) {
+            bucket.clear();
+        }
+        commandBuffer.clear();
+        size = 0;
+    }
+
+    /**
+     * Returns the number of entries waiting to be run.
+     *
+     * @return the number of queued entries
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * The identity of what a layer draws in a frame.
+     *
+     * @param contentKeys the content keys of the tasks of the layer, in insertion order
+     * @param commandsHash the hash of the command ranges and of the z-orders of the entries of the layer
+     */
+    record LayerSignature(List<Object> contentKeys, long commandsHash) {
+    }
+
+    private void closeCommands() {
+        if (openBucket != null) {
+            openBucket.commandsEnd[openBucket.count - 1] = commandBuffer.size();
+            openBucket = null;
+        }
+    }
+
+    /**
+     * The entries sharing the same priority value, stored in parallel arrays.
+     */
+    private static final class Bucket {
+        private static final int INITIAL_CAPACITY = 64;
+
+        // The task of each entry, null for command ranges
+        private RenderTask[] tasks = new RenderTask[INITIAL_CAPACITY];
+        private double[] zOrders = new double[INITIAL_CAPACITY];
+        private int[] commandsStart = new int[INITIAL_CAPACITY];
+        private int[] commandsEnd = new int[INITIAL_CAPACITY];
+        // Order in which the entries are run, and scratch space to sort it
+        private int[] order = new int[INITIAL_CAPACITY];
+        private int[] scratch = new int[INITIAL_CAPACITY];
+        private int count;
+        private boolean zOrdered;
+
+        private void add(final RenderTask task, final boolean zOrderEnabled, final double zOrder,
+                         final int commandStart) {
+            if (count == tasks.length) {
+                final int capacity = count * 2;
+                tasks = Arrays.copyOf(tasks, capacity);
+                zOrders = Arrays.copyOf(zOrders, capacity);
+                commandsStart = Arrays.copyOf(commandsStart, capacity);
+                commandsEnd = Arrays.copyOf(commandsEnd, capacity);
+                order = new int[capacity];
+                scratch = new int[capacity];
+            }
+            tasks[count] = task;
+            zOrders[count] = zOrder;
+            commandsStart[count] = commandStart;
+            commandsEnd[count] = commandStart;
+            zOrdered |= zOrderEnabled;
+            count++;
+        }
+
+        private void runAndClear(final GraphicsContext gc, final RenderCommandBuffer commandBuffer) {
+            for (int i = 0; i < count; i++) {
+                order[i] = i;
+            }
+            if (zOrdered) {
+                sortByZOrder(0, count);
+            }
+            for (int i = 0; i < count; i++) {
+                final int entry = order[i];
+                if (tasks[entry] == null) {
+                    commandBuffer.replay(gc, commandsStart[entry], commandsEnd[entry]);
+                } else {
+                    tasks[entry].run();
+                    tasks[entry] = null;
+                }
+            }
+            count = 0;
+            zOrdered = false;
+        }
+
+        private void clear() {
+            Arrays.fill(tasks, 0, count, null);
+            count = 0;
+            zOrdered = false;
+        }
+
+        // Stable merge sort of order[from, to) by z-order
+        private void sortByZOrder(final int from, final int to) {
+            if (to - from < 2) {
+                return;
+            }
+            final int mid = (from + to) >>> 1;
+            sortByZOrder(from, mid);
+            sortByZOrder(mid, to);
+            if (zOrders[order[mid - 1]] <= zOrders[order[mid]]) {
+                return; // Already in order
+            }
+            System.arraycopy(order, from, scratch, from, to - from);
+            int left = from;
+            int right = mid;
+            for (int i = from; i < to; i++) {
+                if (right >= to || left < mid && zOrders[scratch[left]] <= zOrders[scratch[right]]) {
+                    order[i] = scratch[left++];
+                } else {
+                    order[i] = scratch[right++];
+                }
+            }
+        }
+    }
+}
@@ -15,6 +15,8 @@ public class RenderTask implements Comparable<RenderTask>, Runnable {
     private double zOrder;
     private long secondaryPriority; //lower values get rendered first
     private final Runnable runnable;
+    // Identity of what the task draws, null if it may change on every frame
+    private Object contentKey;
 
     /**
      * Constructs a {@code RenderTask} with the specified rendering priority and runnable.
@@ -63,6 +65,60 @@ public class RenderTask implements Comparable<RenderTask>, Runnable {
         return this;
     }
 
+    /**
+     * Sets the identity of what this task draws, which must change whenever the task would draw
+     * something different, like the {@code key} of a {@link CachedLayer}.
+     * <p>
+     * The {@link RenderLayer} of the task is only drawn again when something it shows changes: a layer whose
+     * tasks all have a content key equal to the one of the last drawn frame, and whose recorded commands did not
+     * change, is left as it is. Tasks without a content key are assumed to draw something different on every frame.
+     * The coordinate systems only change when the canvas is resized, which redraws every layer, so they need
+     * not be part of the key.
+     *
+     * @param key the identity of what the task draws, compared with {@link Object#equals(Object)}
+     * @return the current {@code RenderTask} instance with the content key set
+     */
+    public RenderTask withContentKey(final Object key) {
+        this.contentKey = key;
+        return this;
+    }
+
+    /**
+     * Returns the identity of what this task draws.
+     *
+     * @return the content key of this task, {@code null} if it has not been set
+     */
+    Object getContentKey() {
+        return contentKey;
+    }
+
+    /**
+     * Returns the rendering priority of this task.
+     *
+     * @return the {@link RenderPriority} of this task
+     */
+    RenderPriority getRenderPriority() {
+        return renderPriority;
+    }
+
+    /**
+     * Returns whether the z-ordering is enabled for this task.
+     *
+     * @return {@code true} if {@link #enableZOrder(double)} has been called
+     */
+    boolean isZOrderEnabled() {
+        return zOrderEnabled;
+    }
+
+    /**
+     * Returns the z-order of this task, {@code 0} if the z-ordering is not enabled.
+     *
+     * @return the z-order value of this task
+     */
+    double getZOrder() {
+        return zOrder;
+    }
+
     /**
      * Compares this object with the specified object for order.
      *
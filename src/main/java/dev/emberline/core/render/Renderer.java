@@ -1,18 +1,21 @@
 package dev.emberline.core.render;
 
 import dev.emberline.core.components.RenderComponent;
-import dev.emberline.core.graphics.SpriteLoader;
-import dev.emberline.core.graphics.spritekeys.StringSpriteKey;
+import dev.emberline.core.graphics.GlyphAtlas;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import javafx.application.Platform;
 import javafx.scene.canvas.Canvas;
 import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.effect.Effect;
 import javafx.scene.image.Image;
+import javafx.scene.transform.Scale;
 
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Locale;
-import java.util.Objects;
-import java.util.Queue;
-import java.util.concurrent.PriorityBlockingQueue;
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
@@ -21,9 +24,28 @@ import java.util.concurrent.atomic.AtomicBoolean;
  * It does that in a thread-safe manner by ensuring they are executed
  * on the JavaFX Application thread using the {@link Platform#runLater(Runnable)} method.
  * <p>
- * To make sure the JavaFX run later queue doesn't get flooded due to not keeping up, when a run later
- * call is due an {@link AtomicBoolean} {@code isRunningLater} is set to {@code true} and no other {@link RenderTask}
- * are added until it has finished. The {@code Runnable} in the run later call is responsible for resetting the flag.
+ * Every frame is recorded by the game thread in its own {@link RenderQueue}, which is a snapshot of the
+ * game state: draw commands and tasks only capture values computed while rendering. Complete frames are
+ * published through a lock-free {@link TripleBuffer}, and the JavaFX Application thread always draws the newest
+ * one, so the game thread never waits for the drawing to finish and never skips recording a frame.
+ * To make sure the JavaFX run later queue doesn't get flooded due to not keeping up, an {@link AtomicBoolean}
+ * {@code isDrawScheduled} allows a single pending run later call at a time.
+ * <p>
+ * Frames are only rendered when the root asks for it through {@link RenderComponent#isRedrawNeeded()}
+ * or when the canvas has been resized, otherwise the last frame stays on screen.
+ * <p>
+ * Every {@link RenderLayer} can be drawn on a canvas of its own, the canvases being stacked in the order of
+ * the layers. A canvas is only cleared and drawn again when one of its layers draws something different
+ * from what is on screen, as told by the {@link RenderQueue#signature(RenderLayer) signature} of the layer:
+ * the static map stays on its canvas while the enemies move, and the GUI is not drawn again until it changes.
+ * Layers sharing a canvas are drawn again together.
+ * <p>
+ * The canvas of a {@link RenderLayer#isRenderScaled() render-scaled} layer is drawn at the
+ * {@link #setRenderScale(double) render scale}, with sprites sampled by nearest neighbour, and stretched back over
+ * the screen, while the other layers, like the GUI text, keep the native resolution.
+ * <p>
+ * The time taken to draw the frames, and the frames replaced before being drawn, drive a {@link QualityGovernor}:
+ * render components read the active {@link #getQualityTier() quality tier} and leave out the effects it sheds.
  * <p>
  * The {@code Renderer} is also responsible to keep updated the {@code worldCoordinateSystem},
  * and the {@code guiCoordinateSystem} based on the attached {@link Canvas}.
@@ -42,23 +64,43 @@ public class Renderer {
      */
     public static final int GUICS_WIDTH = 32;
 
+    private static final RenderLayer[] LAYERS = RenderLayer.values();
+
     // JavaFX Canvas, only JavaFX thread can modify the scene graph, do not modify the scene graph from another thread
+    // The canvas of the background, whose size is the size of all the canvases
     private final Canvas canvas;
     // Last used canvas dimensions
     private double lastUsedCanvasWidth;
     private double lastUsedCanvasHeight;
+    // Fraction of the screen resolution at which render-scaled layers are drawn
+    private volatile double renderScale = 1;
+    private double lastUsedRenderScale = 1;
 
-    private final GraphicsContext gc;
-    private final AtomicBoolean isRunningLater = new AtomicBoolean(false);
+    // Graphics context of every layer, indexed by ordinal
+    private final GraphicsContext[] layerGcs = new GraphicsContext[LAYERS.length];
+    // Canvases from the bottom one, with the layers drawn on each one
+    private final List<Surface> surfaces = new ArrayList<>();
+    private final AtomicBoolean isDrawScheduled = new AtomicBoolean(false);
+    // Time taken by the JavaFX Application thread to draw the last frame
+    private volatile long lastDrawNs;
+    private final QualityGovernor qualityGovernor = new QualityGovernor(DEFAULT_FRAME_BUDGET_NS);
 
     private final RenderComponent root;
 
     private final CoordinateSystem worldCoordinateSystem = new CoordinateSystem(0, 0, 32, 18);
     private final CoordinateSystem guiCoordinateSystem = new CoordinateSystem(0, 0, GUICS_WIDTH, GUICS_HEIGHT);
 
-    // Rendering queue
-    private final Queue<RenderTask> renderQueue = new PriorityBlockingQueue<>();
-    private long taskOrderingCounter;
+    // Fraction of the update step elapsed since the last update, see getInterpolationAlpha()
+    private double interpolationAlpha = 1;
+
+    // Entities drawn and culled in the frame being recorded, and in the last recorded frame
+    private int drawnEntities;
+    private int culledEntities;
+    private volatile int lastFrameDrawnEntities;
+    private volatile int lastFrameCulledEntities;
+
+    // Frames recorded by the game thread and drawn by the JavaFX thread
+    private final TripleBuffer<Frame> frames = new TripleBuffer<>(Frame::new);
 
     // drawtext centering height margin
     private static final double CENTER_TEXT_H_MARGIN = 0.07;
@@ -66,59 +108,129 @@ public class Renderer {
     private static final double MIN_TEXT_AREA_PX_UPPERCASE = 500;
     // Minimum text height in pixels before enabling image smoothing
     private static final double MIN_TEXT_HEIGHT_PX_SMOOTH = 20;
+    private static final long DEFAULT_FRAME_BUDGET_NS = 1_000_000_000L / 60;
 
     /**
-     * Constructs a Renderer instance.
+     * Constructs a Renderer instance drawing all the layers on a single canvas,
+     * which is drawn again whenever any of them changes.
      *
      * @param root   the root Renderable object of the rendering hierarchy, used as the starting point for rendering operations
      * @param canvas the Canvas object on where the draw calls are performed
      * @see Renderer
      */
+    public Renderer(final RenderComponent root, final Canvas canvas) {
+        this(root, allLayersOn(canvas));
+    }
+
+    /**
+     * Constructs a Renderer instance drawing every layer on the given canvas.
+     * The canvases must have the same size and be stacked in the order of the layers.
+     *
+     * @param root     the root Renderable object of the rendering hierarchy, used as the starting point for rendering operations
+     * @param canvases the canvas of every layer, the same canvas may be shared by several layers
+     * @throws IllegalArgumentException if a layer has no canvas
+     * @see Renderer
+     */
     @SuppressFBWarnings(
             value = "EI_EXPOSE_REP2",
             justification = "This is intended behavior, the canvas is "
                     + "mutable and the Renderer reads its changes to keep "
                     + "up with the internal rendering logic."
     )
-    public Renderer(final RenderComponent root, final Canvas canvas) {
+    public Renderer(final RenderComponent root, final Map<RenderLayer, Canvas> canvases) {
         this.root = root;
-        this.canvas = canvas;
-        this.gc = canvas.getGraphicsContext2D();
+        final Map<Canvas, Surface> surfaceByCanvas = new IdentityHashMap<>();
+        for (final RenderLayer layer : LAYERS) {
+            final Canvas layerCanvas = canvases.get(layer);
+            if (layerCanvas == null) {
+                throw new IllegalArgumentException("No canvas for the layer " + layer);
+            }
+            final Surface surface = surfaceByCanvas.computeIfAbsent(layerCanvas, c -> {
+                final Surface newSurface = new Surface(c.getGraphicsContext2D());
+                surfaces.add(newSurface);
+                return newSurface;
+            });
+            surface.layers.add(layer);
+            layerGcs[layer.ordinal()] = surface.gc;
+        }
+        this.canvas = canvases.get(RenderLayer.BACKGROUND);
         this.lastUsedCanvasWidth = canvas.getWidth();
         this.lastUsedCanvasHeight = canvas.getHeight();
     }
 
+    private static Map<RenderLayer, Canvas> allLayersOn(final Canvas canvas) {
+        final Map<RenderLayer, Canvas> canvases = new EnumMap<>(RenderLayer.class);
+        for (final RenderLayer layer : LAYERS) {
+            canvases.put(layer, canvas);
+        }
+        return canvases;
+    }
+
     /**
      * Triggers the rendering process for the associated root {@link RenderComponent} on the attached {@link Canvas}.
      * @see Renderer
      */
     public void render() {
-        if (isRunningLater.get()) {
-            return; // Busy waiting
+        final double canvasWidth = canvas.getWidth();
+        final double canvasHeight = canvas.getHeight();
+        final double currentRenderScale = renderScale;
+        final boolean sizeChanged = canvasWidth != lastUsedCanvasWidth || canvasHeight != lastUsedCanvasHeight
+                || currentRenderScale != lastUsedRenderScale;
+        if (!sizeChanged && !root.isRedrawNeeded()) {
+            return; // Nothing changed, the last frame is still valid
         }
-        isRunningLater.set(true);
 
-        lastUsedCanvasWidth = canvas.getWidth();
-        lastUsedCanvasHeight = canvas.getHeight();
+        lastUsedCanvasWidth = canvasWidth;
+        lastUsedCanvasHeight = canvasHeight;
+        lastUsedRenderScale = currentRenderScale;
 
         // Updates of the coordinate systems
         worldCoordinateSystem.update(lastUsedCanvasWidth, lastUsedCanvasHeight);
         guiCoordinateSystem.update(lastUsedCanvasWidth, lastUsedCanvasHeight);
 
+        // The back frame may hold an older frame that was never drawn
+        final Frame frame = frames.getBack();
+        frame.renderQueue.clear();
+        frame.width = lastUsedCanvasWidth;
+        frame.height = lastUsedCanvasHeight;
+        frame.renderScale = lastUsedRenderScale;
+
         // Fills up the renderQueue
+        drawnEntities = 0;
+        culledEntities = 0;
         root.render();
+        for (final RenderLayer layer : LAYERS) {
+            frame.signatures[layer.ordinal()] = frame.renderQueue.signature(layer);
+        }
+        lastFrameDrawnEntities = drawnEntities;
+        lastFrameCulledEntities = culledEntities;
 
-        Platform.runLater(() -> {
-            gc.setImageSmoothing(false);
-            gc.clearRect(0, 0, lastUsedCanvasWidth, lastUsedCanvasHeight);
+        frames.publish();
+        // A draw still pending means the previous frame is replaced without ever being drawn
+        final boolean dropped = !isDrawScheduled.compareAndSet(false, true);
+        if (!dropped) {
+            Platform.runLater(this::drawNewestFrame);
+        }
+        qualityGovernor.recordFrame(lastDrawNs, dropped);
+    }
 
-            while (!renderQueue.isEmpty()) {
-                final RenderTask rt = renderQueue.poll();
-                rt.run();
+    // Must be called on the JavaFX Application thread
+    private void drawNewestFrame() {
+        // Reset before acquiring, a frame published from now on schedules another call
+        isDrawScheduled.set(false);
+        final Frame frame = frames.acquireNewest();
+        if (frame == null) {
+            return;
+        }
+        final long startNs = System.nanoTime();
+        for (final Surface surface : surfaces) {
+            if (!surface.isUpToDate(frame)) {
+                surface.draw(frame);
             }
-
-            isRunningLater.set(false);
-        });
+        }
+        // Drops the entries of the layers that were already on screen
+        frame.renderQueue.clear();
+        lastDrawNs = System.nanoTime() - startNs;
     }
 
     /**
@@ -139,6 +251,97 @@ public class Renderer {
         return lastUsedCanvasHeight;
     }
 
+    /**
+     * Sets the fraction of the screen resolution at which the {@link RenderLayer#isRenderScaled() render-scaled}
+     * layers are drawn. Lower values draw fewer pixels, at the cost of a coarser image.
+     * The next frame is rendered with the new scale.
+     *
+     * @param renderScale the render scale, in {@code (0, 1]}
+     * @throws IllegalArgumentException if {@code renderScale} is not in {@code (0, 1]}
+     */
+    public void setRenderScale(final double renderScale) {
+        if (!(renderScale > 0 && renderScale <= 1)) {
+            throw new IllegalArgumentException("The render scale must be in (0, 1]: " + renderScale);
+        }
+        this.renderScale = renderScale;
+    }
+
+    /**
+     * Sets the time available to draw a frame, against which the {@link #getQualityTier() quality tier} is chosen.
+     *
+     * @param frameBudgetNs the time available to draw a frame in nanoseconds
+     * @throws IllegalArgumentException if {@code frameBudgetNs} is not positive
+     */
+    public void setFrameBudgetNs(final long frameBudgetNs) {
+        qualityGovernor.setFrameBudgetNs(frameBudgetNs);
+    }
+
+    /**
+     * Returns the quality tier the frame being recorded is drawn at, lowered while frames exceed their budget
+     * and raised again when there is headroom. It must be called on the game thread.
+     *
+     * @return the active {@link QualityTier}
+     */
+    public QualityTier getQualityTier() {
+        return qualityGovernor.getTier();
+    }
+
+    /**
+     * Sets the fraction of the fixed update step that has elapsed since the last update.
+     * It must be called on the game thread before {@link #render()}.
+     *
+     * @param alpha the elapsed fraction of the update step, clamped to {@code [0, 1]}
+     * @see #getInterpolationAlpha()
+     */
+    public void setInterpolationAlpha(final double alpha) {
+        this.interpolationAlpha = Math.clamp(alpha, 0, 1);
+    }
+
+    /**
+     * Retrieves the fraction of the fixed update step that has elapsed since the last update.
+     * Render components of moving entities use it to draw them in between their previous and
+     * current simulated state, so that motion looks smooth regardless of the update rate.
+     * A value of {@code 0} corresponds to the previous state and {@code 1} to the current one.
+     *
+     * @return the interpolation factor in {@code [0, 1]}
+     */
+    public double getInterpolationAlpha() {
+        return interpolationAlpha;
+    }
+
+    /**
+     * Adds entities of the world to the statistics of the frame being recorded.
+     * Render components that skip entities outside the visible area report how many they drew and skipped.
+     *
+     * @param drawn the number of entities that have been drawn
+     * @param culled the number of entities that have been skipped
+     * @see CoordinateSystem#isVisible(double, double, double, double)
+     */
+    public void countEntities(final int drawn, final int culled) {
+        drawnEntities += drawn;
+        culledEntities += culled;
+    }
+
+    /**
+     * Returns the number of entities drawn in the last recorded frame.
+     *
+     * @return the number of drawn entities
+     * @see #countEntities(int, int)
+     */
+    public int getDrawnEntities() {
+        return lastFrameDrawnEntities;
+    }
+
+    /**
+     * Returns the number of entities skipped because outside the visible area in the last recorded frame.
+     *
+     * @return the number of culled entities
+     * @see #countEntities(int, int)
+     */
+    public int getCulledEntities() {
+        return lastFrameCulledEntities;
+    }
+
     /**
      * Adds a task to the rendering queue.
      *
@@ -146,21 +349,56 @@ public class Renderer {
      * @throws NullPointerException if renderTask is null
      */
     public void addRenderTask(final RenderTask renderTask) {
-        renderTask.setSecondaryPriority(taskOrderingCounter++);
-        renderQueue.add(Objects.requireNonNull(renderTask));
+        frames.getBack().renderQueue.add(renderTask);
+    }
+
+    /**
+     * Starts a new entry of the rendering queue made of draw commands instead of a {@link RenderTask}.
+     * All the commands recorded on the returned buffer, until the next call to {@link #addRenderTask(RenderTask)}
+     * or to one of the {@code recordCommands} methods, are played back together with the given priority.
+     * <p>
+     * Recording commands allocates nothing, it is meant for components rendered many times per frame.
+     * Coordinates are in screen space, as for the {@link GraphicsContext}.
+     *
+     * @param renderPriority the rendering priority of the commands
+     * @return the {@link RenderCommandBuffer} to record the commands on
+     */
+    @SuppressFBWarnings(
+            value = "EI_EXPOSE_REP",
+            justification = "This is intended behaviour as the buffer is used to record render commands.")
+    public RenderCommandBuffer recordCommands(final RenderPriority renderPriority) {
+        return frames.getBack().renderQueue.recordCommands(renderPriority, false, 0);
+    }
+
+    /**
+     * Starts a new entry of the rendering queue made of draw commands, drawn according to the given z-order.
+     *
+     * @param renderPriority the rendering priority of the commands
+     * @param lowestUnder the z-order of the commands, entries with lower values are drawn underneath
+     * @return the {@link RenderCommandBuffer} to record the commands on
+     * @see #recordCommands(RenderPriority)
+     * @see RenderTask#enableZOrder(double)
+     */
+    @SuppressFBWarnings(
+            value = "EI_EXPOSE_REP",
+            justification = "This is intended behaviour as the buffer is used to record render commands.")
+    public RenderCommandBuffer recordCommands(final RenderPriority renderPriority, final double lowestUnder) {
+        return frames.getBack().renderQueue.recordCommands(renderPriority, true, lowestUnder);
     }
 
     /**
-     * Retrieves the {@code GraphicsContext} associated with the current renderer.
+     * Retrieves the {@code GraphicsContext} of the canvas the elements of the given priority are drawn on.
+     * Render tasks must draw on the context of their own priority.
      *
-     * @return the {@code GraphicsContext} used by the renderer.
+     * @param renderPriority the rendering priority of the elements to draw
+     * @return the {@code GraphicsContext} of the layer of the priority
      */
     @SuppressFBWarnings(
             value = "EI_EXPOSE_REP",
             justification = "This is intended behaviour as the GraphicsContext is used "
                     + "to perform rendering operations on the canvas.")
-    public GraphicsContext getGraphicsContext() {
-        return gc;
+    public GraphicsContext getGraphicsContext(final RenderPriority renderPriority) {
+        return layerGcs[renderPriority.getLayer().ordinal()];
     }
 
     /**
@@ -268,6 +506,28 @@ public class Renderer {
     public static void drawText(
             final String text, final GraphicsContext gc, final CoordinateSystem cs,
             final double x, final double y, final double width, final double height
+    ) {
+        drawText(text, null, gc, cs, x, y, width, height);
+    }
+
+    /**
+     * Draws a text string like {@link #drawText(String, GraphicsContext, CoordinateSystem, double, double,
+     * double, double)}, with a constant per-pixel effect, like a text color, baked into the glyphs
+     * instead of being applied live.
+     *
+     * @param text   the text string to be drawn
+     * @param effect the constant effect applied to the glyphs, or {@code null} to draw them as they are
+     * @param gc     the {@code GraphicsContext} on which the text will be rendered
+     * @param cs     the {@code CoordinateSystem} used for transforming coordinates
+     * @param x      the X coordinate of the top-left corner for the text area in the coordinate system
+     * @param y      the Y coordinate of the top-left corner for the text area in the coordinate system
+     * @param width  the width of the area available for rendering the text in the coordinate system
+     * @param height the height of the area available for rendering the text in the coordinate system
+     * @see GlyphAtlas#drawText(GraphicsContext, CharSequence, double, double, double, double, Effect)
+     */
+    public static void drawText(
+            final String text, final Effect effect, final GraphicsContext gc, final CoordinateSystem cs,
+            final double x, final double y, final double width, final double height
     ) {
         final boolean gcImageSmoothing = gc.isImageSmoothing();
         final double areaInPixels = width * height * cs.getScale() * cs.getScale();
@@ -280,16 +540,106 @@ public class Renderer {
         if (height * cs.getScale() < MIN_TEXT_HEIGHT_PX_SMOOTH) {
             gc.setImageSmoothing(true);
         }
-        // Fit image or stretch vertically
-        final Image image = SpriteLoader.loadSprite(new StringSpriteKey(formattedText)).image();
-        if (width / image.getWidth() < height / image.getHeight()) {
-            drawImage(image, gc, cs, x, y + height * CENTER_TEXT_H_MARGIN, width, height * (1 - 2 * CENTER_TEXT_H_MARGIN));
+        // Fit text or stretch vertically
+        final double textWidth = GlyphAtlas.getTextWidth(formattedText);
+        final double textHeight = GlyphAtlas.getTextHeight();
+        if (width / textWidth < height / textHeight) {
+            drawTextStretch(formattedText, effect, gc, cs, x, y + height * CENTER_TEXT_H_MARGIN,
+                    width, height * (1 - 2 * CENTER_TEXT_H_MARGIN));
         } else {
-            drawImageFit(image, gc, cs, x, y, width, height);
+            final double scalingFactor = height / textHeight;
+            drawTextStretch(formattedText, effect, gc, cs, x, y, textWidth * scalingFactor, height);
         }
         gc.setImageSmoothing(gcImageSmoothing);
     }
 
+    /**
+     * Draws a text string from the {@link GlyphAtlas}, stretched over the given rectangular area.
+     *
+     * @param text   the text string to be drawn
+     * @param gc     the {@code GraphicsContext} on which the text will be rendered
+     * @param cs     the {@code CoordinateSystem} used for transforming coordinates
+     * @param x      the X coordinate of the top-left corner in the coordinate system
+     * @param y      the Y coordinate of the top-left corner in the coordinate system
+     * @param width  the width of the text in the coordinate system
+     * @param height the height of the text in the coordinate system
+     */
+    public static void drawTextStretch(
+            final String text, final GraphicsContext gc, final CoordinateSystem cs,
+            final double x, final double y, final double width, final double height
+    ) {
+        drawTextStretch(text, null, gc, cs, x, y, width, height);
+    }
+
+    /**
+     * Draws a text string from the {@link GlyphAtlas}, stretched over the given rectangular area,
+     * with a constant per-pixel effect, like a text color, baked into the glyphs.
+     *
+     * @param text   the text string to be drawn
+     * @param effect the constant effect applied to the glyphs, or {@code null} to draw them as they are
+     * @param gc     the {@code GraphicsContext} on which the text will be rendered
+     * @param cs     the {@code CoordinateSystem} used for transforming coordinates
+     * @param x      the X coordinate of the top-left corner in the coordinate system
+     * @param y      the Y coordinate of the top-left corner in the coordinate system
+     * @param width  the width of the text in the coordinate system
+     * @param height the height of the text in the coordinate system
+     */
+    public static void drawTextStretch(
+            final String text, final Effect effect, final GraphicsContext gc, final CoordinateSystem cs,
+            final double x, final double y, final double width, final double height
+    ) {
+        GlyphAtlas.drawText(gc, text, cs.toScreenX(x), cs.toScreenY(y), cs.getScale() * width, cs.getScale() * height,
+                effect);
+    }
+
+    /**
+     * Draws a text string from the {@link GlyphAtlas}, scaling it to fit within the specified rectangular area
+     * while preserving its aspect ratio. The text is centered vertically in the given area,
+     * like {@link #drawImageFit} does for images.
+     *
+     * @param text   the text string to be drawn
+     * @param gc     the {@code GraphicsContext} on which the text will be rendered
+     * @param cs     the {@code CoordinateSystem} used for transforming coordinates
+     * @param x      the X coordinate of the top-left corner in the coordinate system
+     * @param y      the Y coordinate of the top-left corner in the coordinate system
+     * @param width  the width of the target area in the coordinate system
+     * @param height the height of the target area in the coordinate system
+     */
+    public static void drawTextFit(
+            final String text, final GraphicsContext gc, final CoordinateSystem cs,
+            final double x, final double y, final double width, final double height
+    ) {
+        final double textWidth = GlyphAtlas.getTextWidth(text);
+        final double textHeight = GlyphAtlas.getTextHeight();
+        final double scalingFactor = Math.min(width / textWidth, height / textHeight);
+        final double newY = y + (height - textHeight * scalingFactor) / 2; // vertical centering
+        drawTextStretch(text, gc, cs, x, newY, textWidth * scalingFactor, textHeight * scalingFactor);
+    }
+
+    /**
+     * Draws a text string from the {@link GlyphAtlas}, with a fixed aspect ratio,
+     * aligned to the center of the given rectangular area in both axes.
+     *
+     * @param text   the text string to be drawn
+     * @param gc     the {@code GraphicsContext} on which the text will be rendered
+     * @param cs     the {@code CoordinateSystem} used for transforming coordinates
+     * @param x      the X coordinate of the top-left corner in the coordinate system
+     * @param y      the Y coordinate of the top-left corner in the coordinate system
+     * @param width  the width of the target area in the coordinate system
+     * @param height the height of the target area in the coordinate system
+     */
+    public static void drawTextFitCenter(
+            final String text, final GraphicsContext gc, final CoordinateSystem cs,
+            final double x, final double y, final double width, final double height
+    ) {
+        final double textWidth = GlyphAtlas.getTextWidth(text);
+        final double textHeight = GlyphAtlas.getTextHeight();
+        final double scalingFactor = Math.min(width / textWidth, height / textHeight);
+        final double newY = y + (height - textHeight * scalingFactor) / 2; // vertical centering
+        final double newX = x + (width - textWidth * scalingFactor) / 2; // horizontal centering
+        drawTextStretch(text, gc, cs, newX, newY, textWidth * scalingFactor, textHeight * scalingFactor);
+    }
+
     /**
      * Utility method wrapping the {@link GraphicsContext#fillRect(double, double, double, double)} and
      * transforming coordinates and dimension based on the provided {@link CoordinateSystem}.
@@ -308,4 +658,90 @@ public class Renderer {
         gc.fillRect(cs.toScreenX(x), cs.toScreenY(y), cs.getScale() * width, cs.getScale() * height);
     }
 
+    /**
+     * A frame recorded by the game thread, with the canvas size it was recorded for.
+     */
+    private static final class Frame {
+        private final RenderQueue renderQueue = new RenderQueue();
+        // Signature of every layer, indexed by ordinal
+        private final RenderQueue.LayerSignature[] signatures = new RenderQueue.LayerSignature[LAYERS.length];
+        private double width;
+        private double height;
+        private double renderScale;
+    }
+
+    /**
+     * A canvas with the layers drawn on it, and what they drew the last time the canvas was drawn.
+     * Only used on the JavaFX Application thread.
+     */
+    private static final class Surface {
+        private final GraphicsContext gc;
+        private final List<RenderLayer> layers = new ArrayList<>();
+        private final RenderQueue.LayerSignature[] drawnSignatures = new RenderQueue.LayerSignature[LAYERS.length];
+        // Stretches a render-scaled canvas over the screen
+        private final Scale upscale = new Scale(1, 1, 0, 0);
+        private double drawnWidth = -1;
+        private double drawnHeight = -1;
+        private double drawnRenderScale = -1;
+
+        private Surface(final GraphicsContext gc) {
+            this.gc = gc;
+        }
+
+        // Whether the canvas already shows what the layers draw in the frame
+        private boolean isUpToDate(final Frame frame) {
+            if (frame.width != drawnWidth || frame.height != drawnHeight
+                    || isRenderScaled() && frame.renderScale != drawnRenderScale) {
+                return false;
+            }
+            for (final RenderLayer layer : layers) {
+                final RenderQueue.LayerSignature signature = frame.signatures[layer.ordinal()];
+                if (signature == null || !signature.equals(drawnSignatures[layer.ordinal()])) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private void draw(final Frame frame) {
+            gc.save();
+            if (isRenderScaled()) {
+                resize(frame.width, frame.height, frame.renderScale);
+                // Tasks keep drawing in screen coordinates
+                gc.scale(frame.renderScale, frame.renderScale);
+            }
+            gc.setImageSmoothing(false);
+            gc.clearRect(0, 0, frame.width, frame.height);
+            for (final RenderLayer layer : layers) {
+                frame.renderQueue.runLayer(gc, layer);
+                drawnSignatures[layer.ordinal()] = frame.signatures[layer.ordinal()];
+            }
+            gc.restore();
+            drawnWidth = frame.width;
+            drawnHeight = frame.height;
+            drawnRenderScale = frame.renderScale;
+        }
+
+        // Sizes the canvas to the scaled screen, and stretches it back over the screen
+        private void resize(final double width, final double height, final double renderScale) {
+            final Canvas canvas = gc.getCanvas();
+            if (!canvas.getTransforms().contains(upscale)) {
+                canvas.getTransforms().add(upscale);
+            }
+            canvas.setWidth(Math.ceil(width * renderScale));
+            canvas.setHeight(Math.ceil(height * renderScale));
+            upscale.setX(1 / renderScale);
+            upscale.setY(1 / renderScale);
+        }
+
+        // Whether all the layers of the canvas are render-scaled, a canvas shared with other layers keeps its size
+        private boolean isRenderScaled() {
+            for (final RenderLayer layer : layers) {
+                if (!layer.isRenderScaled()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
 }
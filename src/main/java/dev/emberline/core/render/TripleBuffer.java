@@ -0,0 +1,72 @@
+package dev.emberline.core.render;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * A lock-free triple buffer, used to hand over frames from a single producer thread
+ * to a single consumer thread.
+ * <p>
+ * The producer fills the back buffer and {@link #publish() publishes} it, swapping it with the ready one.
+ * The consumer {@link #acquireNewest() acquires} the ready buffer, swapping it with the front one, whenever
+ * a new one has been published. Neither side ever waits for the other: if the producer publishes faster than
+ * the consumer acquires, the unconsumed buffer goes back to the producer and only the newest one is consumed.
+ * <p>
+ * Every buffer is owned by exactly one side at any time, so the buffers themselves need no synchronization:
+ * publishing and acquiring establish the happens-before relation between the two threads.
+ *
+ * @param <T> the type of the buffers
+ */
+final class TripleBuffer<T> {
+    private static final int INDEX_MASK = 0b11;
+    // Set on the ready index when it has been published and not acquired yet
+    private static final int FRESH_BIT = 0b100;
+
+    private final List<T> buffers;
+    // Owned by the producer
+    private int backIndex;
+    // Owned by the consumer
+    private int frontIndex = 1;
+    private final AtomicInteger ready = new AtomicInteger(2);
+
+    /**
+     * Creates a triple buffer whose three buffers are created by the given factory.
+     *
+     * @param factory the supplier of the buffers
+     */
+    TripleBuffer(final Supplier<T> factory) {
+        this.buffers = List.of(factory.get(), factory.get(), factory.get());
+    }
+
+    /**
+     * Returns the buffer owned by the producer. It can only be called by the producer thread.
+     *
+     * @return the back buffer
+     */
+    T getBack() {
+        return buffers.get(backIndex);
+    }
+
+    /**
+     * Publishes the back buffer as the newest complete one, and gives the producer a new back buffer,
+     * which may hold an older frame that was never acquired. It can only be called by the producer thread.
+     */
+    void publish() {
+        backIndex = ready.getAndSet(backIndex | FRESH_BIT) & INDEX_MASK;
+    }
+
+    /**
+     * Acquires the newest published buffer, if there is one that has not been acquired yet.
+     * The previously acquired buffer goes back to the producer. It can only be called by the consumer thread.
+     *
+     * @return the newest published buffer, or {@code null} if nothing has been published since the last call
+     */
+    T acquireNewest() {
+        if ((ready.get() & FRESH_BIT) == 0) {
+            return null;
+        }
+        frontIndex = ready.getAndSet(frontIndex) & INDEX_MASK;
+        return buffers.get(frontIndex);
+    }
+}
@@ -20,10 +20,10 @@ import javafx.scene.media.MediaPlayer;
 import javafx.util.Duration;
 
 import java.net.URL;
-import java.util.EnumMap;
 import java.util.EventListener;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Handles game audio playback, including background music and sound effects.
@@ -34,7 +34,8 @@ public final class AudioController implements EventListener {
     private Media musicMedia;
     private final MediaPlayer musicPlayer;
     private static final Metadata METADATA = ConfigLoader.loadConfig(METADATA_PATH, Metadata.class);
-    private final Map<SoundType, AudioClip> cachedSfxMedia = new EnumMap<>(SoundType.class);
+    // Filled both on the JavaFX Application thread and by the asset warm-up
+    private final Map<SoundType, AudioClip> cachedSfxMedia = new ConcurrentHashMap<>();
 
     private record Metadata(
         @JsonProperty String MUSIC_PATH,
@@ -135,9 +136,18 @@ public final class AudioController implements EventListener {
         musicMedia = new Media(fileURL.toExternalForm());
     }
 
-    private AudioClip getCachedSfxMedia(final SfxSoundEvent event) {
-        final SoundType type = event.getSoundType();
+    /**
+     * Loads the sound effect of the given type ahead of its first use, so that playing it does not
+     * have to wait for the clip to be decoded. It can be called from any thread.
+     *
+     * @param type the type of sound effect to load
+     * @throws IllegalArgumentException if no sound effect is configured for the given type
+     */
+    public void preloadSfx(final SoundType type) {
+        getCachedSfxMedia(type);
+    }
 
+    private AudioClip getCachedSfxMedia(final SoundType type) {
         return cachedSfxMedia.computeIfAbsent(type, t -> {
             final String soundPath = METADATA.SFX_PATHS.get(t);
             if (soundPath == null) {
@@ -149,7 +159,7 @@ public final class AudioController implements EventListener {
     }
 
     private void playSfx(final SfxSoundEvent event) {
-        final AudioClip sfxMedia = getCachedSfxMedia(event);
+        final AudioClip sfxMedia = getCachedSfxMedia(event.getSoundType());
         if (PreferencesManager.getBooleanPreference(PreferenceKey.SFX_MUTE)) {
             return; // Do not play sound if SFX is muted
         }
@@ -0,0 +1,54 @@
+package dev.emberline.core.update;
+
+/**
+ * Represents the speeds at which the game can be simulated.
+ * <p>
+ * A speed is the number of fixed time step updates performed for every real time step,
+ * so the simulation stays deterministic at any speed.
+ */
+public enum GameSpeed {
+    /**
+     * One update per real time step, the normal speed of the game.
+     */
+    X1(1),
+    /**
+     * Two updates per real time step.
+     */
+    X2(2),
+    /**
+     * Four updates per real time step.
+     */
+    X4(4),
+    /**
+     * Eight updates per real time step.
+     */
+    X8(8),
+    /**
+     * Sixteen updates per real time step.
+     */
+    X16(16);
+
+    private final int ticksPerStep;
+
+    GameSpeed(final int ticksPerStep) {
+        this.ticksPerStep = ticksPerStep;
+    }
+
+    /**
+     * Returns the number of updates performed for every real time step.
+     *
+     * @return the number of updates performed for every real time step.
+     */
+    public int getTicksPerStep() {
+        return ticksPerStep;
+    }
+
+    /**
+     * Cycles to the next speed in the defined order, wrapping back to {@link #X1} after the fastest one.
+     *
+     * @return the next {@code GameSpeed}.
+     */
+    public GameSpeed next() {
+        return values()[(this.ordinal() + 1) % values().length];
+    }
+}
@@ -11,10 +11,22 @@ import dev.emberline.core.components.UpdateComponent;
  * of a class implementing the {@link UpdateComponent} interface. The root object
  * may cascade the update logic to its own components, enabling hierarchical
  * update management.
+ * <p>
+ * The {@code Updater} also applies the {@link GameSpeed}: every call to {@link #update(long)} performs
+ * as many updates of the root object as the speed requires, each one of the same fixed time step.
+ * While doing so it measures how long an update takes, to tell how many more updates per second
+ * the root object could sustain.
  */
 public class Updater {
 
+    // Weight of the newest sample in the moving average of the update time
+    private static final double AVERAGE_WEIGHT = 0.05;
+
     private final UpdateComponent root;
+    private GameSpeed gameSpeed = GameSpeed.X1;
+
+    private long lastStepNs;
+    private double averageUpdateNs;
 
     /**
      * Constructs a new {@code Updater} instance with the specified root {@link UpdateComponent}.
@@ -27,11 +39,60 @@ public class Updater {
     }
 
     /**
-     * Updates the root {@link UpdateComponent} object by delegating the update logic.
+     * Updates the root {@link UpdateComponent} object by delegating the update logic,
+     * once for every tick required by the current {@link GameSpeed}.
+     * The {@link UpdateComponent#beginStep() beginning of the step} is signalled once, before all the ticks.
      *
      * @param elapsed the time elapsed since the previous update in nanoseconds
      */
     public void update(final long elapsed) {
-        root.update(elapsed);
+        final long start = System.nanoTime();
+        final int ticks = gameSpeed.getTicksPerStep();
+        root.beginStep();
+        for (int i = 0; i < ticks; i++) {
+            root.update(elapsed);
+        }
+        final double updateNs = (double) (System.nanoTime() - start) / ticks;
+
+        lastStepNs = elapsed;
+        averageUpdateNs = averageUpdateNs == 0 ? updateNs : averageUpdateNs + (updateNs - averageUpdateNs) * AVERAGE_WEIGHT;
+    }
+
+    /**
+     * Sets the speed at which the root object is updated.
+     *
+     * @param gameSpeed the new {@link GameSpeed}
+     */
+    public void setGameSpeed(final GameSpeed gameSpeed) {
+        this.gameSpeed = gameSpeed;
+    }
+
+    /**
+     * Returns the speed at which the root object is updated.
+     *
+     * @return the current {@link GameSpeed}
+     */
+    public GameSpeed getGameSpeed() {
+        return gameSpeed;
+    }
+
+    /**
+     * Returns the moving average of the time taken by a single update of the root object.
+     *
+     * @return the average update time in nanoseconds, {@code 0} if no update has been performed yet
+     */
+    public double getAverageUpdateNs() {
+        return averageUpdateNs;
+    }
+
+    /**
+     * Returns how many times faster than real time the root object could be updated, given the
+     * average time taken by an update. A value below the current {@link GameSpeed} means that the
+     * speed cannot be sustained and the simulation falls behind.
+     *
+     * @return the maximum sustainable speed factor, {@code 0} if no update has been performed yet
+     */
+    public double getMaxSustainableSpeed() {
+        return averageUpdateNs == 0 ? 0 : lastStepNs / averageUpdateNs;
     }
 }
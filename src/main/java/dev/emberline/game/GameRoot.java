@@ -1,20 +1,25 @@
 package dev.emberline.game;
 
+import dev.emberline.core.GameLoop;
+import dev.emberline.core.assets.AssetWarmup;
 import dev.emberline.core.components.InputComponent;
 import dev.emberline.core.components.RenderComponent;
 import dev.emberline.core.components.UpdateComponent;
 import dev.emberline.core.event.EventDispatcher;
 import dev.emberline.core.event.EventHandler;
 import dev.emberline.core.sounds.AudioController;
+import dev.emberline.core.update.GameSpeed;
 import dev.emberline.game.serialization.Serializer;
 import dev.emberline.game.world.World;
 import dev.emberline.gui.event.CloseOptionsEvent;
 import dev.emberline.gui.event.ExitGameEvent;
 import dev.emberline.gui.event.GameOverEvent;
 import dev.emberline.gui.event.OpenOptionsEvent;
+import dev.emberline.gui.event.SetGameSpeedEvent;
 import dev.emberline.gui.event.SetMainMenuEvent;
 import dev.emberline.gui.event.SetStartEvent;
 import dev.emberline.gui.menu.GameOver;
+import dev.emberline.gui.menu.LoadingScreen;
 import dev.emberline.gui.menu.MainMenu;
 import dev.emberline.gui.menu.Options;
 import dev.emberline.gui.menu.SaveSelection;
@@ -41,6 +46,8 @@ public class GameRoot implements InputComponent, UpdateComponent, RenderComponen
     private World world;
     private final Serializer worldSerializer = new Serializer();
     private final AudioController audioController = new AudioController();
+    private final AssetWarmup assetWarmup = AssetWarmup.forGameAssets(audioController);
+    private final LoadingScreen loadingScreen = new LoadingScreen(assetWarmup);
     private Saves activeSaveSlot;
     private final MainMenu mainMenu = new MainMenu();
     private final Options optionsFromGame = new Options(true);
@@ -50,10 +57,12 @@ public class GameRoot implements InputComponent, UpdateComponent, RenderComponen
 
     private GameState currentState;
     private GameState previousState;
+    // State drawn by the last render call, a state change always requires a redraw
+    private GameState lastRenderedState;
 
     /**
-     * Constructs a new instance of {@code GameRoot} and initializes the main menu
-     * as the current game state.
+     * Constructs a new instance of {@code GameRoot}, starts loading the game assets
+     * and initializes the loading screen as the current game state.
      */
     @SuppressFBWarnings(
             value = "MC_OVERRIDABLE_METHOD_CALL_IN_CONSTRUCTOR",
@@ -62,8 +71,9 @@ public class GameRoot implements InputComponent, UpdateComponent, RenderComponen
     public GameRoot() {
         registerEvents();
         audioController.startSoundtrack();
+        assetWarmup.start();
 
-        currentState = mainMenu;
+        setCurrentState(loadingScreen);
     }
 
     private void registerEvents() {
@@ -86,20 +96,42 @@ public class GameRoot implements InputComponent, UpdateComponent, RenderComponen
         currentState.update(elapsed);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void beginStep() {
+        currentState.beginStep();
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public void render() {
+        lastRenderedState = currentState;
         currentState.render();
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isRedrawNeeded() {
+        return currentState != lastRenderedState || currentState.isRedrawNeeded();
+    }
+
+    private void setCurrentState(final GameState state) {
+        currentState = state;
+        state.onEnter();
+    }
+
     // Event Handlers
     @EventHandler
     // This method is used by the EventDispatcher and should not be removed.
     @SuppressWarnings({"unused", "PMD.AvoidDuplicateLiterals"})
     private void handleStartEvent(final SetStartEvent event) {
-        currentState = saveSelection;
+        setCurrentState(saveSelection);
     }
 
     /**
@@ -117,7 +149,7 @@ public class GameRoot implements InputComponent, UpdateComponent, RenderComponen
         EventDispatcher.getInstance().registerListener(this);
         EventDispatcher.getInstance().registerListener(audioController);
         this.activeSaveSlot = save;
-        this.currentState = world;
+        setCurrentState(world);
         this.world = world;
     }
 
@@ -129,7 +161,8 @@ public class GameRoot implements InputComponent, UpdateComponent, RenderComponen
         if (Objects.equals(currentState, optionsFromGame)) { 
             worldSerializer.serialize(world, activeSaveSlot.getDisplayName());
         }
-        currentState = mainMenu;
+        GameLoop.getInstance().getUpdater().setGameSpeed(GameSpeed.X1);
+        setCurrentState(mainMenu);
     }
 
     @EventHandler
@@ -139,9 +172,9 @@ public class GameRoot implements InputComponent, UpdateComponent, RenderComponen
         previousState = currentState;
 
         if (previousState.equals(mainMenu)) {
-            currentState = optionsFromMenu;
+            setCurrentState(optionsFromMenu);
         } else {
-            currentState = optionsFromGame;
+            setCurrentState(optionsFromGame);
         }
     }
 
@@ -149,17 +182,25 @@ public class GameRoot implements InputComponent, UpdateComponent, RenderComponen
     // This method is used by the EventDispatcher and should not be removed.
     @SuppressWarnings({"unused", "PMD.AvoidDuplicateLiterals"})
     private void handleCloseOptionsEvent(final CloseOptionsEvent event) {
-        currentState = previousState;
+        setCurrentState(previousState);
     }
 
     @EventHandler
     // This method is used by the EventDispatcher and should not be removed.
     @SuppressWarnings({"unused", "PMD.AvoidDuplicateLiterals"})
     private void handleGameOverEvent(final GameOverEvent event) {
-        currentState = gameOver;
+        GameLoop.getInstance().getUpdater().setGameSpeed(GameSpeed.X1);
+        setCurrentState(gameOver);
         gameOver.setStatistics(event.getStatistics());
     }
 
+    @EventHandler
+    // This method is used by the EventDispatcher and should not be removed.
+    @SuppressWarnings({"unused", "PMD.AvoidDuplicateLiterals"})
+    private void handleSetGameSpeedEvent(final SetGameSpeedEvent event) {
+        GameLoop.getInstance().getUpdater().setGameSpeed(event.getGameSpeed());
+    }
+
     @EventHandler
     // This method is used by the EventDispatcher and should not be removed.
     @SuppressWarnings({"unused", "PMD.AvoidDuplicateLiterals"})
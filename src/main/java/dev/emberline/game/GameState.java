@@ -15,4 +15,11 @@ import dev.emberline.core.components.UpdateComponent;
  * @see RenderComponent
  */
 public interface GameState extends InputComponent, UpdateComponent, RenderComponent {
+
+    /**
+     * Called every time this state becomes the current one, before it is rendered.
+     * States can use it to refresh anything that may have changed while they were not shown.
+     */
+    default void onEnter() {
+    }
 }
@@ -1,12 +1,13 @@
 package dev.emberline.game.world;
 
 import dev.emberline.core.components.UpdateComponent;
-import dev.emberline.core.graphics.AnimatedSprite;
-import dev.emberline.core.graphics.SpriteLoader;
-import dev.emberline.core.graphics.spritekeys.MapSpriteKey;
+import dev.emberline.core.graphics.AtlasRegion;
+import dev.emberline.core.graphics.spritefactories.MapSpriteFactory;
 import dev.emberline.game.world.waves.IWaveManager;
 import javafx.scene.image.Image;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serial;
 import java.io.Serializable;
 
@@ -14,6 +15,9 @@ import java.io.Serializable;
  * Represents an animated map that updates its animation based on the current wave
  * managed by an external {@link IWaveManager}. This class controls the animation's
  * frame updates and sprite transitions as the wave index changes.
+ * <p>
+ * The frames are streamed by a {@link MapFrameStream}, so only the frames around the one being shown
+ * and the first frames of the next wave are kept in memory.
  */
 public class MapAnimation implements UpdateComponent, Serializable {
 
@@ -21,8 +25,10 @@ public class MapAnimation implements UpdateComponent, Serializable {
     private static final long serialVersionUID = 556620506149444855L;
 
     private final IWaveManager waveManager;
-    private AnimatedSprite animatedSprite;
+    private transient MapFrameStream frameStream = new MapFrameStream();
+    private final long frameTimeNs = MapSpriteFactory.getFrameTimeNs();
 
+    private int frameCount;
     private int frameIndex;
     private long accumulatedTimeNs;
     private int currentWaveIndex = -1;
@@ -39,7 +45,7 @@ public class MapAnimation implements UpdateComponent, Serializable {
     }
 
     private boolean isAnimationOver() {
-        return frameIndex + 1 >= animatedSprite.getFrameCount();
+        return frameIndex + 1 >= frameCount;
     }
 
     private void updateAnimatedSprite() {
@@ -47,9 +53,8 @@ public class MapAnimation implements UpdateComponent, Serializable {
             frameIndex = 0;
             accumulatedTimeNs = 0;
             currentWaveIndex = waveManager.getCurrentWaveIndex();
-            this.animatedSprite = (AnimatedSprite) SpriteLoader.loadSprite(
-                    new MapSpriteKey(currentWaveIndex)
-            );
+            frameCount = frameStream.getFrameCount(currentWaveIndex);
+            frameStream.enterWave(currentWaveIndex);
         }
     }
 
@@ -59,7 +64,16 @@ public class MapAnimation implements UpdateComponent, Serializable {
      * @return the {@code Image} representing the current frame of the animation.
      */
     public Image getImage() {
-        return animatedSprite.image(frameIndex);
+        return getRegion().atlas();
+    }
+
+    /**
+     * Retrieves the current frame of the animation as a region, which covers the whole image of the frame.
+     *
+     * @return the {@code AtlasRegion} representing the current frame of the animation.
+     */
+    public AtlasRegion getRegion() {
+        return frameStream.getFrame(currentWaveIndex, frameIndex);
     }
 
     /**
@@ -71,8 +85,6 @@ public class MapAnimation implements UpdateComponent, Serializable {
     public void update(final long elapsed) {
         accumulatedTimeNs += elapsed;
 
-        final long frameTimeNs = animatedSprite.getFrameTimeNs();
-
         while (!isAnimationOver() && accumulatedTimeNs >= frameTimeNs) {
             accumulatedTimeNs -= frameTimeNs;
             frameIndex++;
@@ -80,4 +92,11 @@ public class MapAnimation implements UpdateComponent, Serializable {
 
         updateAnimatedSprite();
     }
+
+    @Serial
+    private void readObject(final ObjectInputStream e) throws IOException, ClassNotFoundException {
+        e.defaultReadObject();
+        frameStream = new MapFrameStream();
+        frameStream.enterWave(currentWaveIndex);
+    }
 }
@@ -0,0 +1,167 @@
+package dev.emberline.game.world;
+
+import dev.emberline.core.graphics.AtlasRegion;
+import dev.emberline.core.graphics.spritefactories.MapSpriteFactory;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.function.IntFunction;
+
+/**
+ * Streams the frames of the map animations, so that only the frames around the one being shown are in memory.
+ * <p>
+ * Frames are loaded on demand, together with a small look-ahead window of the following frames of the same wave,
+ * which are loaded in the background. As the animation of a wave plays, the frames behind the one being shown are
+ * released, unless they are shown again later in the wave or in the next one. When a wave starts, the frames of the
+ * finished waves are released and the first frames of the next wave, which the map transitions to, are prefetched.
+ * The memory taken by the map therefore does not grow with the length of the animations or the number of waves.
+ * <p>
+ * A frame that is not loaded yet is never waited for, unless nothing has been shown yet: the previous frame keeps
+ * being shown until the next one is ready.
+ * <p>
+ * Frames are identified by their index in the map atlas, since consecutive waves often share them.
+ * The stream is meant to be used by a single thread, while the frames are loaded by background threads.
+ */
+final class MapFrameStream {
+    private static final int LOOK_AHEAD = 2;
+    // Prefetching threads end on their own, the executor is never closed
+    private static final Executor PREFETCHER = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final int[][] waveFrames;
+    private final IntFunction<AtlasRegion> loader;
+    private final Executor executor;
+    private final Map<Integer, CompletableFuture<AtlasRegion>> frames = new ConcurrentHashMap<>();
+
+    private AtlasRegion shownFrame;
+    private int streamedWave = -1;
+    // Frames of the streamed wave before this index have already been released
+    private int releasedUpTo;
+
+    /**
+     * Creates a stream of the frames of the map atlas.
+     */
+    MapFrameStream() {
+        this(MapSpriteFactory.getWaveFrames(), MapSpriteFactory::loadFrame, PREFETCHER);
+    }
+
+    /**
+     * Creates a stream of frames.
+     *
+     * @param waveFrames for every wave, the indices of the frames of its animation in playing order
+     * @param loader     the routine loading the frame with the given index
+     * @param executor   the executor loading the frames
+     */
+    MapFrameStream(final int[][] waveFrames, final IntFunction<AtlasRegion> loader, final Executor executor) {
+        this.waveFrames = waveFrames.clone();
+        this.loader = loader;
+        this.executor = executor;
+    }
+
+    /**
+     * Returns the number of frames of the animation of the given wave.
+     *
+     * @param wave the index of the wave
+     * @return the number of frames of the wave
+     */
+    int getFrameCount(final int wave) {
+        return waveFrames[wave].length;
+    }
+
+    /**
+     * Starts streaming the given wave: the frames not used by this wave or the next one are released,
+     * and the first frames of both are prefetched.
+     *
+     * @param wave the index of the wave starting
+     */
+    void enterWave(final int wave) {
+        final Set<Integer> kept = new HashSet<>();
+        for (int w = wave; w <= wave + 1 && w < waveFrames.length; w++) {
+            for (final int frame : waveFrames[w]) {
+                kept.add(frame);
+            }
+        }
+        frames.keySet().retainAll(kept);
+        streamedWave = wave;
+        releasedUpTo = 0;
+        prefetch(wave, 0);
+        if (wave + 1 < waveFrames.length) {
+            prefetch(wave + 1, 0);
+        }
+    }
+
+    /**
+     * Returns the given frame of the given wave, or the frame shown last if it is still being loaded,
+     * and prefetches the following frames of the wave. The frames of the wave behind the given one are released.
+     * The frame is only waited for if no frame has been shown yet.
+     *
+     * @param wave       the index of the wave
+     * @param frameIndex the index of the frame in the animation of the wave
+     * @return the frame, or the frame shown last if it is not loaded yet
+     */
+    AtlasRegion getFrame(final int wave, final int frameIndex) {
+        final CompletableFuture<AtlasRegion> frame = request(waveFrames[wave][frameIndex]);
+        prefetch(wave, frameIndex + 1);
+        if (frame.isDone() || shownFrame == null) {
+            shownFrame = frame.join();
+            if (wave == streamedWave) {
+                releaseBehind(frameIndex);
+            }
+        }
+        return shownFrame;
+    }
+
+    /**
+     * Returns the number of frames loaded or being loaded.
+     *
+     * @return the number of frames in memory
+     */
+    int size() {
+        return frames.size();
+    }
+
+    // Releases the frames of the streamed wave before the given one that are not shown again
+    private void releaseBehind(final int frameIndex) {
+        for (; releasedUpTo < frameIndex; releasedUpTo++) {
+            final int atlasFrame = waveFrames[streamedWave][releasedUpTo];
+            if (!isShownFrom(frameIndex, atlasFrame)) {
+                frames.remove(atlasFrame);
+            }
+        }
+    }
+
+    // Whether the frame is shown from the given frame of the streamed wave onwards, or in the next wave
+    private boolean isShownFrom(final int frameIndex, final int atlasFrame) {
+        final int[] current = waveFrames[streamedWave];
+        for (int i = frameIndex; i < current.length; i++) {
+            if (current[i] == atlasFrame) {
+                return true;
+            }
+        }
+        if (streamedWave + 1 < waveFrames.length) {
+            for (final int frame : waveFrames[streamedWave + 1]) {
+                if (frame == atlasFrame) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    // Requests the frames in the look-ahead window starting from the given frame of the wave
+    private void prefetch(final int wave, final int fromFrame) {
+        final int[] frameIndices = waveFrames[wave];
+        for (int i = fromFrame; i < Math.min(fromFrame + LOOK_AHEAD, frameIndices.length); i++) {
+            request(frameIndices[i]);
+        }
+    }
+
+    private CompletableFuture<AtlasRegion> request(final int atlasFrame) {
+        return frames.computeIfAbsent(atlasFrame,
+                frame -> CompletableFuture.supplyAsync(() -> loader.apply(frame), executor));
+    }
+}
@@ -1,7 +1,9 @@
 package dev.emberline.game.world;
 
+import dev.emberline.core.GameLoop;
 import dev.emberline.core.components.RenderComponent;
 import dev.emberline.core.event.EventDispatcher;
+import dev.emberline.core.update.GameSpeed;
 import dev.emberline.game.GameState;
 import dev.emberline.game.world.buildings.TowersManager;
 import dev.emberline.game.world.entities.enemies.EnemiesManagerWithStats;
@@ -13,6 +15,7 @@ import dev.emberline.game.world.statistics.Statistics;
 import dev.emberline.game.world.waves.IWaveManager;
 import dev.emberline.game.world.waves.WaveManagerWithStats;
 import dev.emberline.gui.event.OpenOptionsEvent;
+import dev.emberline.gui.event.SetGameSpeedEvent;
 import dev.emberline.gui.topbar.Topbar;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import javafx.scene.input.InputEvent;
@@ -156,6 +159,16 @@ public class World implements GameState, Serializable {
         worldRenderComponent.update(elapsed);
     }
 
+    /**
+     * Records the state of the moving entities of the world at the beginning of a step,
+     * from which their rendering is interpolated.
+     */
+    @Override
+    public void beginStep() {
+        projectilesManager.beginStep();
+        enemiesManager.beginStep();
+    }
+
     /**
      * Renders the world by calling the render methods of
      * all the visual elements inside it.
@@ -175,6 +188,8 @@ public class World implements GameState, Serializable {
      * Processes the input event received by the World instance.
      * All the {@code inputEvent} related to the world will be
      * dispatched to the elements inside it which have input logic.
+     * Pressing {@code ESCAPE} opens the options menu, while pressing {@code F}
+     * cycles through the available game speeds.
      *
      * @param inputEvent the {@link InputEvent} to be processed
      */
@@ -184,11 +199,16 @@ public class World implements GameState, Serializable {
         towersManager.processInput(inputEvent);
 
         if (
-            inputEvent instanceof final KeyEvent keyEvent
-            && keyEvent.getEventType() == KeyEvent.KEY_PRESSED
-            && keyEvent.getCode() == KeyCode.ESCAPE
+            !(inputEvent instanceof final KeyEvent keyEvent)
+            || keyEvent.getEventType() != KeyEvent.KEY_PRESSED
         ) {
+            return;
+        }
+        if (keyEvent.getCode() == KeyCode.ESCAPE) {
             EventDispatcher.getInstance().dispatchEvent(new OpenOptionsEvent(this));
+        } else if (keyEvent.getCode() == KeyCode.F) {
+            final GameSpeed nextSpeed = GameLoop.getInstance().getUpdater().getGameSpeed().next();
+            EventDispatcher.getInstance().dispatchEvent(new SetGameSpeedEvent(this, nextSpeed));
         }
     }
 
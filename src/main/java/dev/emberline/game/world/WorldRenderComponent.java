@@ -5,16 +5,17 @@ import dev.emberline.core.GameLoop;
 import dev.emberline.core.components.RenderComponent;
 import dev.emberline.core.components.UpdateComponent;
 import dev.emberline.core.config.ConfigLoader;
+import dev.emberline.core.graphics.AtlasRegion;
 import dev.emberline.core.render.CoordinateSystem;
 import dev.emberline.core.render.RenderPriority;
 import dev.emberline.core.render.RenderTask;
 import dev.emberline.core.render.Renderer;
 import dev.emberline.game.world.waves.IWaveManager;
 import javafx.scene.canvas.GraphicsContext;
-import javafx.scene.image.Image;
 
 import java.io.Serial;
 import java.io.Serializable;
+import java.util.List;
 
 /**
  * The WorldRenderComponent class is responsible for rendering the game world, specifically
@@ -58,7 +59,7 @@ public class WorldRenderComponent implements RenderComponent, UpdateComponent, S
     @Override
     public void render() {
         final Renderer renderer = GameLoop.getInstance().getRenderer();
-        final GraphicsContext gc = renderer.getGraphicsContext();
+        final GraphicsContext gc = renderer.getGraphicsContext(RenderPriority.BACKGROUND);
         final CoordinateSystem cs = renderer.getWorldCoordinateSystem();
 
         final double mapScreenWidth = (worldBounds.bottomRightX - worldBounds.topLeftX) * cs.getScale();
@@ -66,11 +67,11 @@ public class WorldRenderComponent implements RenderComponent, UpdateComponent, S
         final double mapScreenX = cs.toScreenX(worldBounds.topLeftX);
         final double mapScreenY = cs.toScreenY(worldBounds.topLeftY);
 
-        final Image currentFrame = mapAnimation.getImage();
+        final AtlasRegion currentFrame = mapAnimation.getRegion();
 
         renderer.addRenderTask(new RenderTask(RenderPriority.BACKGROUND, () -> {
-            gc.drawImage(currentFrame, mapScreenX, mapScreenY, mapScreenWidth, mapScreenHeight);
-        }));
+            currentFrame.draw(gc, mapScreenX, mapScreenY, mapScreenWidth, mapScreenHeight);
+        }).withContentKey(List.of(currentFrame, mapScreenX, mapScreenY, mapScreenWidth, mapScreenHeight)));
     }
 
     /**
@@ -1,8 +1,11 @@
 package dev.emberline.game.world.buildings;
 
+import dev.emberline.core.GameLoop;
 import dev.emberline.core.components.InputComponent;
 import dev.emberline.core.components.RenderComponent;
 import dev.emberline.core.components.UpdateComponent;
+import dev.emberline.core.render.CoordinateSystem;
+import dev.emberline.core.render.Renderer;
 import dev.emberline.core.sounds.AudioController;
 import dev.emberline.core.sounds.event.SfxSoundEvent.SoundType;
 import dev.emberline.game.world.Building;
@@ -179,9 +182,19 @@ public class TowersManager implements UpdateComponent, RenderComponent, InputCom
             towerDialogLayer.render();
         }
 
+        // Buildings outside the area visible on the screen are skipped
+        final Renderer renderer = GameLoop.getInstance().getRenderer();
+        final CoordinateSystem cs = renderer.getWorldCoordinateSystem();
+        int drawn = 0;
         for (final Building building : buildings) {
-            building.render();
+            final Vector2D topLeft = building.getWorldTopLeft();
+            final Vector2D bottomRight = building.getWorldBottomRight();
+            if (cs.isVisible(topLeft.getX(), topLeft.getY(), bottomRight.getX(), bottomRight.getY())) {
+                building.render();
+                drawn++;
+            }
         }
+        renderer.countEntities(drawn, buildings.size() - drawn);
     }
 
     /**
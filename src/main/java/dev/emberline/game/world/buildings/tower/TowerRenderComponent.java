@@ -5,17 +5,17 @@ import dev.emberline.core.GameLoop;
 import dev.emberline.core.components.RenderComponent;
 import dev.emberline.core.config.ConfigLoader;
 import dev.emberline.core.graphics.AnimatedSprite;
+import dev.emberline.core.graphics.AtlasRegion;
+import dev.emberline.core.graphics.RegionSprite;
 import dev.emberline.core.graphics.SpriteLoader;
 import dev.emberline.core.graphics.spritekeys.CrystalSpriteKey;
 import dev.emberline.core.graphics.spritekeys.TowerSpriteKey;
 import dev.emberline.core.render.CoordinateSystem;
+import dev.emberline.core.render.QualityTier;
+import dev.emberline.core.render.RenderCommandBuffer;
 import dev.emberline.core.render.RenderPriority;
-import dev.emberline.core.render.RenderTask;
 import dev.emberline.core.render.Renderer;
-import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.effect.Bloom;
-import javafx.scene.image.Image;
-import javafx.scene.transform.Rotate;
 
 import java.io.Serial;
 import java.io.Serializable;
@@ -37,6 +37,8 @@ class TowerRenderComponent implements RenderComponent, Serializable {
         private static final double CRYSTAL_SWING_AMPLITUDE = CONFIGS_NODE.get("swingAmplitude").asDouble();
         private static final double CRYSTAL_TRANSPARENCY = CONFIGS_NODE.get("transparency").asDouble();
         private static final double CRYSTAL_BLOOM_THRESHOLD = CONFIGS_NODE.get("bloomThreshold").asDouble();
+        // Never modified, it is baked once into every crystal frame
+        private static final Bloom CRYSTAL_BLOOM = new Bloom(CRYSTAL_BLOOM_THRESHOLD);
     }
 
     TowerRenderComponent(final Tower tower) {
@@ -49,23 +51,24 @@ class TowerRenderComponent implements RenderComponent, Serializable {
      * <p>
      * The tower body is drawn at the calculated screen position based on its world coordinates, and the crystal,
      * which oscillates and rotates slightly, is drawn with a bloom visual effect and transparency applied.
+     * The bloom is baked once into each frame of the crystal, so no effect is applied while drawing.
+     * Below the {@link QualityTier#HIGH} quality tier the crystal is drawn without bloom nor rotation.
      * <p>
-     * Rendering tasks are queued and executed with z-order using the bottom y coordinate.
+     * Draw commands are recorded and played back with z-order using the bottom y coordinate.
      */
     @Override
     public void render() {
-        final Image bodyImage = SpriteLoader.loadSprite(new TowerSpriteKey(
-                tower.getProjectileInfo().type(), tower.getEnchantmentInfo().type())).image();
+        final AtlasRegion bodyRegion = ((RegionSprite) SpriteLoader.loadSprite(new TowerSpriteKey(
+                tower.getProjectileInfo().type(), tower.getEnchantmentInfo().type()))).region();
         final AnimatedSprite crystalSprite = (AnimatedSprite) SpriteLoader.loadSprite(new CrystalSpriteKey(
                 tower.getEnchantmentInfo().type()));
 
         final Renderer renderer = GameLoop.getInstance().getRenderer();
-        final GraphicsContext gc = renderer.getGraphicsContext();
         final CoordinateSystem cs = renderer.getWorldCoordinateSystem();
 
         final int currentFrame = (int) (
                 (System.nanoTime() - creationTimeNs) / crystalSprite.getFrameTimeNs()) % crystalSprite.getFrameCount();
-        final Image crystalImage = crystalSprite.image(currentFrame);
+        final AtlasRegion crystalRegion = crystalSprite.region(currentFrame);
 
         final double crystalSwingOffset =
                 Math.sin((System.nanoTime() - creationTimeNs) * 2 * Math.PI * 1. / Metadata.CRYSTAL_SWING_PERIOD_NS)
@@ -83,19 +86,28 @@ class TowerRenderComponent implements RenderComponent, Serializable {
         final double crystalScreenY = cs.toScreenY(firingWorldCenterY - Metadata.CRYSTAL_HEIGHT / 2)
                 + crystalSwingOffset;
 
-        renderer.addRenderTask(new RenderTask(RenderPriority.BUILDINGS, () -> {
-            gc.save();
-            final Rotate r = new Rotate(2 * Math.sin((System.nanoTime() - creationTimeNs) / 3e8),
-                    crystalScreenX + cs.getScale() * (Metadata.CRYSTAL_WIDTH / 2),
-                    crystalScreenY + cs.getScale() * (Metadata.CRYSTAL_HEIGHT / 2));
-            gc.setTransform(r.getMxx(), r.getMyx(), r.getMxy(), r.getMyy(), r.getTx(), r.getTy());
-            gc.setEffect(new Bloom(Metadata.CRYSTAL_BLOOM_THRESHOLD));
-            gc.setGlobalAlpha(Metadata.CRYSTAL_TRANSPARENCY);
-            gc.drawImage(crystalImage, crystalScreenX, crystalScreenY,
+        // Rotation of the crystal around its center, in degrees
+        final double crystalRotation = 2 * Math.sin((System.nanoTime() - creationTimeNs) / 3e8);
+        final double pivotX = crystalScreenX + cs.getScale() * (Metadata.CRYSTAL_WIDTH / 2);
+        final double pivotY = crystalScreenY + cs.getScale() * (Metadata.CRYSTAL_HEIGHT / 2);
+
+        final RenderCommandBuffer commands = renderer.recordCommands(RenderPriority.BUILDINGS,
+                tower.getWorldBottomRight().getY());
+        commands.save();
+        commands.setGlobalAlpha(Metadata.CRYSTAL_TRANSPARENCY);
+        if (renderer.getQualityTier().isAtLeast(QualityTier.HIGH)) {
+            // Relative to the current transform, which scales the render-scaled layers
+            commands.translate(pivotX, pivotY);
+            commands.rotate(crystalRotation);
+            commands.translate(-pivotX, -pivotY);
+            commands.drawImage(crystalRegion, Metadata.CRYSTAL_BLOOM, crystalScreenX, crystalScreenY,
                     Metadata.CRYSTAL_WIDTH * cs.getScale(), Metadata.CRYSTAL_HEIGHT * cs.getScale());
-            gc.restore();
+        } else {
+            commands.drawImage(crystalRegion, crystalScreenX, crystalScreenY,
+                    Metadata.CRYSTAL_WIDTH * cs.getScale(), Metadata.CRYSTAL_HEIGHT * cs.getScale());
+        }
+        commands.restore();
 
-            gc.drawImage(bodyImage, topLeftScreenX, topLeftScreenY, screenWidth, screenHeight);
-        }).enableZOrder(tower.getWorldBottomRight().getY()));
+        commands.drawImage(bodyRegion, topLeftScreenX, topLeftScreenY, screenWidth, screenHeight);
     }
 }
@@ -2,12 +2,15 @@ package dev.emberline.game.world.buildings.tower;
 
 import dev.emberline.core.components.UpdateComponent;
 import dev.emberline.game.world.World;
+import dev.emberline.game.world.buildings.tower.aimstrategy.AimStrategy;
 import dev.emberline.game.world.entities.enemies.IEnemiesManager;
 import dev.emberline.game.world.entities.enemies.enemy.IEnemy;
 
 import java.io.Serial;
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 class TowerUpdateComponent implements UpdateComponent, Serializable {
     @Serial
@@ -17,6 +20,8 @@ class TowerUpdateComponent implements UpdateComponent, Serializable {
 
     private final World world;
     private final Tower tower;
+    // Reused by every shot and emptied after it, created on first use as it is not saved
+    private transient List<IEnemy> nearEnemies;
 
     TowerUpdateComponent(final World world, final Tower tower) {
         this.world = world;
@@ -29,6 +34,8 @@ class TowerUpdateComponent implements UpdateComponent, Serializable {
      * <p>
      * This method checks whether the tower is ready to shoot (based on its fire rate and the
      * elapsed time since the last shot) and attempts to fire at enemies within its range.
+     * The best target of the aim strategy is tried first, and only if no projectile can reach it
+     * are the other enemies in range collected and tried in the aim order.
      * If a projectile is successfully created and fired, the accumulated time for shooting resets.
      *
      * @param elapsed the elapsed time in nanoseconds since the last update
@@ -44,25 +51,46 @@ class TowerUpdateComponent implements UpdateComponent, Serializable {
 
         // Shooting
         final IEnemiesManager enemiesManager = world.getEnemiesManager();
+        final AimStrategy aimStrategy = tower.getAimType().getAimStrategy();
 
-        final List<IEnemy> nearEnemies = enemiesManager.getNear(
+        final Optional<IEnemy> bestEnemy = aimStrategy.getBest(tower, enemiesManager);
+        if (bestEnemy.isEmpty()) {
+            return;
+        }
+        if (shoot(bestEnemy.get())) {
+            return;
+        }
+
+        // No flight path reaches the best enemy, the others are tried in the aim order
+        if (nearEnemies == null) {
+            nearEnemies = new ArrayList<>();
+        }
+        enemiesManager.getNear(
                 tower.getPosition(),
-                tower.getProjectileInfo().getTowerRange()
+                tower.getProjectileInfo().getTowerRange(),
+                nearEnemies
         );
-        final List<IEnemy> aimOrder = tower.getAimType().getAimStrategy().getOrder(tower, nearEnemies);
+        final List<IEnemy> aimOrder = aimStrategy.getOrder(tower, nearEnemies);
+        nearEnemies.clear();
 
         for (final IEnemy enemyToShoot : aimOrder) {
-            final boolean creationSucceeded = world.getProjectilesManager().addProjectile(
-                    tower.getFiringWorldCenterLocation(), enemyToShoot, tower.getProjectileInfo(), tower.getEnchantmentInfo()
-            );
-
-            if (creationSucceeded) {
-                accumulatedTimeNs = 0;
+            if (enemyToShoot != bestEnemy.get() && shoot(enemyToShoot)) {
                 break;
             }
         }
     }
 
+    private boolean shoot(final IEnemy enemyToShoot) {
+        final boolean creationSucceeded = world.getProjectilesManager().addProjectile(
+                tower.getFiringWorldCenterLocation(), enemyToShoot, tower.getProjectileInfo(), tower.getEnchantmentInfo()
+        );
+
+        if (creationSucceeded) {
+            accumulatedTimeNs = 0;
+        }
+        return creationSucceeded;
+    }
+
     public void setAccumulatedTimeNs(final long accumulatedTimeNs) {
         this.accumulatedTimeNs = accumulatedTimeNs;
     }
@@ -1,12 +1,14 @@
 package dev.emberline.game.world.buildings.tower.aimstrategy;
 
 import dev.emberline.game.model.TowerInfoProvider;
+import dev.emberline.game.world.entities.enemies.IEnemiesManager;
 import dev.emberline.game.world.entities.enemies.enemy.IEnemy;
 
 import java.io.Serial;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Represents an abstract strategy for determining the order in which a Tower should aim at enemies.
@@ -17,6 +19,10 @@ import java.util.List;
  * <p>
  * In case of a tie in the comparison result, a deterministic tiebreaking mechanism is used
  * based on the hash codes of the enemies to ensure a consistent order across runs.
+ * <p>
+ * Since a tower mostly needs the single best target, subclasses also implement
+ * {@link #getBest(TowerInfoProvider, IEnemiesManager)}, which finds it with a single query to the enemies
+ * manager instead of collecting and sorting every enemy in range.
  */
 public abstract class AimStrategy implements Serializable {
 
@@ -42,6 +48,16 @@ public abstract class AimStrategy implements Serializable {
         return enemiesCopy;
     }
 
+    /**
+     * Finds the enemy in range the given tower should target first, the one {@link #getOrder(TowerInfoProvider, List)}
+     * would put first, except that ties go to whichever enemy the query finds first.
+     *
+     * @param towerInfoProvider the provider that gives information about the tower which is targeting the enemies.
+     * @param enemiesManager the enemies manager to query for the enemies in range of the tower.
+     * @return the enemy to target first, or an empty {@code Optional} if no enemy is in range.
+     */
+    public abstract Optional<IEnemy> getBest(TowerInfoProvider towerInfoProvider, IEnemiesManager enemiesManager);
+
     /**
      * Wraps {@link AimStrategy#compare(TowerInfoProvider, IEnemy, IEnemy)} to include a deterministic tiebreaker.
      *
@@ -2,10 +2,12 @@ package dev.emberline.game.world.buildings.tower.aimstrategy.concrete;
 
 import dev.emberline.game.model.TowerInfoProvider;
 import dev.emberline.game.world.buildings.tower.aimstrategy.AimStrategy;
+import dev.emberline.game.world.entities.enemies.IEnemiesManager;
 import dev.emberline.game.world.entities.enemies.enemy.IEnemy;
 
 import java.io.Serial;
 import java.io.Serializable;
+import java.util.Optional;
 
 /**
  * A concrete implementation of the {@code AimStrategy} that determines the targeting order
@@ -35,4 +37,19 @@ public final class CloseAimStrategy extends AimStrategy implements Serializable
         final double distance2 = towerInfoProvider.getPosition().distance(enemy2.getPosition());
         return Double.compare(distance1, distance2);
     }
+
+    /**
+     * Finds the enemy in range closest to the tower, searching outwards from the tower.
+     *
+     * @param towerInfoProvider the provider that gives information about the tower which is targeting the enemies.
+     * @param enemiesManager the enemies manager to query for the enemies in range of the tower.
+     * @return the enemy to target first, or an empty {@code Optional} if no enemy is in range.
+     *
+     * @see AimStrategy#getBest(TowerInfoProvider, IEnemiesManager)
+     */
+    @Override
+    public Optional<IEnemy> getBest(final TowerInfoProvider towerInfoProvider, final IEnemiesManager enemiesManager) {
+        return enemiesManager.getNearest(
+                towerInfoProvider.getPosition(), towerInfoProvider.getProjectileInfo().getTowerRange());
+    }
 }
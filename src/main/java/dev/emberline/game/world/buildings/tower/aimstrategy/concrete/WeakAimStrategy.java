@@ -2,10 +2,12 @@ package dev.emberline.game.world.buildings.tower.aimstrategy.concrete;
 
 import dev.emberline.game.model.TowerInfoProvider;
 import dev.emberline.game.world.buildings.tower.aimstrategy.AimStrategy;
+import dev.emberline.game.world.entities.enemies.IEnemiesManager;
 import dev.emberline.game.world.entities.enemies.enemy.IEnemy;
 
 import java.io.Serial;
 import java.io.Serializable;
+import java.util.Optional;
 
 /**
  * A concrete implementation of the {@code AimStrategy} that determines the targeting order
@@ -34,4 +36,19 @@ public class WeakAimStrategy extends AimStrategy implements Serializable {
     protected int compare(final TowerInfoProvider towerInfoProvider, final IEnemy enemy1, final IEnemy enemy2) {
         return Double.compare(enemy1.getHealth(), enemy2.getHealth());
     }
+
+    /**
+     * Finds the enemy in range with the least health.
+     *
+     * @param towerInfoProvider the provider that gives information about the tower which is targeting the enemies.
+     * @param enemiesManager the enemies manager to query for the enemies in range of the tower.
+     * @return the enemy to target first, or an empty {@code Optional} if no enemy is in range.
+     *
+     * @see AimStrategy#getBest(TowerInfoProvider, IEnemiesManager)
+     */
+    @Override
+    public Optional<IEnemy> getBest(final TowerInfoProvider towerInfoProvider, final IEnemiesManager enemiesManager) {
+        return enemiesManager.getMinBy(towerInfoProvider.getPosition(), towerInfoProvider.getProjectileInfo().getTowerRange(),
+                IEnemy::getHealth);
+    }
 }
@@ -103,7 +103,7 @@ public class TowerPreBuild extends Building implements Serializable {
         final Image image = SpriteLoader.loadSprite(SingleSpriteKey.TOWER_PRE_BUILD).image();
 
         final Renderer renderer = GameLoop.getInstance().getRenderer();
-        final GraphicsContext gc = renderer.getGraphicsContext();
+        final GraphicsContext gc = renderer.getGraphicsContext(RenderPriority.BUILDINGS);
         final CoordinateSystem cs = renderer.getWorldCoordinateSystem();
 
         final double topLeftScreenX = cs.toScreenX(getWorldTopLeft().getX());
@@ -1,7 +1,10 @@
 package dev.emberline.game.world.entities.enemies;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import dev.emberline.core.GameLoop;
 import dev.emberline.core.config.ConfigLoader;
+import dev.emberline.core.render.CoordinateSystem;
+import dev.emberline.core.render.Renderer;
 import dev.emberline.game.world.World;
 import dev.emberline.game.world.entities.enemies.enemy.EnemyType;
 import dev.emberline.game.world.entities.enemies.enemy.EnemyWithStats;
@@ -10,8 +13,12 @@ import dev.emberline.utility.Vector2D;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 
 import java.io.Serial;
+import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
 
 /**
  * An implementation of the {@link IEnemiesManager}.
@@ -22,6 +29,11 @@ public class EnemiesManager implements IEnemiesManager {
     @Serial
     private static final long serialVersionUID = -413131806664877498L;
 
+    // Enemies are culled by their position, the margin covers their sprite and health bar around it
+    private static final double CULLING_MARGIN = 2;
+    // Checked by the spatial hash grid while it scans, instead of filtering its results afterwards
+    private static final Predicate<IEnemy> HITTABLE = IEnemy::isHittable;
+
     private final EnemiesFactory enemiesFactory = new EnemiesFactory();
 
     private final SpatialHashGrid spatialHashGrid;
@@ -82,11 +94,62 @@ public class EnemiesManager implements IEnemiesManager {
      */
     @Override
     public List<IEnemy> getNear(final Vector2D location, final double radius) {
-        final List<IEnemy> near = spatialHashGrid.getNear(location, radius);
-        near.removeIf(iEnemy -> !iEnemy.isHittable());
+        final List<IEnemy> near = new ArrayList<>();
+        spatialHashGrid.getNear(location, radius, HITTABLE, near);
         return near;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getNear(final Vector2D location, final double radius, final List<? super IEnemy> buffer) {
+        return spatialHashGrid.getNear(location, radius, HITTABLE, buffer);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int forEachNear(final Vector2D location, final double radius, final NearEnemyVisitor visitor) {
+        return spatialHashGrid.forEachNear(location, radius, HITTABLE, visitor);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<IEnemy> getNearest(final Vector2D location, final double radius) {
+        return Optional.ofNullable(spatialHashGrid.getNearest(location, radius, HITTABLE));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getNearest(final Vector2D location, final double radius, final int count,
+                          final List<? super IEnemy> buffer) {
+        return spatialHashGrid.getNearest(location, radius, HITTABLE, count, buffer);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<IEnemy> getMinBy(final Vector2D location, final double radius,
+                                     final ToDoubleFunction<? super IEnemy> key) {
+        return Optional.ofNullable(spatialHashGrid.getMinBy(location, radius, HITTABLE, key));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<IEnemy> getMaxBy(final Vector2D location, final double radius,
+                                     final ToDoubleFunction<? super IEnemy> key) {
+        return Optional.ofNullable(spatialHashGrid.getMaxBy(location, radius, HITTABLE, key));
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -129,9 +192,24 @@ public class EnemiesManager implements IEnemiesManager {
      * {@inheritDoc}
      */
     @Override
-    public void render() {
+    public void beginStep() {
         for (final IEnemy enemy : spatialHashGrid) {
-            enemy.render();
+            enemy.beginStep();
         }
     }
+
+    /**
+     * Renders the enemies inside the area currently visible on the screen,
+     * found through the spatial hash grid.
+     */
+    @Override
+    public void render() {
+        final Renderer renderer = GameLoop.getInstance().getRenderer();
+        final CoordinateSystem cs = renderer.getWorldCoordinateSystem();
+        final int drawn = spatialHashGrid.forEachInRect(
+                cs.getVisibleMinX() - CULLING_MARGIN, cs.getVisibleMinY() - CULLING_MARGIN,
+                cs.getVisibleMaxX() + CULLING_MARGIN, cs.getVisibleMaxY() + CULLING_MARGIN,
+                IEnemy::render);
+        renderer.countEntities(drawn, spatialHashGrid.size() - drawn);
+    }
 }
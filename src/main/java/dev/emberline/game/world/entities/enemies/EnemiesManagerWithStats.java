@@ -8,6 +8,8 @@ import dev.emberline.utility.Vector2D;
 
 import java.io.Serial;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.ToDoubleFunction;
 
 /**
  * The EnemiesManagerWithStats class is a decorator for the EnemiesManager that adds the ability to track and update
@@ -48,6 +50,57 @@ public class EnemiesManagerWithStats implements IEnemiesManager {
         return enemiesManager.getNear(location, radius);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getNear(final Vector2D location, final double radius, final List<? super IEnemy> buffer) {
+        return enemiesManager.getNear(location, radius, buffer);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int forEachNear(final Vector2D location, final double radius, final NearEnemyVisitor visitor) {
+        return enemiesManager.forEachNear(location, radius, visitor);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<IEnemy> getNearest(final Vector2D location, final double radius) {
+        return enemiesManager.getNearest(location, radius);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getNearest(final Vector2D location, final double radius, final int count,
+                          final List<? super IEnemy> buffer) {
+        return enemiesManager.getNearest(location, radius, count, buffer);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<IEnemy> getMinBy(final Vector2D location, final double radius,
+                                     final ToDoubleFunction<? super IEnemy> key) {
+        return enemiesManager.getMinBy(location, radius, key);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<IEnemy> getMaxBy(final Vector2D location, final double radius,
+                                     final ToDoubleFunction<? super IEnemy> key) {
+        return enemiesManager.getMaxBy(location, radius, key);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -79,4 +132,12 @@ public class EnemiesManagerWithStats implements IEnemiesManager {
 
         statistics.updateEnemiesFought(alivePreUpdate - alivePostUpdate);
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void beginStep() {
+        enemiesManager.beginStep();
+    }
 }
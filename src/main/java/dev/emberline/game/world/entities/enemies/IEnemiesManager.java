@@ -8,6 +8,8 @@ import dev.emberline.utility.Vector2D;
 
 import java.io.Serializable;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.ToDoubleFunction;
 
 /**
  * This interface represents the pool of enemies within a game world, providing functionality for adding an enemy to the pool,
@@ -36,6 +38,70 @@ public interface IEnemiesManager extends UpdateComponent, RenderComponent, Seria
      */
     List<IEnemy> getNear(Vector2D location, double radius);
 
+    /**
+     * Appends to a caller-owned buffer the enemies that are within a specified radius of a given location
+     * and are in a hittable state. The buffer can be cleared and reused across queries, so that nothing is allocated.
+     *
+     * @param location the central location from where to search for nearby enemies
+     * @param radius the radius within which to search for nearby enemies
+     * @param buffer the list the hittable enemies within the given radius are appended to
+     * @return the number of enemies appended to the buffer
+     */
+    int getNear(Vector2D location, double radius, List<? super IEnemy> buffer);
+
+    /**
+     * Visits the enemies that are within a specified radius of a given location and are in a hittable state,
+     * until the visitor asks to stop. The enemies are visited while the query runs, so that nothing is allocated.
+     *
+     * @param location the central location from where to search for nearby enemies
+     * @param radius the radius within which to search for nearby enemies
+     * @param visitor the visitor called for every hittable enemy within the given radius
+     * @return the number of enemies visited
+     */
+    int forEachNear(Vector2D location, double radius, NearEnemyVisitor visitor);
+
+    /**
+     * Retrieves the hittable enemy nearest to a given location, within a specified radius of it.
+     *
+     * @param location the central location from where to search for the nearest enemy
+     * @param radius the radius within which to search for the nearest enemy
+     * @return the nearest hittable enemy within the given radius, or an empty {@code Optional} if there is none
+     */
+    Optional<IEnemy> getNearest(Vector2D location, double radius);
+
+    /**
+     * Appends to a caller-owned buffer the hittable enemies nearest to a given location, nearest first,
+     * within a specified radius of it.
+     *
+     * @param location the central location from where to search for the nearest enemies
+     * @param radius the radius within which to search for the nearest enemies
+     * @param count the maximum number of enemies to append
+     * @param buffer the list the nearest hittable enemies are appended to
+     * @return the number of enemies appended to the buffer
+     * @throws IllegalArgumentException if {@code count} is not positive
+     */
+    int getNearest(Vector2D location, double radius, int count, List<? super IEnemy> buffer);
+
+    /**
+     * Retrieves the hittable enemy with the lowest key within a specified radius of a given location.
+     *
+     * @param location the central location from where to search for the enemy
+     * @param radius the radius within which to search for the enemy
+     * @param key the key the enemies are compared by
+     * @return the hittable enemy with the lowest key, or an empty {@code Optional} if there is none
+     */
+    Optional<IEnemy> getMinBy(Vector2D location, double radius, ToDoubleFunction<? super IEnemy> key);
+
+    /**
+     * Retrieves the hittable enemy with the highest key within a specified radius of a given location.
+     *
+     * @param location the central location from where to search for the enemy
+     * @param radius the radius within which to search for the enemy
+     * @param key the key the enemies are compared by
+     * @return the hittable enemy with the highest key, or an empty {@code Optional} if there is none
+     */
+    Optional<IEnemy> getMaxBy(Vector2D location, double radius, ToDoubleFunction<? super IEnemy> key);
+
     /**
      * Returns whether all enemies have been killed.
      * @return whether all enemies have been killed
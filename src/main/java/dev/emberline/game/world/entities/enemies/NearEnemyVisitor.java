@@ -0,0 +1,22 @@
+package dev.emberline.game.world.entities.enemies;
+
+import dev.emberline.game.world.entities.enemies.enemy.IEnemy;
+
+/**
+ * A visitor of the enemies found by a proximity query, called while the query scans the spatial hash grid,
+ * so that no list of results has to be built.
+ *
+ * @see IEnemiesManager#forEachNear(dev.emberline.utility.Vector2D, double, NearEnemyVisitor)
+ */
+@FunctionalInterface
+public interface NearEnemyVisitor {
+
+    /**
+     * Visits an enemy found by the query.
+     *
+     * @param enemy the enemy found within the radius of the query
+     * @param squaredDistance the squared distance between the enemy and the center of the query
+     * @return {@code true} to keep visiting enemies, {@code false} to end the query
+     */
+    boolean visit(IEnemy enemy, double squaredDistance);
+}
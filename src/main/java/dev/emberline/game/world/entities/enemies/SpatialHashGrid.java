@@ -6,27 +6,36 @@ import dev.emberline.utility.Vector2D;
 import java.io.Serial;
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
 
 /**
  * The SpatialHashGrid class is a data structure designed for efficient
  * spatial partitioning and querying of {@code IEnemy} objects in a two-dimensional space.
  * It divides the space into a grid of cells and assigns objects to cells based on
  * their positions.
+ * <p>
+ * Every enemy is given an integer handle, which indexes flat arrays holding the enemy, its cached position
+ * and its cell. The cells are a single array of handles sorted by cell, where each cell is the range
+ * between two offsets, rebuilt with a counting sort before the next query whenever an enemy changed cell.
+ * Queries walk these arrays and allocate nothing; enemies that move within their cell only refresh
+ * their cached position.
  */
 public class SpatialHashGrid implements Iterable<IEnemy>, Serializable {
 
     @Serial
-    private static final long serialVersionUID = -763266007228997533L;
+    private static final long serialVersionUID = 4183296375211839914L;
 
     private static final int CELL_SIZE = 1;
+    private static final int INITIAL_CAPACITY = 64;
 
     private final int xMin, yMin;
     private final int xMax, yMax;
@@ -34,14 +43,29 @@ public class SpatialHashGrid implements Iterable<IEnemy>, Serializable {
     private final int cols;
     private final int rows;
 
-    private final List<List<Set<IEnemy>>> cellBuckets;
-    private final Map<IEnemy, CellIdx> enemyCell = new HashMap<>();
+    // Indexed by handle, a null enemy marks a free handle
+    private IEnemy[] enemies = new IEnemy[INITIAL_CAPACITY];
+    private double[] posX = new double[INITIAL_CAPACITY];
+    private double[] posY = new double[INITIAL_CAPACITY];
+    private int[] cellOf = new int[INITIAL_CAPACITY];
+    private final Map<IEnemy, Integer> handles = new HashMap<>();
+    // Handles freed by removed enemies, reused before growing
+    private int[] freeHandles = new int[INITIAL_CAPACITY];
+    private int freeCount;
+    // Handles in [0, highWater) have been used at least once
+    private int highWater;
+
+    // The handles of cell c are cellEntries[cellStart[c]] to cellEntries[cellStart[c + 1] - 1]
+    private final int[] cellStart;
+    private int[] cellEntries = new int[INITIAL_CAPACITY];
+    private boolean cellsDirty;
+
+    // Scratch space of the nearest enemies queries, sorted by distance
+    private transient int[] nearestHandles;
+    private transient double[] nearestSqDistances;
 
     private int size;
 
-    private record CellIdx(int x, int y) implements Serializable {
-    }
-
     /**
      * Constructs a SpatialHashGrid given the bounds (inclusive) of the space the data structure must keep track.
      *
@@ -59,13 +83,7 @@ public class SpatialHashGrid implements Iterable<IEnemy>, Serializable {
         this.xMax = xMax;
         this.yMax = yMax;
 
-        this.cellBuckets = new ArrayList<>();
-        for (int x = 0; x < cols; x++) {
-            this.cellBuckets.add(new ArrayList<>());
-            for (int y = 0; y < rows; y++) {
-                cellBuckets.get(x).add(new HashSet<>());
-            }
-        }
+        this.cellStart = new int[cols * rows + 1];
     }
 
     /**
@@ -79,14 +97,15 @@ public class SpatialHashGrid implements Iterable<IEnemy>, Serializable {
      */
     public void add(final IEnemy enemy) {
         final Vector2D enemyLocation = enemy.getPosition();
-        if (enemyLocation.getX() < xMin || enemyLocation.getX() > xMax
-                || enemyLocation.getY() < yMin || enemyLocation.getY() > yMax) {
-            throw new IllegalStateException("Enemy is outside the bounds of the spatial hash grid");
-        }
-
-        final CellIdx cellIdx = getCellIdx(enemyLocation);
-        cellBuckets.get(cellIdx.x()).get(cellIdx.y()).add(enemy);
-        enemyCell.put(enemy, cellIdx);
+        checkBounds(enemyLocation);
+
+        final int handle = newHandle();
+        enemies[handle] = enemy;
+        posX[handle] = enemyLocation.getX();
+        posY[handle] = enemyLocation.getY();
+        cellOf[handle] = cellOf(enemyLocation.getX(), enemyLocation.getY());
+        handles.put(enemy, handle);
+        cellsDirty = true;
         size++;
     }
 
@@ -99,13 +118,14 @@ public class SpatialHashGrid implements Iterable<IEnemy>, Serializable {
      * @throws IllegalArgumentException if the enemy is not found in the spatial hash grid
      */
     public void remove(final IEnemy enemy) {
-        final CellIdx cellIdx = enemyCell.get(enemy);
-        if (cellIdx == null) {
+        final Integer handle = handles.remove(enemy);
+        if (handle == null) {
             throw new IllegalArgumentException("Enemy isn't present in the spatial hash grid");
         }
 
-        cellBuckets.get(cellIdx.x()).get(cellIdx.y()).remove(enemy);
-        enemyCell.remove(enemy);
+        enemies[handle] = null;
+        freeHandles[freeCount++] = handle;
+        cellsDirty = true;
         size--;
     }
 
@@ -114,21 +134,24 @@ public class SpatialHashGrid implements Iterable<IEnemy>, Serializable {
      *
      * @param enemy the {@code IEnemy} object to update within the spatial hash grid
      * @throws IllegalArgumentException if the enemy is not currently present in the spatial hash grid
+     * @throws IllegalStateException if the new position of the enemy is outside the bounds of the spatial hash grid
      */
     public void update(final IEnemy enemy) {
-        final CellIdx prevCellIdx = enemyCell.get(enemy);
-        if (prevCellIdx == null) {
+        final Integer handle = handles.get(enemy);
+        if (handle == null) {
             throw new IllegalArgumentException("Enemy isn't present in the spatial hash grid");
         }
-        final CellIdx currCellIdx = getCellIdx(enemy.getPosition());
-
-        // Skip if the enemy is still in the same cell
-        if (prevCellIdx.equals(currCellIdx)) {
-            return;
+        final Vector2D enemyLocation = enemy.getPosition();
+        checkBounds(enemyLocation);
+
+        posX[handle] = enemyLocation.getX();
+        posY[handle] = enemyLocation.getY();
+        final int cell = cellOf(enemyLocation.getX(), enemyLocation.getY());
+        // The cells only need to be sorted again if the enemy left its cell
+        if (cell != cellOf[handle]) {
+            cellOf[handle] = cell;
+            cellsDirty = true;
         }
-
-        remove(enemy);
-        add(enemy);
     }
 
     /**
@@ -161,7 +184,24 @@ public class SpatialHashGrid implements Iterable<IEnemy>, Serializable {
      */
     @Override
     public Iterator<IEnemy> iterator() {
-        return enemyCell.keySet().iterator();
+        return new Iterator<>() {
+            private int next = nextUsedHandle(0);
+
+            @Override
+            public boolean hasNext() {
+                return next < highWater;
+            }
+
+            @Override
+            public IEnemy next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                final IEnemy enemy = enemies[next];
+                next = nextUsedHandle(next + 1);
+                return enemy;
+            }
+        };
     }
 
     /**
@@ -180,42 +220,358 @@ public class SpatialHashGrid implements Iterable<IEnemy>, Serializable {
      * @return a {@code List<IEnemy>} containing all enemies located within the specified radius
      */
     public List<IEnemy> getNear(final Vector2D location, final double radius) {
-        final CellIdx min = getCellIdx(location.subtract(radius, radius));
-        final CellIdx max = getCellIdx(location.add(radius, radius));
+        final List<IEnemy> inside = new ArrayList<>();
+        scanNear(location, radius, enemy -> true, inside, null);
+        return inside;
+    }
 
-        final List<IEnemy> inside = new LinkedList<>();
-        for (int x = min.x(); x <= max.x(); x++) {
-            for (int y = min.y(); y <= max.y(); y++) {
-                final CellIdx cellIdx = new CellIdx(x, y);
+    /**
+     * Appends to the given buffer the enemies within a specified radius of a given location
+     * that match the given filter. Nothing is allocated besides the growth of the buffer.
+     *
+     * @param location the {@code Vector2D} representing the central point of the search
+     * @param radius the radius within which to search for enemies
+     * @param filter the condition the enemies must satisfy, checked during the scan
+     * @param buffer the list the enemies found are appended to
+     * @return the number of enemies appended to the buffer
+     */
+    public int getNear(final Vector2D location, final double radius,
+                       final Predicate<? super IEnemy> filter, final List<? super IEnemy> buffer) {
+        return scanNear(location, radius, filter, buffer, null);
+    }
 
-                if (!isInside(cellIdx)) {
-                    continue;
+    /**
+     * Visits the enemies within a specified radius of a given location that match the given filter,
+     * until the visitor asks to stop. Nothing is allocated.
+     *
+     * @param location the {@code Vector2D} representing the central point of the search
+     * @param radius the radius within which to search for enemies
+     * @param filter the condition the enemies must satisfy, checked during the scan
+     * @param visitor the visitor called for every enemy found
+     * @return the number of enemies visited
+     */
+    public int forEachNear(final Vector2D location, final double radius,
+                           final Predicate<? super IEnemy> filter, final NearEnemyVisitor visitor) {
+        return scanNear(location, radius, filter, null, visitor);
+    }
+
+    /**
+     * Appends to the given buffer the enemies nearest to a given location, nearest first, among those within
+     * a specified radius that match the given filter. The cells are visited in rings of growing distance around
+     * the location, and the search ends as soon as no further ring can hold a nearer enemy.
+     *
+     * @param location the {@code Vector2D} representing the central point of the search
+     * @param radius the radius within which to search for enemies
+     * @param filter the condition the enemies must satisfy, checked during the scan
+     * @param count the maximum number of enemies to find
+     * @param buffer the list the enemies found are appended to
+     * @return the number of enemies appended to the buffer
+     * @throws IllegalArgumentException if {@code count} is not positive
+     */
+    public int getNearest(final Vector2D location, final double radius, final Predicate<? super IEnemy> filter,
+                          final int count, final List<? super IEnemy> buffer) {
+        final int found = findNearest(location, radius, filter, count);
+        for (int i = 0; i < found; i++) {
+            buffer.add(enemies[nearestHandles[i]]);
+        }
+        return found;
+    }
+
+    /**
+     * Returns the enemy nearest to a given location among those within a specified radius
+     * that match the given filter.
+     *
+     * @param location the {@code Vector2D} representing the central point of the search
+     * @param radius the radius within which to search for enemies
+     * @param filter the condition the enemy must satisfy, checked during the scan
+     * @return the nearest enemy, or {@code null} if there is none
+     * @see #getNearest(Vector2D, double, Predicate, int, List)
+     */
+    public IEnemy getNearest(final Vector2D location, final double radius, final Predicate<? super IEnemy> filter) {
+        return findNearest(location, radius, filter, 1) == 0 ? null : enemies[nearestHandles[0]];
+    }
+
+    /**
+     * Returns the enemy with the lowest key among those within a specified radius of a given location
+     * that match the given filter. Ties go to the enemy found first.
+     *
+     * @param location the {@code Vector2D} representing the central point of the search
+     * @param radius the radius within which to search for enemies
+     * @param filter the condition the enemy must satisfy, checked during the scan
+     * @param key the key the enemies are compared by
+     * @return the enemy with the lowest key, or {@code null} if there is none
+     */
+    public IEnemy getMinBy(final Vector2D location, final double radius, final Predicate<? super IEnemy> filter,
+                           final ToDoubleFunction<? super IEnemy> key) {
+        return getBestBy(location, radius, filter, key, 1);
+    }
+
+    /**
+     * Returns the enemy with the highest key among those within a specified radius of a given location
+     * that match the given filter. Ties go to the enemy found first.
+     *
+     * @param location the {@code Vector2D} representing the central point of the search
+     * @param radius the radius within which to search for enemies
+     * @param filter the condition the enemy must satisfy, checked during the scan
+     * @param key the key the enemies are compared by
+     * @return the enemy with the highest key, or {@code null} if there is none
+     */
+    public IEnemy getMaxBy(final Vector2D location, final double radius, final Predicate<? super IEnemy> filter,
+                           final ToDoubleFunction<? super IEnemy> key) {
+        return getBestBy(location, radius, filter, key, -1);
+    }
+
+    // The enemy with the lowest key multiplied by the sign
+    private IEnemy getBestBy(final Vector2D location, final double radius, final Predicate<? super IEnemy> filter,
+                             final ToDoubleFunction<? super IEnemy> key, final int sign) {
+        final double centerX = location.getX();
+        final double centerY = location.getY();
+        final double sqRadius = radius * radius;
+        final int minCellX = Math.max(0, cellX(centerX - radius));
+        final int minCellY = Math.max(0, cellY(centerY - radius));
+        final int maxCellX = Math.min(cols - 1, cellX(centerX + radius));
+        final int maxCellY = Math.min(rows - 1, cellY(centerY + radius));
+        sortCells();
+
+        IEnemy best = null;
+        double bestKey = Double.POSITIVE_INFINITY;
+        for (int x = minCellX; x <= maxCellX; x++) {
+            for (int y = minCellY; y <= maxCellY; y++) {
+                final int cell = x * rows + y;
+                for (int i = cellStart[cell]; i < cellStart[cell + 1]; i++) {
+                    final int handle = cellEntries[i];
+                    final double dstX = posX[handle] - centerX;
+                    final double dstY = posY[handle] - centerY;
+                    if (dstX * dstX + dstY * dstY > sqRadius || !filter.test(enemies[handle])) {
+                        continue;
+                    }
+                    final double enemyKey = sign * key.applyAsDouble(enemies[handle]);
+                    if (best == null || enemyKey < bestKey) {
+                        best = enemies[handle];
+                        bestKey = enemyKey;
+                    }
+                }
+            }
+        }
+        return best;
+    }
+
+    // Fills the first entries of nearestHandles with the nearest enemies, nearest first, and returns how many
+    private int findNearest(final Vector2D location, final double radius, final Predicate<? super IEnemy> filter,
+                            final int count) {
+        if (count <= 0) {
+            throw new IllegalArgumentException("The number of enemies to find must be positive");
+        }
+        if (nearestHandles == null || nearestHandles.length < count) {
+            nearestHandles = new int[count];
+            nearestSqDistances = new double[count];
+        }
+        final double centerX = location.getX();
+        final double centerY = location.getY();
+        final double sqRadius = radius * radius;
+        final int centerCellX = cellX(centerX);
+        final int centerCellY = cellY(centerY);
+        // Past this ring every cell is outside the grid
+        final int lastRing = Math.max(
+                Math.max(Math.abs(centerCellX), Math.abs(cols - 1 - centerCellX)),
+                Math.max(Math.abs(centerCellY), Math.abs(rows - 1 - centerCellY)));
+        sortCells();
+
+        int found = 0;
+        for (int ring = 0; ring <= lastRing; ring++) {
+            // The location lies in the center cell, so no enemy in this ring is nearer than this
+            final double ringDistance = Math.max(0, ring - 1) * CELL_SIZE;
+            if (ringDistance > radius
+                    || found == count && ringDistance * ringDistance >= nearestSqDistances[count - 1]) {
+                break;
+            }
+            for (int x = Math.max(0, centerCellX - ring); x <= Math.min(cols - 1, centerCellX + ring); x++) {
+                if (x == centerCellX - ring || x == centerCellX + ring) {
+                    // The left and right sides of the ring are whole columns
+                    for (int y = Math.max(0, centerCellY - ring); y <= Math.min(rows - 1, centerCellY + ring); y++) {
+                        found = offerNearest(x * rows + y, centerX, centerY, sqRadius, filter, count, found);
+                    }
+                } else {
+                    // The top and bottom sides only add their two cells in every other column
+                    if (centerCellY - ring >= 0 && centerCellY - ring < rows) {
+                        found = offerNearest(x * rows + centerCellY - ring,
+                                centerX, centerY, sqRadius, filter, count, found);
+                    }
+                    if (centerCellY + ring >= 0 && centerCellY + ring < rows) {
+                        found = offerNearest(x * rows + centerCellY + ring,
+                                centerX, centerY, sqRadius, filter, count, found);
+                    }
                 }
-                for (final IEnemy enemy : cellBuckets.get(cellIdx.x()).get(cellIdx.y())) {
-                    final Vector2D pos = enemy.getPosition();
-                    final double dstX = pos.getX() - location.getX();
-                    final double dstY = pos.getY() - location.getY();
+            }
+        }
+        return found;
+    }
+
+    // Inserts the enemies of the cell nearer than the found ones into the sorted nearest arrays
+    private int offerNearest(final int cell, final double centerX, final double centerY, final double sqRadius,
+                             final Predicate<? super IEnemy> filter, final int count, final int found) {
+        int nowFound = found;
+        for (int i = cellStart[cell]; i < cellStart[cell + 1]; i++) {
+            final int handle = cellEntries[i];
+            final double dstX = posX[handle] - centerX;
+            final double dstY = posY[handle] - centerY;
+            final double sqDst = dstX * dstX + dstY * dstY;
+            if (sqDst > sqRadius || nowFound == count && sqDst >= nearestSqDistances[count - 1]
+                    || !filter.test(enemies[handle])) {
+                continue;
+            }
+            // When full the farthest enemy is dropped, then the nearer ones are shifted to make room
+            int slot = nowFound == count ? count - 1 : nowFound++;
+            while (slot > 0 && nearestSqDistances[slot - 1] > sqDst) {
+                nearestHandles[slot] = nearestHandles[slot - 1];
+                nearestSqDistances[slot] = nearestSqDistances[slot - 1];
+                slot--;
+            }
+            nearestHandles[slot] = handle;
+            nearestSqDistances[slot] = sqDst;
+        }
+        return nowFound;
+    }
+
+    // Either appends the enemies found to the buffer or visits them, the two are kept in one loop
+    private int scanNear(final Vector2D location, final double radius, final Predicate<? super IEnemy> filter,
+                         final List<? super IEnemy> buffer, final NearEnemyVisitor visitor) {
+        final double centerX = location.getX();
+        final double centerY = location.getY();
+        final double sqRadius = radius * radius;
+        final int minCellX = Math.max(0, cellX(centerX - radius));
+        final int minCellY = Math.max(0, cellY(centerY - radius));
+        final int maxCellX = Math.min(cols - 1, cellX(centerX + radius));
+        final int maxCellY = Math.min(rows - 1, cellY(centerY + radius));
+        sortCells();
+
+        int found = 0;
+        for (int x = minCellX; x <= maxCellX; x++) {
+            for (int y = minCellY; y <= maxCellY; y++) {
+                final int cell = x * rows + y;
+                for (int i = cellStart[cell]; i < cellStart[cell + 1]; i++) {
+                    final int handle = cellEntries[i];
+                    final double dstX = posX[handle] - centerX;
+                    final double dstY = posY[handle] - centerY;
                     final double sqDst = dstX * dstX + dstY * dstY;
+                    if (sqDst > sqRadius || !filter.test(enemies[handle])) {
+                        continue;
+                    }
+                    found++;
+                    if (visitor == null) {
+                        buffer.add(enemies[handle]);
+                    } else if (!visitor.visit(enemies[handle], sqDst)) {
+                        return found;
+                    }
+                }
+            }
+        }
+        return found;
+    }
 
-                    if (sqDst <= radius * radius) {
-                        inside.add(enemy);
+    /**
+     * Performs the given action on every enemy whose position lies within the specified rectangle,
+     * visiting only the cells that overlap it.
+     *
+     * @param minX the minimum x-coordinate of the rectangle
+     * @param minY the minimum y-coordinate of the rectangle
+     * @param maxX the maximum x-coordinate of the rectangle
+     * @param maxY the maximum y-coordinate of the rectangle
+     * @param action the action to be performed on each enemy inside the rectangle
+     * @return the number of enemies the action has been performed on
+     */
+    public int forEachInRect(final double minX, final double minY, final double maxX, final double maxY,
+                              final Consumer<? super IEnemy> action) {
+        final int minCellX = Math.max(0, cellX(minX));
+        final int minCellY = Math.max(0, cellY(minY));
+        final int maxCellX = Math.min(cols - 1, cellX(maxX));
+        final int maxCellY = Math.min(rows - 1, cellY(maxY));
+        sortCells();
+
+        int visited = 0;
+        for (int x = minCellX; x <= maxCellX; x++) {
+            for (int y = minCellY; y <= maxCellY; y++) {
+                final int cell = x * rows + y;
+                for (int i = cellStart[cell]; i < cellStart[cell + 1]; i++) {
+                    final int handle = cellEntries[i];
+                    if (posX[handle] >= minX && posX[handle] <= maxX && posY[handle] >= minY && posY[handle] <= maxY) {
+                        action.accept(enemies[handle]);
+                        visited++;
                     }
                 }
             }
         }
+        return visited;
+    }
 
-        return inside;
+    // Sorts the handles by cell with a counting sort, if an enemy was added, removed or changed cell
+    private void sortCells() {
+        if (!cellsDirty) {
+            return;
+        }
+        final int cells = cellStart.length - 1;
+        Arrays.fill(cellStart, 0);
+        for (int handle = 0; handle < highWater; handle++) {
+            if (enemies[handle] != null) {
+                cellStart[cellOf[handle]]++;
+            }
+        }
+        // Every cell now starts at its end
+        for (int cell = 1; cell < cells; cell++) {
+            cellStart[cell] += cellStart[cell - 1];
+        }
+        cellStart[cells] = size;
+        if (cellEntries.length < size) {
+            cellEntries = new int[enemies.length];
+        }
+        // Filling every cell backwards moves its start back where it belongs, keeping the handles in order
+        for (int handle = highWater - 1; handle >= 0; handle--) {
+            if (enemies[handle] != null) {
+                cellEntries[--cellStart[cellOf[handle]]] = handle;
+            }
+        }
+        cellsDirty = false;
+    }
+
+    private int newHandle() {
+        if (freeCount > 0) {
+            return freeHandles[--freeCount];
+        }
+        if (highWater == enemies.length) {
+            final int capacity = enemies.length * 2;
+            enemies = Arrays.copyOf(enemies, capacity);
+            posX = Arrays.copyOf(posX, capacity);
+            posY = Arrays.copyOf(posY, capacity);
+            cellOf = Arrays.copyOf(cellOf, capacity);
+            freeHandles = Arrays.copyOf(freeHandles, capacity);
+        }
+        return highWater++;
+    }
+
+    private int nextUsedHandle(final int from) {
+        int handle = from;
+        while (handle < highWater && enemies[handle] == null) {
+            handle++;
+        }
+        return handle;
     }
 
-    private boolean isInside(final CellIdx cellIdx) {
-        return cellIdx.x() >= 0 && cellIdx.x() < cols
-                && cellIdx.y() >= 0 && cellIdx.y() < rows;
+    private void checkBounds(final Vector2D location) {
+        if (location.getX() < xMin || location.getX() > xMax
+                || location.getY() < yMin || location.getY() > yMax) {
+            throw new IllegalStateException("Enemy is outside the bounds of the spatial hash grid");
+        }
     }
 
-    private CellIdx getCellIdx(final Vector2D location) {
-        final int x = (int) Math.floor((location.getX() - xMin) / CELL_SIZE);
-        final int y = (int) Math.floor((location.getY() - yMin) / CELL_SIZE);
+    private int cellOf(final double x, final double y) {
+        return cellX(x) * rows + cellY(y);
+    }
+
+    private int cellX(final double x) {
+        return (int) Math.floor((x - xMin) / CELL_SIZE);
+    }
 
-        return new CellIdx(x, y);
+    private int cellY(final double y) {
+        return (int) Math.floor((y - yMin) / CELL_SIZE);
     }
 }
@@ -169,6 +169,14 @@ public abstract class AbstractEnemy implements IEnemy {
         updateComponent.update(elapsed);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void beginStep() {
+        updateComponent.beginStep();
+    }
+
     /**
      * Renders the enemy.
      * @see EnemyRenderComponent#render()
@@ -242,6 +250,16 @@ public abstract class AbstractEnemy implements IEnemy {
         return updateComponent.getRemainingDistanceToTarget();
     }
 
+    /**
+     * Returns the position of the enemy interpolated between the last two updates.
+     * Used to communicate from the updateComponent to the renderComponent.
+     * @param alpha the fraction of the update step elapsed since the last update
+     * @return the position of the enemy interpolated between the last two updates.
+     */
+    Vector2D getInterpolatedPosition(final double alpha) {
+        return updateComponent.getInterpolatedPosition(alpha);
+    }
+
     /**
      * Returns the health of the enemy as a percentage.
      * Used to communicate from the updateComponent to the renderComponent.
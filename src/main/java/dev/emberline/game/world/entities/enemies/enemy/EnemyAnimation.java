@@ -3,6 +3,7 @@ package dev.emberline.game.world.entities.enemies.enemy;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import dev.emberline.core.components.UpdateComponent;
 import dev.emberline.core.graphics.AnimatedSprite;
+import dev.emberline.core.graphics.AtlasRegion;
 import dev.emberline.core.graphics.SpriteLoader;
 import dev.emberline.core.graphics.spritekeys.EnemySpriteKey;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
@@ -143,6 +144,15 @@ public class EnemyAnimation implements UpdateComponent, Serializable {
         return animatedSprite.image(frameIndex);
     }
 
+    /**
+     * Returns the current frame of the enemy's animation as a region of the enemy atlas.
+     *
+     * @return the current frame of the enemy's animation as an atlas region
+     */
+    public AtlasRegion getRegion() {
+        return animatedSprite.region(frameIndex);
+    }
+
     /**
      * Returns whether the enemy's dying animation has completed.
      *
@@ -3,14 +3,14 @@ package dev.emberline.game.world.entities.enemies.enemy;
 import dev.emberline.core.GameLoop;
 import dev.emberline.core.components.RenderComponent;
 import dev.emberline.core.components.UpdateComponent;
+import dev.emberline.core.graphics.AtlasRegion;
 import dev.emberline.core.render.CoordinateSystem;
+import dev.emberline.core.render.QualityTier;
+import dev.emberline.core.render.RenderCommandBuffer;
 import dev.emberline.core.render.RenderPriority;
-import dev.emberline.core.render.RenderTask;
 import dev.emberline.core.render.Renderer;
 import dev.emberline.utility.Vector2D;
-import javafx.scene.canvas.GraphicsContext;
-import javafx.scene.image.Image;
-import javafx.scene.paint.Paint;
+import javafx.scene.paint.Color;
 
 import java.io.Serial;
 import java.io.Serializable;
@@ -27,6 +27,8 @@ class EnemyRenderComponent implements RenderComponent, Serializable {
         private static final double HEIGHT = 0.1;
         private static final double X_OFFSET = 0.1;
         private static final double Y_OFFSET = 0.1;
+        private static final Color BACKGROUND = Color.web("#696969");
+        private static final Color FOREGROUND = Color.web("#00CC00");
     }
 
     EnemyRenderComponent(final AbstractEnemy enemy) {
@@ -39,16 +41,17 @@ class EnemyRenderComponent implements RenderComponent, Serializable {
      * <p>
      * The method calculates the enemy's position and dimensions on the screen
      * based on the world coordinate system and scales them as needed.
-     * The rendering tasks are added to the renderer with the appropriate {@link RenderPriority}
+     * The draw commands are recorded on the renderer with the appropriate {@link RenderPriority}
      * and given a z-order based on the y coordinate of its feet.
+     * <p>
+     * Below the {@link QualityTier#MEDIUM} quality tier the health bar of an enemy at full health is not drawn.
      */
     @Override
     public void render() {
         final Renderer renderer = GameLoop.getInstance().getRenderer();
-        final GraphicsContext gc = renderer.getGraphicsContext();
         final CoordinateSystem cs = renderer.getWorldCoordinateSystem();
-        // enemy body
-        final Vector2D position = enemy.getPosition();
+        // enemy body, drawn between the last two simulated positions
+        final Vector2D position = enemy.getInterpolatedPosition(renderer.getInterpolationAlpha());
         final double enemyScreenWidth = enemy.getWidth() * cs.getScale();
         final double enemyScreenHeight = enemy.getHeight() * cs.getScale();
         final double enemyScreenX = cs.toScreenX(position.getX()) - enemyScreenWidth / 2;
@@ -59,16 +62,17 @@ class EnemyRenderComponent implements RenderComponent, Serializable {
         final double hbScreenX = enemyScreenX + HealthbarLayout.X_OFFSET;
         final double hbScreenY = enemyScreenY + HealthbarLayout.Y_OFFSET;
 
-        final Image currentFrame = enemyAnimation.getImage();
-
-        renderer.addRenderTask(new RenderTask(RenderPriority.ENEMIES, () -> {
-            gc.drawImage(currentFrame, enemyScreenX, enemyScreenY, enemyScreenWidth, enemyScreenHeight);
+        final AtlasRegion currentFrame = enemyAnimation.getRegion();
 
-            gc.setFill(Paint.valueOf("#696969"));
-            gc.fillRect(hbScreenX, hbScreenY, hbScreenWidth, hbScreenHeight);
-            gc.setFill(Paint.valueOf("#00CC00"));
-            gc.fillRect(hbScreenX, hbScreenY, enemy.getHealthPercentage() * hbScreenWidth, hbScreenHeight);
-        }).enableZOrder(position.getY() + enemy.getHeight() / 2));
+        final RenderCommandBuffer commands = renderer.recordCommands(RenderPriority.ENEMIES,
+                position.getY() + enemy.getHeight() / 2);
+        commands.drawImage(currentFrame, enemyScreenX, enemyScreenY, enemyScreenWidth, enemyScreenHeight);
+        final double healthPercentage = enemy.getHealthPercentage();
+        if (healthPercentage < 1 || renderer.getQualityTier().isAtLeast(QualityTier.MEDIUM)) {
+            commands.fillRect(HealthbarLayout.BACKGROUND, hbScreenX, hbScreenY, hbScreenWidth, hbScreenHeight);
+            commands.fillRect(HealthbarLayout.FOREGROUND, hbScreenX, hbScreenY,
+                    healthPercentage * hbScreenWidth, hbScreenHeight);
+        }
     }
 
     /**
@@ -9,6 +9,8 @@ import dev.emberline.game.world.entities.enemies.enemy.IEnemy.UniformMotion;
 import dev.emberline.utility.Coordinate2D;
 import dev.emberline.utility.Vector2D;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serial;
 import java.io.Serializable;
 import java.util.ArrayList;
@@ -35,6 +37,8 @@ class EnemyUpdateComponent implements UpdateComponent, Serializable {
     private double slowFactor = 1;
 
     private Vector2D position;
+    // Position at the start of the last update, used to interpolate between updates when rendering
+    private Vector2D previousPosition;
     private Vector2D velocity;
 
     private final List<Vector2D> destinations = new ArrayList<>();
@@ -56,6 +60,7 @@ class EnemyUpdateComponent implements UpdateComponent, Serializable {
         }
 
         this.position = spawnPoint.subtract(0, enemy.getHeight() / 2);
+        this.previousPosition = position;
         destinations.replaceAll(coordinate2D -> coordinate2D.subtract(0, enemy.getHeight() / 2));
 
         this.enemyState = EnemyState.WALKING;
@@ -93,6 +98,14 @@ class EnemyUpdateComponent implements UpdateComponent, Serializable {
         enemy.getAnimationUpdatable().update(elapsed);
     }
 
+    /**
+     * Records the current position as the one the rendering interpolates from during the step.
+     */
+    @Override
+    public void beginStep() {
+        previousPosition = position;
+    }
+
     private void walk(final long elapsed) {
         if (activeEffect.isExpired()) {
             clearEffect();
@@ -182,6 +195,15 @@ class EnemyUpdateComponent implements UpdateComponent, Serializable {
         return new Coordinate2D(position.getX(), position.getY());
     }
 
+    /**
+     * @param alpha the fraction of the update step elapsed since the last update, in {@code [0, 1]}
+     * @return the position linearly interpolated between the one at the start of the last
+     * update ({@code alpha = 0}) and the current one ({@code alpha = 1}).
+     */
+    Vector2D getInterpolatedPosition(final double alpha) {
+        return previousPosition.add(position.subtract(previousPosition).multiply(alpha));
+    }
+
     double getHealthPercentage() {
         return Math.clamp(health / enemy.getFullHealth(), 0, 1);
     }
@@ -255,4 +277,10 @@ class EnemyUpdateComponent implements UpdateComponent, Serializable {
         clearEffect();
     }
 
+    // A loaded enemy has no previous update to interpolate from, saves without the previous position included
+    @Serial
+    private void readObject(final ObjectInputStream e) throws IOException, ClassNotFoundException {
+        e.defaultReadObject();
+        previousPosition = position;
+    }
 }
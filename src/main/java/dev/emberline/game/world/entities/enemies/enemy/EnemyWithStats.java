@@ -148,6 +148,14 @@ public class EnemyWithStats implements IEnemy, Serializable {
         enemy.update(elapsed);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void beginStep() {
+        enemy.beginStep();
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -94,6 +94,16 @@ public class ProjectilesManager implements UpdateComponent, RenderComponent, Ser
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void beginStep() {
+        for (final IProjectile projectile : projectiles) {
+            projectile.beginStep();
+        }
+    }
+
     /**
      * Renders all active projectiles in the manager.
      */
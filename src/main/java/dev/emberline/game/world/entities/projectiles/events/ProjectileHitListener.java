@@ -2,7 +2,6 @@ package dev.emberline.game.world.entities.projectiles.events;
 
 import dev.emberline.game.model.effects.EnchantmentEffect;
 import dev.emberline.game.world.entities.enemies.IEnemiesManager;
-import dev.emberline.game.world.entities.enemies.enemy.IEnemy;
 import dev.emberline.utility.Vector2D;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 
@@ -38,7 +37,7 @@ public class ProjectileHitListener implements Serializable {
      * Handles the logic for when a projectile hits a target.
      * If the {@code ProjectileHitEvent} has a damage area this method deals
      * damage and applies the effect to all the enemies inside that area.
-     * Otherwise, it just hits whoever is in the proximity of the landing location
+     * Otherwise, it just hits the enemy nearest to the landing location
      *
      * @param e the {@code ProjectileHitEvent} containing information about what
      *          should happen upon hitting a location
@@ -50,13 +49,18 @@ public class ProjectileHitListener implements Serializable {
         final double damageArea = e.getDamageArea().isPresent() ? e.getDamageArea().get() : defaultDamageArea;
         final Optional<EnchantmentEffect> effect = e.getEffect();
 
-        for (final IEnemy enemy : enemiesManager.getNear(landingLocation, damageArea)) {
+        if (e.getDamageArea().isEmpty()) {
+            // A projectile without a damage area only hits the enemy nearest to where it lands
+            enemiesManager.getNearest(landingLocation, damageArea).ifPresent(enemy -> {
+                effect.ifPresent(enemy::applyEffect);
+                enemy.dealDamage(damage);
+            });
+            return;
+        }
+        enemiesManager.forEachNear(landingLocation, damageArea, (enemy, squaredDistance) -> {
             effect.ifPresent(enemy::applyEffect);
             enemy.dealDamage(damage);
-
-            if (e.getDamageArea().isEmpty()) {
-                break;
-            }
-        }
+            return true;
+        });
     }
 }
@@ -56,6 +56,14 @@ public class Projectile implements IProjectile {
         updateComponent.update(elapsed);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void beginStep() {
+        updateComponent.beginStep();
+    }
+
     /**
      * Renders the projectile.
      * @see ProjectileRenderComponent#render()
@@ -84,6 +92,18 @@ public class Projectile implements IProjectile {
         return updateComponent.getPositionAndRotation();
     }
 
+    /**
+     * Retrieves the position and rotation of the projectile interpolated between the last two updates.
+     * Used to communicate from the updateComponent to the renderComponent.
+     *
+     * @param alpha the fraction of the update step elapsed since the last update
+     * @return an instance of {@link PositionAndRotation} containing the interpolated position
+     *         and rotation of the projectile.
+     */
+    PositionAndRotation getInterpolatedPositionAndRotation(final double alpha) {
+        return updateComponent.getInterpolatedPositionAndRotation(alpha);
+    }
+
     /**
      * Retrieves the size type of the projectile.
      * Used to communicate from the updateComponent to the renderComponent.
@@ -1,7 +1,8 @@
 package dev.emberline.game.world.entities.projectiles.projectile;
 
 import dev.emberline.core.components.UpdateComponent;
-import dev.emberline.core.graphics.AnimatedSprite;
+import dev.emberline.core.graphics.AtlasRegion;
+import dev.emberline.core.graphics.RotatedAnimatedSprite;
 import dev.emberline.core.graphics.SpriteLoader;
 import dev.emberline.core.graphics.spritekeys.ProjectileSpriteKey;
 import javafx.scene.image.Image;
@@ -20,7 +21,7 @@ public class ProjectileAnimation implements UpdateComponent, Serializable {
     @Serial
     private static final long serialVersionUID = 2472489217519183066L;
 
-    private final AnimatedSprite projectileSprite;
+    private final RotatedAnimatedSprite projectileSprite;
 
     private int frameIndex;
     private long accumulatedTimeNs;
@@ -32,7 +33,7 @@ public class ProjectileAnimation implements UpdateComponent, Serializable {
      *              to determine the animation sprite.
      */
     public ProjectileAnimation(final Projectile owner) {
-        this.projectileSprite = (AnimatedSprite) SpriteLoader.loadSprite(
+        this.projectileSprite = (RotatedAnimatedSprite) SpriteLoader.loadSprite(
                 new ProjectileSpriteKey(owner.getSizeType(), owner.getEnchantmentType()));
     }
 
@@ -59,4 +60,31 @@ public class ProjectileAnimation implements UpdateComponent, Serializable {
     public Image getImage() {
         return projectileSprite.image(frameIndex);
     }
+
+    /**
+     * Returns the current animation frame of the projectile as a region of the projectile atlas.
+     * @return the current animation frame of the projectile as an atlas region
+     */
+    public AtlasRegion getRegion() {
+        return projectileSprite.region(frameIndex);
+    }
+
+    /**
+     * Returns the current animation frame of the projectile, pre-rotated by the step closest to the given rotation.
+     * @param rotation the clockwise rotation of the projectile in degrees
+     * @return the current animation frame of the projectile, rotated, as an atlas region
+     * @see RotatedAnimatedSprite#region(int, double)
+     */
+    public AtlasRegion getRegion(final double rotation) {
+        return projectileSprite.region(frameIndex, rotation);
+    }
+
+    /**
+     * Returns how much larger than the projectile the rotated frames have to be drawn.
+     * @return the scale of the rotated frames relative to the projectile
+     * @see RotatedAnimatedSprite#getRotatedScale()
+     */
+    public double getRotatedScale() {
+        return projectileSprite.getRotatedScale();
+    }
 }
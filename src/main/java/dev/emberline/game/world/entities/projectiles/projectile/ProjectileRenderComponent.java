@@ -3,14 +3,13 @@ package dev.emberline.game.world.entities.projectiles.projectile;
 import dev.emberline.core.GameLoop;
 import dev.emberline.core.components.RenderComponent;
 import dev.emberline.core.components.UpdateComponent;
+import dev.emberline.core.graphics.AtlasRegion;
 import dev.emberline.core.render.CoordinateSystem;
+import dev.emberline.core.render.RenderCommandBuffer;
 import dev.emberline.core.render.RenderPriority;
-import dev.emberline.core.render.RenderTask;
 import dev.emberline.core.render.Renderer;
 import dev.emberline.game.world.entities.projectiles.projectile.Projectile.PositionAndRotation;
 import dev.emberline.utility.Vector2D;
-import javafx.scene.canvas.GraphicsContext;
-import javafx.scene.image.Image;
 
 import java.io.Serial;
 import java.io.Serializable;
@@ -32,40 +31,44 @@ class ProjectileRenderComponent implements RenderComponent, Serializable {
     }
 
     /**
-     * This method retrieves the current position and rotation of the projectile
-     * and translates it to the screen coordinate system. It then rotates the screen space
-     * by the rotation amount and draws the current frame of the {@link ProjectileAnimation}
-     * to have the effect of the projectile following the trajectory.
+     * This method retrieves the position and rotation of the projectile, interpolated between the
+     * last two updates, and skips the projectile if it is outside the visible area. Otherwise
+     * it translates the position to the screen coordinate system and draws the current frame of the
+     * {@link ProjectileAnimation}, pre-rotated by the rotation amount, to have the effect of the projectile
+     * following the trajectory without changing the transform of the canvas.
      */
     @Override
     public void render() {
         final Renderer renderer = GameLoop.getInstance().getRenderer();
-        final GraphicsContext gc = renderer.getGraphicsContext();
         final CoordinateSystem cs = renderer.getWorldCoordinateSystem();
 
-        final PositionAndRotation posAndRot = owner.getPositionAndRotation();
+        final PositionAndRotation posAndRot = owner.getInterpolatedPositionAndRotation(renderer.getInterpolationAlpha());
         final Vector2D position = posAndRot.position();
         final double rotation = posAndRot.rotation();
 
-        final double screenWidth = WIDTH * cs.getScale();
-        final double screenHeight = HEIGHT * cs.getScale();
+        // Skip projectiles outside the visible area, whatever their rotation
+        final double halfDiagonal = Math.hypot(WIDTH, HEIGHT) / 2;
+        final boolean visible = cs.isVisible(position.getX() - halfDiagonal, position.getY() - halfDiagonal,
+                position.getX() + halfDiagonal, position.getY() + halfDiagonal);
+        renderer.countEntities(visible ? 1 : 0, visible ? 0 : 1);
+        if (!visible) {
+            return;
+        }
+
+        // The rotated frames are larger than the projectile, to hold it at any angle
+        final double rotatedScale = projectileAnimation.getRotatedScale();
+        final double screenWidth = WIDTH * rotatedScale * cs.getScale();
+        final double screenHeight = HEIGHT * rotatedScale * cs.getScale();
 
         final double positionScreenX = cs.toScreenX(position.getX());
         final double positionScreenY = cs.toScreenY(position.getY());
 
-        final Image currentFrame = projectileAnimation.getImage();
-
-        renderer.addRenderTask(new RenderTask(RenderPriority.PROJECTILES, () -> {
-            gc.save();
-
-            gc.translate(positionScreenX, positionScreenY);
-            gc.rotate(rotation);
-
-            // make so that the tip of the projectile hits
-            gc.drawImage(currentFrame, -screenWidth / 2, -screenHeight / 2, screenWidth, screenHeight);
+        final AtlasRegion currentFrame = projectileAnimation.getRegion(rotation);
 
-            gc.restore();
-        }));
+        final RenderCommandBuffer commands = renderer.recordCommands(RenderPriority.PROJECTILES);
+        // make so that the tip of the projectile hits
+        commands.drawImage(currentFrame, positionScreenX - screenWidth / 2, positionScreenY - screenHeight / 2,
+                screenWidth, screenHeight);
     }
 
     UpdateComponent getAnimationUpdatable() {
@@ -11,6 +11,8 @@ import dev.emberline.game.world.entities.projectiles.events.ProjectileHitListene
 import dev.emberline.utility.Coordinate2D;
 import dev.emberline.utility.Vector2D;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serial;
 import java.io.Serializable;
 import java.util.List;
@@ -33,6 +35,8 @@ class ProjectileUpdateComponent implements UpdateComponent, Serializable {
 
     private final long flightTime;
     private long currFlightTime;
+    // Flight time at the start of the last update, used to interpolate between updates when rendering
+    private long previousFlightTime;
 
     private final Projectile.SerializableFunction<Long, Projectile.PositionAndRotation> getPositionAndRotationAt;
     private Vector2D position;
@@ -105,6 +109,14 @@ class ProjectileUpdateComponent implements UpdateComponent, Serializable {
         owner.getAnimationUpdatable().update(elapsed);
     }
 
+    /**
+     * Records the current flight time as the one the rendering interpolates from during the step.
+     */
+    @Override
+    public void beginStep() {
+        previousFlightTime = currFlightTime;
+    }
+
     public boolean hasHit() {
         return hasHit;
     }
@@ -113,6 +125,18 @@ class ProjectileUpdateComponent implements UpdateComponent, Serializable {
         return new Projectile.PositionAndRotation(position, rotation);
     }
 
+    /**
+     * Samples the trajectory between the flight times of the last two updates, so that the
+     * interpolated state lies on the trajectory itself.
+     *
+     * @param alpha the fraction of the update step elapsed since the last update, in {@code [0, 1]}
+     * @return the interpolated position and rotation
+     */
+    Projectile.PositionAndRotation getInterpolatedPositionAndRotation(final double alpha) {
+        final long time = previousFlightTime + (long) ((currFlightTime - previousFlightTime) * alpha);
+        return getPositionAndRotationAt.apply(time);
+    }
+
     ProjectileInfo.Type getSizeType() {
         return projectileInfo.type();
     }
@@ -304,4 +328,11 @@ class ProjectileUpdateComponent implements UpdateComponent, Serializable {
     private Vector2D canonicalToWorld(final Vector2D p) {
         return new Coordinate2D(p.getX(), -p.getY());
     }
+
+    // A loaded projectile has no previous update to interpolate from, saves without the previous time included
+    @Serial
+    private void readObject(final ObjectInputStream e) throws IOException, ClassNotFoundException {
+        e.defaultReadObject();
+        previousFlightTime = currFlightTime;
+    }
 }
@@ -6,11 +6,14 @@ import dev.emberline.core.components.RenderComponent;
 import dev.emberline.core.config.ConfigLoader;
 import dev.emberline.core.graphics.SpriteLoader;
 import dev.emberline.core.graphics.spritekeys.SingleSpriteKey;
+import dev.emberline.core.render.CachedLayer;
 import dev.emberline.core.render.CoordinateSystem;
+import dev.emberline.core.render.QualityTier;
 import dev.emberline.core.render.RenderPriority;
 import dev.emberline.core.render.RenderTask;
 import dev.emberline.core.render.Renderer;
 import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
 
 import java.io.Serial;
 import java.io.Serializable;
@@ -71,6 +74,9 @@ public final class Fog implements RenderComponent, Serializable {
 
     private static final double SECOND_IN_NS = 1e9;
 
+    // Offscreen copy of the fog, only used on the JavaFX Application thread
+    private static final CachedLayer FOG_LAYER = new CachedLayer();
+
     private record Translation(
             @JsonProperty double fromX,
             @JsonProperty double fromY,
@@ -115,6 +121,10 @@ public final class Fog implements RenderComponent, Serializable {
      * based on the current animation time and configuration metadata.
      * <p>
      * The animation uses a duty cycle to handle blinking behavior.
+     * <p>
+     * The fog tiles are painted on a {@link CachedLayer}, which is painted again only when the fog
+     * region, the world coordinate system or the canvas size change, and otherwise drawn at once.
+     * Below the {@link QualityTier#MEDIUM} quality tier the edges and corners of the fog are left out.
      */
     @Override
     public void render() {
@@ -141,38 +151,46 @@ public final class Fog implements RenderComponent, Serializable {
     private static void renderFog(final double topLeftX, final double topLeftY,
                                   final double bottomRightX, final double bottomRightY) {
         final Renderer renderer = GameLoop.getInstance().getRenderer();
-        final GraphicsContext gc = renderer.getGraphicsContext();
+        final GraphicsContext gc = renderer.getGraphicsContext(RenderPriority.FOG);
         final CoordinateSystem cs = renderer.getWorldCoordinateSystem();
 
-        final double viewWorldWidth = bottomRightX - topLeftX;
-        final double viewWorldHeight = bottomRightY - topLeftY;
-        final double screenWidth = renderer.getScreenWidth();
-        final double screenHeight = renderer.getScreenHeight();
+        // Everything the fog layer depends on, captured on the game thread
+        final FogLayerKey key = new FogLayerKey(topLeftX, topLeftY, bottomRightX, bottomRightY,
+                cs.getScale(), cs.toScreenX(0), cs.toScreenY(0),
+                renderer.getScreenWidth(), renderer.getScreenHeight(),
+                cs.getVisibleMinX(), cs.getVisibleMinY(), cs.getVisibleMaxX(), cs.getVisibleMaxY(),
+                renderer.getQualityTier().isAtLeast(QualityTier.MEDIUM));
 
         renderer.addRenderTask(new RenderTask(RenderPriority.FOG, () -> {
-            for (double fogWorldX = topLeftX; fogWorldX < topLeftX + viewWorldWidth; fogWorldX += FOG_SIDE_LENGTH) {
-                drawFogTile(gc, cs, SingleSpriteKey.FOG_TOP, fogWorldX, topLeftY);
-                drawFogTile(gc, cs, SingleSpriteKey.FOG_BOTTOM,
-                        fogWorldX, topLeftY + viewWorldHeight - FOG_SIDE_LENGTH);
-            }
-            for (double fogWorldY = topLeftY; fogWorldY < topLeftY + viewWorldHeight; fogWorldY += FOG_SIDE_LENGTH) {
-                drawFogTile(gc, cs, SingleSpriteKey.FOG_LEFT, topLeftX, fogWorldY);
-                drawFogTile(gc, cs, SingleSpriteKey.FOG_RIGHT,
-                        topLeftX + viewWorldWidth - FOG_SIDE_LENGTH, fogWorldY);
+            FOG_LAYER.draw(gc, key.screenWidth(), key.screenHeight(), key, key::paint);
+        }).withContentKey(key));
+    }
+
+    /**
+     * The state the fog layer is painted from: the fog region, the world to screen transform, the size
+     * of the screen and whether the edges are drawn. The cached layer is painted again only when it changes.
+     */
+    private record FogLayerKey(
+            double topLeftX, double topLeftY, double bottomRightX, double bottomRightY,
+            double scale, double screenOriginX, double screenOriginY,
+            double screenWidth, double screenHeight,
+            double visibleMinX, double visibleMinY, double visibleMaxX, double visibleMaxY,
+            boolean edges
+    ) {
+        private void paint(final GraphicsContext gc) {
+            final Image fog = SpriteLoader.loadSprite(SingleSpriteKey.FOG).image();
+
+            final double viewWorldWidth = bottomRightX - topLeftX;
+            final double viewWorldHeight = bottomRightY - topLeftY;
+
+            if (edges) {
+                paintEdges(gc, viewWorldWidth, viewWorldHeight);
             }
-            // Draw fog corners
-            drawFogTile(gc, cs, SingleSpriteKey.FOG_TOP_LEFT, topLeftX, topLeftY);
-            drawFogTile(gc, cs, SingleSpriteKey.FOG_TOP_RIGHT,
-                    topLeftX + viewWorldWidth - FOG_SIDE_LENGTH, topLeftY);
-            drawFogTile(gc, cs, SingleSpriteKey.FOG_BOTTOM_LEFT,
-                    topLeftX, topLeftY + viewWorldHeight - FOG_SIDE_LENGTH);
-            drawFogTile(gc, cs, SingleSpriteKey.FOG_BOTTOM_RIGHT,
-                    topLeftX + viewWorldWidth - FOG_SIDE_LENGTH, topLeftY + viewWorldHeight - FOG_SIDE_LENGTH);
-            // Convert screen corners to world coordinates and align to tile grid
-            final double screenWorldLeft = Math.floor(cs.toWorldX(0));
-            final double screenWorldTop = Math.floor(cs.toWorldY(0));
-            final double screenWorldRight = Math.ceil(cs.toWorldX(screenWidth));
-            final double screenWorldBottom = Math.ceil(cs.toWorldY(screenHeight));
+            // Align the screen corners in world coordinates to the tile grid
+            final double screenWorldLeft = Math.floor(visibleMinX);
+            final double screenWorldTop = Math.floor(visibleMinY);
+            final double screenWorldRight = Math.ceil(visibleMaxX);
+            final double screenWorldBottom = Math.ceil(visibleMaxY);
             // Compute fog tile offset within the visible region
             final double fogOffsetX = (screenWorldLeft - topLeftX) % FOG_SIDE_LENGTH;
             final double fogOffsetY = (screenWorldTop - topLeftY) % FOG_SIDE_LENGTH;
@@ -187,15 +205,39 @@ public final class Fog implements RenderComponent, Serializable {
                             || fogY < topLeftY
                             || fogY >= topLeftY + viewWorldHeight;
                     if (isOutsideView) {
-                        drawFogTile(gc, cs, SingleSpriteKey.FOG, fogX, fogY);
+                        drawFogTile(gc, fog, fogX, fogY);
                     }
                 }
             }
-        }));
-    }
+        }
+
+        private void paintEdges(final GraphicsContext gc, final double viewWorldWidth, final double viewWorldHeight) {
+            final Image fogTop = SpriteLoader.loadSprite(SingleSpriteKey.FOG_TOP).image();
+            final Image fogBottom = SpriteLoader.loadSprite(SingleSpriteKey.FOG_BOTTOM).image();
+            final Image fogLeft = SpriteLoader.loadSprite(SingleSpriteKey.FOG_LEFT).image();
+            final Image fogRight = SpriteLoader.loadSprite(SingleSpriteKey.FOG_RIGHT).image();
+
+            final double rightX = topLeftX + viewWorldWidth - FOG_SIDE_LENGTH;
+            final double bottomY = topLeftY + viewWorldHeight - FOG_SIDE_LENGTH;
 
-    private static void drawFogTile(final GraphicsContext gc, final CoordinateSystem cs,
-                                    final SingleSpriteKey fogKey, final double x, final double y) {
-        Renderer.drawImage(SpriteLoader.loadSprite(fogKey).image(), gc, cs, x, y, FOG_SIDE_LENGTH, FOG_SIDE_LENGTH);
+            for (double fogWorldX = topLeftX; fogWorldX < topLeftX + viewWorldWidth; fogWorldX += FOG_SIDE_LENGTH) {
+                drawFogTile(gc, fogTop, fogWorldX, topLeftY);
+                drawFogTile(gc, fogBottom, fogWorldX, bottomY);
+            }
+            for (double fogWorldY = topLeftY; fogWorldY < topLeftY + viewWorldHeight; fogWorldY += FOG_SIDE_LENGTH) {
+                drawFogTile(gc, fogLeft, topLeftX, fogWorldY);
+                drawFogTile(gc, fogRight, rightX, fogWorldY);
+            }
+            // Draw fog corners
+            drawFogTile(gc, SpriteLoader.loadSprite(SingleSpriteKey.FOG_TOP_LEFT).image(), topLeftX, topLeftY);
+            drawFogTile(gc, SpriteLoader.loadSprite(SingleSpriteKey.FOG_TOP_RIGHT).image(), rightX, topLeftY);
+            drawFogTile(gc, SpriteLoader.loadSprite(SingleSpriteKey.FOG_BOTTOM_LEFT).image(), topLeftX, bottomY);
+            drawFogTile(gc, SpriteLoader.loadSprite(SingleSpriteKey.FOG_BOTTOM_RIGHT).image(), rightX, bottomY);
+        }
+
+        private void drawFogTile(final GraphicsContext gc, final Image image, final double x, final double y) {
+            gc.drawImage(image, screenOriginX + x * scale, screenOriginY + y * scale,
+                    FOG_SIDE_LENGTH * scale, FOG_SIDE_LENGTH * scale);
+        }
     }
 }
@@ -118,7 +118,8 @@ public final class Zoom implements RenderComponent, Serializable {
 
     @Serial
     private Object readResolve() {
-        if (isOver()) {
+        // A headless simulation can deserialize a world without any renderer to update
+        if (isOver() && GameLoop.isInitialized()) {
             updateCS(
                     metadata.topLeft.toX,
                     metadata.topLeft.toY,
@@ -5,18 +5,16 @@ import dev.emberline.core.components.InputComponent;
 import dev.emberline.core.components.RenderComponent;
 import dev.emberline.core.input.MouseLocation;
 import dev.emberline.core.render.CoordinateSystem;
+import dev.emberline.core.render.RenderCommandBuffer;
 import dev.emberline.core.render.RenderPriority;
-import dev.emberline.core.render.RenderTask;
 import dev.emberline.core.render.Renderer;
 import dev.emberline.core.sounds.AudioController;
 import dev.emberline.core.sounds.event.SfxSoundEvent.SoundType;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
-import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.image.Image;
 import javafx.scene.input.InputEvent;
 import javafx.scene.input.MouseEvent;
 import javafx.scene.paint.Color;
-import javafx.scene.paint.Paint;
 
 import java.util.Objects;
 
@@ -32,6 +30,9 @@ import java.util.Objects;
  */
 public class GuiButton implements InputComponent, RenderComponent {
 
+    // Shade drawn over the normal sprite when hovered, if there is no hover sprite
+    private static final Color DEFAULT_HOVER_SHADE = Color.rgb(10, 10, 10, 0.2);
+
     private final Image normalSprite;
     private final Image hoverSprite; // Can be null
 
@@ -136,6 +137,18 @@ public class GuiButton implements InputComponent, RenderComponent {
         return hovered;
     }
 
+    /**
+     * Returns whether the hover state computed at the last render would differ for the given mouse position,
+     * meaning the button has to be drawn again to reflect it.
+     *
+     * @param mouseGuiX The x-coordinate of the mouse in GUI coordinates.
+     * @param mouseGuiY The y-coordinate of the mouse in GUI coordinates.
+     * @return whether the hover state of the button changed since it was last rendered.
+     */
+    public boolean isHoverChanged(final double mouseGuiX, final double mouseGuiY) {
+        return isInside(mouseGuiX, mouseGuiY) != hovered;
+    }
+
     /**
      * Processes input events to handle mouse interactions with the GUI button.
      *
@@ -172,7 +185,6 @@ public class GuiButton implements InputComponent, RenderComponent {
     public void render() {
         // Rendering
         final Renderer renderer = GameLoop.getInstance().getRenderer();
-        final GraphicsContext gc = renderer.getGraphicsContext();
         final CoordinateSystem guics = renderer.getGuiCoordinateSystem();
         // Mouse hovering
         computeHoverState(guics.toWorldX(MouseLocation.getX()), guics.toWorldY(MouseLocation.getY()));
@@ -183,19 +195,16 @@ public class GuiButton implements InputComponent, RenderComponent {
         final double screenWidth = guics.getScale() * this.width;
         final double screenHeight = guics.getScale() * this.height;
 
-        // Render task
-        renderer.addRenderTask(new RenderTask(RenderPriority.GUI_HIGH, () -> {
-            if (hovered && hoverSprite == null) {
-                gc.drawImage(normalSprite, screenX, screenY, screenWidth, screenHeight);
-                final Paint previousFill = gc.getFill();
-                final double alpha = 0.2;
-                gc.setFill(Color.rgb(10, 10, 10, alpha));
-                gc.fillRect(screenX, screenY, screenWidth, screenHeight);
-                gc.setFill(previousFill);
-            } else {
-                gc.drawImage(hovered ? hoverSprite : normalSprite, screenX, screenY, screenWidth, screenHeight);
-            }
-        }));
+        // Draw commands
+        final RenderCommandBuffer commands = renderer.recordCommands(RenderPriority.GUI_HIGH);
+        if (hovered && hoverSprite == null) {
+            commands.drawImage(normalSprite, screenX, screenY, screenWidth, screenHeight);
+            commands.save();
+            commands.fillRect(DEFAULT_HOVER_SHADE, screenX, screenY, screenWidth, screenHeight);
+            commands.restore();
+        } else {
+            commands.drawImage(hovered ? hoverSprite : normalSprite, screenX, screenY, screenWidth, screenHeight);
+        }
     }
 
     /**
@@ -4,6 +4,7 @@ import dev.emberline.core.GameLoop;
 import dev.emberline.core.components.InputComponent;
 import dev.emberline.core.components.RenderComponent;
 import dev.emberline.core.event.EventDispatcher;
+import dev.emberline.core.input.MouseLocation;
 import dev.emberline.core.render.CoordinateSystem;
 import dev.emberline.gui.event.GuiEvent;
 import javafx.scene.input.InputEvent;
@@ -30,6 +31,12 @@ public class GuiLayer implements RenderComponent, InputComponent {
      */
     private final List<GuiButton> buttons = new ArrayList<>();
 
+    /**
+     * Whether something happened since the last render that the layer has to show, like a click
+     * or a change of the displayed content.
+     */
+    private boolean redrawNeeded = true;
+
     /**
      * The x-y coordinates of the top-left corner and dimensions of this GUI layer in the GUI
      * coordinate system.
@@ -83,6 +90,8 @@ public class GuiLayer implements RenderComponent, InputComponent {
             if (guiX < x || guiX > x + width || guiY < y || guiY > y + height) {
                 return;
             }
+            // Only clicks change what the layer shows, hovering is checked against the mouse location
+            redrawNeeded = true;
         }
 
         for (final GuiButton button : buttons) {
@@ -98,11 +107,42 @@ public class GuiLayer implements RenderComponent, InputComponent {
      */
     @Override
     public void render() {
+        redrawNeeded = false;
         for (final GuiButton button : buttons) {
             button.render();
         }
     }
 
+    /**
+     * Returns whether the layer has to be drawn again: a click was processed or a redraw was requested
+     * since the last render, or the mouse entered or left one of the buttons.
+     * Resizes are not tracked here, as the renderer draws every layer again when the canvas is resized.
+     * @see RenderComponent#isRedrawNeeded()
+     */
+    @Override
+    public boolean isRedrawNeeded() {
+        if (redrawNeeded) {
+            return true;
+        }
+        final CoordinateSystem guiCS = GameLoop.getInstance().getRenderer().getGuiCoordinateSystem();
+        final double mouseGuiX = guiCS.toWorldX(MouseLocation.getX());
+        final double mouseGuiY = guiCS.toWorldY(MouseLocation.getY());
+        for (final GuiButton button : buttons) {
+            if (button.isHoverChanged(mouseGuiX, mouseGuiY)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Marks the layer as changed, so that it is drawn again on the next frame.
+     * Subclasses must call this whenever the content they display changes without an input.
+     */
+    protected void requestRedraw() {
+        redrawNeeded = true;
+    }
+
     /**
      * Returns the buttons currently on the {@code GuiLayer}.
      * @return the buttons currently on the {@code GuiLayer}.
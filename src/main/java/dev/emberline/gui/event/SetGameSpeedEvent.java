@@ -0,0 +1,38 @@
+package dev.emberline.gui.event;
+
+import dev.emberline.core.update.GameSpeed;
+
+import java.io.Serial;
+
+/**
+ * Represents an event triggered to change the speed at which the game is simulated.
+ *
+ * @see GameSpeed
+ */
+public class SetGameSpeedEvent extends GuiEvent {
+
+    @Serial
+    private static final long serialVersionUID = -1598201386416587204L;
+
+    private final GameSpeed gameSpeed;
+
+    /**
+     * Constructs a new {@code SetGameSpeedEvent}.
+     *
+     * @param source the object on which the event initially occurred
+     * @param gameSpeed the speed to set
+     */
+    public SetGameSpeedEvent(final Object source, final GameSpeed gameSpeed) {
+        super(source);
+        this.gameSpeed = gameSpeed;
+    }
+
+    /**
+     * Returns the speed associated with this event.
+     *
+     * @return the speed associated with this event.
+     */
+    public GameSpeed getGameSpeed() {
+        return gameSpeed;
+    }
+}
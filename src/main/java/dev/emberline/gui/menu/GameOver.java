@@ -3,9 +3,9 @@ package dev.emberline.gui.menu;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import dev.emberline.core.GameLoop;
 import dev.emberline.core.config.ConfigLoader;
+import dev.emberline.core.graphics.GlyphAtlas;
 import dev.emberline.core.graphics.SpriteLoader;
 import dev.emberline.core.graphics.spritekeys.SingleSpriteKey;
-import dev.emberline.core.graphics.spritekeys.StringSpriteKey;
 import dev.emberline.core.render.CoordinateSystem;
 import dev.emberline.core.render.RenderPriority;
 import dev.emberline.core.render.RenderTask;
@@ -121,6 +121,8 @@ public final class GameOver extends GuiLayer implements GameState {
              bounds.bottomRightX - bounds.topLeftX,
              bounds.bottomRightY - bounds.topLeftY);
         this.bounds = bounds;
+        addMainMenuButton();
+        addExitButton();
     }
 
     /**
@@ -134,6 +136,7 @@ public final class GameOver extends GuiLayer implements GameState {
             throw new IllegalArgumentException("Statistics cannot be null");
         }
         this.statistics = statistics;
+        requestRedraw();
     }
 
     // Menu button
@@ -156,10 +159,10 @@ public final class GameOver extends GuiLayer implements GameState {
         super.getButtons().add(exitButton);
     }
 
-    private void drawStringImage(final GraphicsContext gc, final CoordinateSystem cs, final Image img, 
-                              final double x, final double y, final double maxWidth, final double maxHeight) {
+    private void drawString(final GraphicsContext gc, final CoordinateSystem cs, final String text,
+                            final double x, final double y, final double maxWidth, final double maxHeight) {
 
-        final double ratio = img.getWidth() / img.getHeight();
+        final double ratio = (double) GlyphAtlas.getTextWidth(text) / GlyphAtlas.getTextHeight();
         double targetWidth = maxWidth;
         double targetHeight = maxHeight;
 
@@ -172,13 +175,10 @@ public final class GameOver extends GuiLayer implements GameState {
 
         final double adjustedY = y - targetHeight;  // To allign text at the bottom of the image
 
-        Renderer.drawImage(img, gc, cs, x, adjustedY, targetWidth, targetHeight);
+        Renderer.drawTextStretch(text, OPTIONS_TEXT_COLOR, gc, cs, x, adjustedY, targetWidth, targetHeight);
     }
 
     private void drawStatisticsText(final GraphicsContext gc, final CoordinateSystem cs) {
-        gc.save();
-        gc.setEffect(OPTIONS_TEXT_COLOR);
-
         final int enemiesFought = statistics.getEnemiesFought();
         final int wavesSurvived = statistics.getWavesSurvived();
         final double totalDamage = statistics.getTotalDamage();
@@ -193,41 +193,39 @@ public final class GameOver extends GuiLayer implements GameState {
         final String timeInGameFormatted = hours > 0
                 ? String.format("%02d:%02d:%02d", hours, minutes, seconds) : String.format("%02d:%02d", minutes, seconds);
 
-        final Image enemiesFoughtLabel = SpriteLoader.loadSprite(new StringSpriteKey("Enemies fought:")).image();
-        final Image wavesSurvivedLabel = SpriteLoader.loadSprite(new StringSpriteKey("Waves survived:")).image();
-        final Image totalDamageLabel = SpriteLoader.loadSprite(new StringSpriteKey("Tot tower damage:")).image();
-        final Image timeInGameLabel = SpriteLoader.loadSprite(new StringSpriteKey("Time in game:")).image();
+        final String enemiesFoughtLabel = "Enemies fought:";
+        final String wavesSurvivedLabel = "Waves survived:";
+        final String totalDamageLabel = "Tot tower damage:";
+        final String timeInGameLabel = "Time in game:";
 
-        final Image enemiesFoughtValue = SpriteLoader.loadSprite(new StringSpriteKey(Integer.toString(enemiesFought))).image();
-        final Image wavesSurvivedValue = SpriteLoader.loadSprite(new StringSpriteKey(Integer.toString(wavesSurvived))).image();
-        final Image totalDamageValue = SpriteLoader.loadSprite(new StringSpriteKey(String.format("%.2f", totalDamage))).image();
-        final Image timeInGameValue = SpriteLoader.loadSprite(new StringSpriteKey(timeInGameFormatted)).image();
+        final String enemiesFoughtValue = Integer.toString(enemiesFought);
+        final String wavesSurvivedValue = Integer.toString(wavesSurvived);
+        final String totalDamageValue = String.format("%.2f", totalDamage);
+        final String timeInGameValue = timeInGameFormatted;
 
         // Row 1: Enemies Fought
-        drawStringImage(gc, cs, enemiesFoughtLabel, LAYOUT.statisticsLabelX, LAYOUT.statisticsFirstRowY,
+        drawString(gc, cs, enemiesFoughtLabel, LAYOUT.statisticsLabelX, LAYOUT.statisticsFirstRowY,
                 LAYOUT.statisticsMaxLabelWidth, LAYOUT.statisticsMaxLabelHeight);
-        drawStringImage(gc, cs, enemiesFoughtValue, LAYOUT.statisticsValueX, LAYOUT.statisticsFirstRowY,
+        drawString(gc, cs, enemiesFoughtValue, LAYOUT.statisticsValueX, LAYOUT.statisticsFirstRowY,
                 LAYOUT.statisticsMaxValueWidth, LAYOUT.statisticsMaxValueHeight);
 
         // Row 2: Waves survived
-        drawStringImage(gc, cs, wavesSurvivedLabel, LAYOUT.statisticsLabelX, LAYOUT.statisticsSecondRowY,
+        drawString(gc, cs, wavesSurvivedLabel, LAYOUT.statisticsLabelX, LAYOUT.statisticsSecondRowY,
                 LAYOUT.statisticsMaxLabelWidth, LAYOUT.statisticsMaxLabelHeight);
-        drawStringImage(gc, cs, wavesSurvivedValue, LAYOUT.statisticsValueX, LAYOUT.statisticsSecondRowY,
+        drawString(gc, cs, wavesSurvivedValue, LAYOUT.statisticsValueX, LAYOUT.statisticsSecondRowY,
                 LAYOUT.statisticsMaxValueWidth, LAYOUT.statisticsMaxValueHeight);
 
         // Row 3: Total damage dealt
-        drawStringImage(gc, cs, totalDamageLabel, LAYOUT.statisticsLabelX, LAYOUT.statisticsThirdRowY,
+        drawString(gc, cs, totalDamageLabel, LAYOUT.statisticsLabelX, LAYOUT.statisticsThirdRowY,
                 LAYOUT.statisticsMaxLabelWidth, LAYOUT.statisticsMaxLabelHeight);
-        drawStringImage(gc, cs, totalDamageValue, LAYOUT.statisticsValueX, LAYOUT.statisticsThirdRowY,
+        drawString(gc, cs, totalDamageValue, LAYOUT.statisticsValueX, LAYOUT.statisticsThirdRowY,
                 LAYOUT.statisticsMaxValueWidth, LAYOUT.statisticsMaxValueHeight);
 
         // Row 4: Time in game
-        drawStringImage(gc, cs, timeInGameLabel, LAYOUT.statisticsLabelX, LAYOUT.statisticsFourthRowY,
+        drawString(gc, cs, timeInGameLabel, LAYOUT.statisticsLabelX, LAYOUT.statisticsFourthRowY,
                 LAYOUT.statisticsMaxLabelWidth, LAYOUT.statisticsMaxLabelHeight);
-        drawStringImage(gc, cs, timeInGameValue, LAYOUT.statisticsValueX, LAYOUT.statisticsFourthRowY,
+        drawString(gc, cs, timeInGameValue, LAYOUT.statisticsValueX, LAYOUT.statisticsFourthRowY,
                 LAYOUT.statisticsMaxValueWidth, LAYOUT.statisticsMaxValueHeight);
-
-        gc.restore();
     }
 
     /**
@@ -237,11 +235,9 @@ public final class GameOver extends GuiLayer implements GameState {
     public void render() {
         // Render background
         final Renderer renderer = GameLoop.getInstance().getRenderer();
-        final GraphicsContext gc = renderer.getGraphicsContext();
-        final CoordinateSystem cs = renderer.getGuiCoordinateSystem();
-
-        addMainMenuButton();
-        addExitButton();
+        final GraphicsContext backgroundGc = renderer.getGraphicsContext(RenderPriority.BACKGROUND);
+        final GraphicsContext gc = renderer.getGraphicsContext(RenderPriority.GUI);
+        final CoordinateSystem cs = renderer.getGuiCoordinateSystem().snapshot();
 
         final double gameOverScreenWidth = (bounds.bottomRightX - bounds.topLeftX) * cs.getScale();
         final double gameOverScreenHeight = (bounds.bottomRightY - bounds.topLeftY) * cs.getScale();
@@ -253,8 +249,9 @@ public final class GameOver extends GuiLayer implements GameState {
         final Image statisticsImage = SpriteLoader.loadSprite(SingleSpriteKey.STATISTICS).image();
 
         renderer.addRenderTask(new RenderTask(RenderPriority.BACKGROUND, () -> {
-            gc.drawImage(gameOverBackground, gameOverScreenX, gameOverScreenY, gameOverScreenWidth, gameOverScreenHeight);
-        }));
+            backgroundGc.drawImage(gameOverBackground, gameOverScreenX, gameOverScreenY,
+                    gameOverScreenWidth, gameOverScreenHeight);
+        }).withContentKey(SingleSpriteKey.GAME_OVER_BACKGROUND));
 
         renderer.addRenderTask(new RenderTask(RenderPriority.GUI, () -> {
             gc.drawImage(gameOverImage, cs.toScreenX(LAYOUT.titleX), cs.toScreenY(LAYOUT.titleY),
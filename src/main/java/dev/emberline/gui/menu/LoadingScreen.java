@@ -0,0 +1,161 @@
+package dev.emberline.gui.menu;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import dev.emberline.core.GameLoop;
+import dev.emberline.core.assets.AssetWarmup;
+import dev.emberline.core.config.ConfigLoader;
+import dev.emberline.core.graphics.SpriteLoader;
+import dev.emberline.core.graphics.spritekeys.SingleSpriteKey;
+import dev.emberline.core.render.CoordinateSystem;
+import dev.emberline.core.render.RenderPriority;
+import dev.emberline.core.render.RenderTask;
+import dev.emberline.core.render.Renderer;
+import dev.emberline.game.GameState;
+import dev.emberline.gui.GuiLayer;
+import dev.emberline.gui.event.SetMainMenuEvent;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.paint.Color;
+
+/**
+ * Represents the loading screen shown when the game starts, while the {@link AssetWarmup} loads the assets.
+ * It shows a progress bar and the percentage of the assets loaded, and throws a {@link SetMainMenuEvent}
+ * as soon as all the assets have been loaded.
+ */
+public final class LoadingScreen extends GuiLayer implements GameState {
+    private static final Layout LAYOUT = ConfigLoader.loadConfig("/gui/loading/loadingLayout.json", Layout.class);
+    private static final Color BAR_BORDER_COLOR = Color.rgb(43, 28, 20);
+    private static final Color BAR_BACKGROUND_COLOR = Color.rgb(87, 59, 41);
+    private static final Color BAR_COLOR = Color.rgb(240, 140, 40);
+    private static final int PERCENT = 100;
+
+    private final LoadingBounds bounds;
+    private final AssetWarmup warmup;
+    private int shownPercent = -1;
+    private boolean loaded;
+
+    private record Layout(
+            @JsonProperty
+            double barX,
+            @JsonProperty
+            double barY,
+            @JsonProperty
+            double barWidth,
+            @JsonProperty
+            double barHeight,
+            @JsonProperty
+            double barBorder,
+            @JsonProperty
+            double textX,
+            @JsonProperty
+            double textY,
+            @JsonProperty
+            double textWidth,
+            @JsonProperty
+            double textHeight
+    ) {
+    }
+
+    private record LoadingBounds(
+            @JsonProperty
+            int topLeftX,
+            @JsonProperty
+            int topLeftY,
+            @JsonProperty
+            int bottomRightX,
+            @JsonProperty
+            int bottomRightY
+    ) {
+        // Data validation
+        private LoadingBounds {
+            if (topLeftX >= bottomRightX || topLeftY >= bottomRightY) {
+                throw new IllegalArgumentException("Invalid loading screen bounds: " + this);
+            }
+        }
+    }
+
+    /**
+     * Constructs an instance of the {@code LoadingScreen} class using bounds defined in a configuration file.
+     *
+     * @param warmup the warm-up whose progress is shown
+     * @throws RuntimeException if the configuration file cannot be loaded or deserialized.
+     */
+    public LoadingScreen(final AssetWarmup warmup) {
+        this(ConfigLoader.loadConfig("/gui/guiBounds.json", LoadingBounds.class), warmup);
+    }
+
+    @SuppressFBWarnings(
+            value = "EI_EXPOSE_REP2",
+            justification = "The warm-up is shared on purpose, its progress is polled by this screen."
+    )
+    private LoadingScreen(final LoadingBounds bounds, final AssetWarmup warmup) {
+        super(bounds.topLeftX, bounds.topLeftY,
+                bounds.bottomRightX - bounds.topLeftX,
+                bounds.bottomRightY - bounds.topLeftY);
+        this.bounds = bounds;
+        this.warmup = warmup;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void render() {
+        final Renderer renderer = GameLoop.getInstance().getRenderer();
+        final GraphicsContext backgroundGc = renderer.getGraphicsContext(RenderPriority.BACKGROUND);
+        final GraphicsContext gc = renderer.getGraphicsContext(RenderPriority.GUI);
+        final CoordinateSystem cs = renderer.getGuiCoordinateSystem().snapshot();
+
+        final double screenWidth = (bounds.bottomRightX - bounds.topLeftX) * cs.getScale();
+        final double screenHeight = (bounds.bottomRightY - bounds.topLeftY) * cs.getScale();
+        final double screenX = cs.toScreenX(bounds.topLeftX);
+        final double screenY = cs.toScreenY(bounds.topLeftY);
+
+        final Image background = SpriteLoader.loadSprite(SingleSpriteKey.GUI_BACKGROUND).image();
+        shownPercent = currentPercent();
+        final double progress = (double) shownPercent / PERCENT;
+        final String text = "Loading " + shownPercent + "%";
+
+        renderer.addRenderTask(new RenderTask(RenderPriority.BACKGROUND, () -> {
+            backgroundGc.drawImage(background, screenX, screenY, screenWidth, screenHeight);
+        }).withContentKey(SingleSpriteKey.GUI_BACKGROUND));
+
+        renderer.addRenderTask(new RenderTask(RenderPriority.GUI, () -> {
+            gc.setFill(BAR_BORDER_COLOR);
+            Renderer.fillRect(gc, cs, LAYOUT.barX - LAYOUT.barBorder, LAYOUT.barY - LAYOUT.barBorder,
+                    LAYOUT.barWidth + 2 * LAYOUT.barBorder, LAYOUT.barHeight + 2 * LAYOUT.barBorder);
+            gc.setFill(BAR_BACKGROUND_COLOR);
+            Renderer.fillRect(gc, cs, LAYOUT.barX, LAYOUT.barY, LAYOUT.barWidth, LAYOUT.barHeight);
+            gc.setFill(BAR_COLOR);
+            Renderer.fillRect(gc, cs, LAYOUT.barX, LAYOUT.barY, LAYOUT.barWidth * progress, LAYOUT.barHeight);
+            Renderer.drawTextFitCenter(text, gc, cs, LAYOUT.textX, LAYOUT.textY, LAYOUT.textWidth, LAYOUT.textHeight);
+        }));
+
+        super.render();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isRedrawNeeded() {
+        return currentPercent() != shownPercent || super.isRedrawNeeded();
+    }
+
+    /**
+     * {@inheritDoc}
+     * Moves to the main menu once all the assets have been loaded.
+     */
+    @Override
+    public void update(final long elapsed) {
+        if (!loaded && warmup.isDone()) {
+            loaded = true;
+            throwEvent(new SetMainMenuEvent(this));
+        }
+    }
+
+    private int currentPercent() {
+        return (int) (warmup.getProgress() * PERCENT);
+    }
+}
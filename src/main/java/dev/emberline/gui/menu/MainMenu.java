@@ -18,6 +18,8 @@ import dev.emberline.gui.event.SetStartEvent;
 import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.image.Image;
 
+import java.util.List;
+
 /**
  * Represents the main menu state of the game, which serves as the starting point
  * for user interaction upon launching.
@@ -31,7 +33,7 @@ import javafx.scene.image.Image;
  * It is responsible for triggering appropriate events for game state transitions
  * (e.g., starting the game, opening options, or exiting).
  */
-public class MainMenu extends GuiLayer implements GameState {
+public final class MainMenu extends GuiLayer implements GameState {
 
     private final MenuBounds bounds;
     private static final Layout LAYOUT = ConfigLoader.loadConfig("/gui/menu/mainMenuLayout.json", Layout.class);
@@ -93,6 +95,9 @@ public class MainMenu extends GuiLayer implements GameState {
         super(bounds.topLeftX, bounds.topLeftY,
         bounds.bottomRightX - bounds.topLeftX, bounds.bottomRightY - bounds.topLeftY);
         this.bounds = bounds;
+        addStartButton();
+        addOptionsButton();
+        addExitButton();
     }
 
     // Start button
@@ -131,12 +136,8 @@ public class MainMenu extends GuiLayer implements GameState {
     @Override
     public void render() {
         final Renderer renderer = GameLoop.getInstance().getRenderer();
-        final GraphicsContext gc = renderer.getGraphicsContext();
-        final CoordinateSystem cs = renderer.getGuiCoordinateSystem();
-
-        addStartButton();
-        addOptionsButton();
-        addExitButton();
+        final GraphicsContext gc = renderer.getGraphicsContext(RenderPriority.BACKGROUND);
+        final CoordinateSystem cs = renderer.getGuiCoordinateSystem().snapshot();
 
         final double menuScreenWidth = (bounds.bottomRightX - bounds.topLeftX) * cs.getScale();
         final double menuScreenHeight = (bounds.bottomRightY - bounds.topLeftY) * cs.getScale();
@@ -150,7 +151,7 @@ public class MainMenu extends GuiLayer implements GameState {
             gc.drawImage(menuBackground, menuScreenX, menuScreenY, menuScreenWidth, menuScreenHeight);
             gc.drawImage(emberlineTitle, cs.toScreenX(LAYOUT.titleX), cs.toScreenY(LAYOUT.titleY),
                     LAYOUT.titleWidth * cs.getScale(), LAYOUT.titleHeight * cs.getScale());
-        }));
+        }).withContentKey(List.of(SingleSpriteKey.GUI_BACKGROUND, SingleSpriteKey.EMBERLINE_TITLE)));
 
         super.render();
     }
@@ -3,9 +3,9 @@ package dev.emberline.gui.menu;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import dev.emberline.core.GameLoop;
 import dev.emberline.core.config.ConfigLoader;
+import dev.emberline.core.graphics.GlyphAtlas;
 import dev.emberline.core.graphics.SpriteLoader;
 import dev.emberline.core.graphics.spritekeys.SingleSpriteKey;
-import dev.emberline.core.graphics.spritekeys.StringSpriteKey;
 import dev.emberline.core.render.CoordinateSystem;
 import dev.emberline.core.render.RenderPriority;
 import dev.emberline.core.render.RenderTask;
@@ -22,6 +22,9 @@ import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.effect.ColorAdjust;
 import javafx.scene.image.Image;
 
+import java.util.List;
+import java.util.function.DoubleConsumer;
+
 /**
  * Represents the "Options" menu in the game, providing functionality for rendering
  * and interacting with the options interface of the GUI layer. This class controls
@@ -32,6 +35,10 @@ public class Options extends GuiLayer implements GameState {
     private final boolean showMenuButton;
     private static final Layout LAYOUT = ConfigLoader.loadConfig("/gui/options/optionsLayout.json", Layout.class);
     private static final ColorAdjust OPTIONS_TEXT_COLOR = new ColorAdjust(0.15, 0.9, -0.3, 0);
+    // Selectable FPS caps, in increasing order
+    private static final double[] FPS_CAPS = {30, 60, 120, 144, 240};
+    // Selectable render scales of the world, in increasing order
+    private static final double[] RENDER_SCALES = {0.5, 0.6, 0.7, 0.8, 0.9, 1.0};
 
     private record Layout(
             @JsonProperty
@@ -65,6 +72,10 @@ public class Options extends GuiLayer implements GameState {
             @JsonProperty
             double fullscreenCheckboxY,
             @JsonProperty
+            double fpsCapY,
+            @JsonProperty
+            double renderScaleY,
+            @JsonProperty
             double btnNavX,
             @JsonProperty
             double btnBackY,
@@ -85,6 +96,22 @@ public class Options extends GuiLayer implements GameState {
     ) {
     }
 
+    /**
+     * The values shown next to the controls, read from the preferences on the game thread.
+     */
+    private record OptionsValues(String musicVolume, String sfxVolume, String fpsCap, String renderScale) {
+        private static OptionsValues fromPreferences() {
+            final int musicVolume = (int) (PreferencesManager.getDoublePreference(PreferenceKey.MUSIC_VOLUME) * 100);
+            final int sfxVolume = (int) (PreferencesManager.getDoublePreference(PreferenceKey.SFX_VOLUME) * 100);
+            return new OptionsValues(
+                    musicVolume + "%",
+                    sfxVolume + "%",
+                    String.valueOf((int) FPS_CAPS[getSteppedIndex(FPS_CAPS, PreferenceKey.FPS_CAP)]),
+                    Math.round(RENDER_SCALES[getSteppedIndex(RENDER_SCALES, PreferenceKey.RENDER_SCALE)] * 100) + "%"
+            );
+        }
+    }
+
     private record OptionsBounds(
             @JsonProperty
             int topLeftX,
@@ -134,6 +161,8 @@ public class Options extends GuiLayer implements GameState {
         addSfxVolumeControl();
         addSfxCheckbox();
         addFullScreenCheckbox();
+        addFpsCapControl();
+        addRenderScaleControl();
 
         addCloseOptionsButton();
         if (showMenuButton) {
@@ -320,6 +349,83 @@ public class Options extends GuiLayer implements GameState {
         super.getButtons().add(fullscreenCheckbox);
     }
 
+    private void addFpsCapControl() {
+        addSteppedControl(FPS_CAPS, PreferenceKey.FPS_CAP, LAYOUT.fpsCapY,
+                fpsCap -> GameLoop.getInstance().setFpsCap(fpsCap));
+    }
+
+    private void addRenderScaleControl() {
+        addSteppedControl(RENDER_SCALES, PreferenceKey.RENDER_SCALE, LAYOUT.renderScaleY,
+                renderScale -> GameLoop.getInstance().getRenderer().setRenderScale(renderScale));
+    }
+
+    // Minus and plus buttons stepping the preference through the given values, in increasing order
+    private void addSteppedControl(final double[] values, final PreferenceKey key, final double y,
+                                   final DoubleConsumer apply) {
+        final int index = getSteppedIndex(values, key);
+
+        Image minusButton = SpriteLoader.loadSprite(SingleSpriteKey.OPTIONS_MINUS_BUTTON).image();
+        Image minusButtonHover = SpriteLoader.loadSprite(SingleSpriteKey.OPTIONS_MINUS_BUTTON_HOVER).image();
+        if (index <= 0) {
+            minusButton = SpriteLoader.loadSprite(SingleSpriteKey.OPTIONS_MINUS_BUTTON_DISABLED).image();
+            minusButtonHover = SpriteLoader.loadSprite(SingleSpriteKey.OPTIONS_MINUS_BUTTON_DISABLED).image();
+        }
+
+        Image plusButton = SpriteLoader.loadSprite(SingleSpriteKey.OPTIONS_PLUS_BUTTON).image();
+        Image plusButtonHover = SpriteLoader.loadSprite(SingleSpriteKey.OPTIONS_PLUS_BUTTON_HOVER).image();
+        if (index >= values.length - 1) {
+            plusButton = SpriteLoader.loadSprite(SingleSpriteKey.OPTIONS_PLUS_BUTTON_DISABLED).image();
+            plusButtonHover = SpriteLoader.loadSprite(SingleSpriteKey.OPTIONS_PLUS_BUTTON_DISABLED).image();
+        }
+
+        final GuiButton minusControl = new GuiButton(
+            LAYOUT.controlsStartX + LAYOUT.minusOffsetX,
+            y,
+            LAYOUT.btnWidth,
+            LAYOUT.btnHeight,
+            minusButton,
+            minusButtonHover
+        );
+        minusControl.setOnClick(() -> {
+            if (index <= 0) {
+                return; // Do not decrease the value if already at minimum
+            }
+            setSteppedPreference(key, values[index - 1], apply);
+        });
+        super.getButtons().add(minusControl);
+
+        final GuiButton plusControl = new GuiButton(
+            LAYOUT.controlsStartX + LAYOUT.plusOffsetX,
+            y,
+            LAYOUT.btnWidth,
+            LAYOUT.btnHeight,
+            plusButton,
+            plusButtonHover
+        );
+        plusControl.setOnClick(() -> {
+            if (index >= values.length - 1) {
+                return; // Do not increase the value if already at maximum
+            }
+            setSteppedPreference(key, values[index + 1], apply);
+        });
+        super.getButtons().add(plusControl);
+    }
+
+    // Index of the highest selectable value not above the stored preference
+    private static int getSteppedIndex(final double[] values, final PreferenceKey key) {
+        final double preference = PreferencesManager.getDoublePreference(key);
+        int index = 0;
+        while (index + 1 < values.length && values[index + 1] <= preference) {
+            index++;
+        }
+        return index;
+    }
+
+    private static void setSteppedPreference(final PreferenceKey key, final double value, final DoubleConsumer apply) {
+        PreferencesManager.setDoublePreference(key, value);
+        apply.accept(value);
+    }
+
     private void addCloseOptionsButton() {
         final GuiButton backButton = new GuiButton(
             LAYOUT.btnNavX,
@@ -346,11 +452,11 @@ public class Options extends GuiLayer implements GameState {
         super.getButtons().add(menuButton);
     }
 
-    private void drawStringImage(final GraphicsContext gc, final CoordinateSystem cs, final Image img, 
-                               final double x, final double y, final double maxWidth, final double maxHeight,
-                               final boolean centerHorizontally) {
+    private void drawString(final GraphicsContext gc, final CoordinateSystem cs, final String text,
+                            final double x, final double y, final double maxWidth, final double maxHeight,
+                            final boolean centerHorizontally) {
 
-        final double ratio = img.getWidth() / img.getHeight();
+        final double ratio = (double) GlyphAtlas.getTextWidth(text) / GlyphAtlas.getTextHeight();
         double targetWidth = maxWidth;
         double targetHeight = maxHeight;
 
@@ -369,42 +475,49 @@ public class Options extends GuiLayer implements GameState {
             finalX = x + (maxWidth - targetWidth) / 2;
         }
 
-        Renderer.drawImage(img, gc, cs, finalX, finalY, targetWidth, targetHeight);
+        Renderer.drawTextStretch(text, OPTIONS_TEXT_COLOR, gc, cs, finalX, finalY, targetWidth, targetHeight);
     }
 
-    private void drawOptionsText(final GraphicsContext gc, final CoordinateSystem cs) {
-        gc.save();
-        gc.setEffect(OPTIONS_TEXT_COLOR);
-        final Image musicVolumeLabel = SpriteLoader.loadSprite(new StringSpriteKey("Music")).image();
-        drawStringImage(gc, cs, musicVolumeLabel, LAYOUT.rowStartX, LAYOUT.musicVolumeY,
+    private void drawOptionsText(final GraphicsContext gc, final CoordinateSystem cs, final OptionsValues values) {
+        final String musicVolumeLabel = "Music";
+        drawString(gc, cs, musicVolumeLabel, LAYOUT.rowStartX, LAYOUT.musicVolumeY,
                 LAYOUT.labelWidth, LAYOUT.rowHeight, false);
 
-        final Integer musicVolumeValue = (int) (PreferencesManager.getDoublePreference(PreferenceKey.MUSIC_VOLUME) * 100);
-        final Image musicVolume = SpriteLoader.loadSprite(new StringSpriteKey(musicVolumeValue.toString() + "%")).image();
-        drawStringImage(gc, cs, musicVolume, LAYOUT.controlsStartX, LAYOUT.musicVolumeY,
+        drawString(gc, cs, values.musicVolume(), LAYOUT.controlsStartX, LAYOUT.musicVolumeY,
                 LAYOUT.percentageWidth, LAYOUT.rowHeight, true);
 
-        final Image musicMuteLabel = SpriteLoader.loadSprite(new StringSpriteKey("Mute music")).image();
-        drawStringImage(gc, cs, musicMuteLabel, LAYOUT.rowStartX, LAYOUT.musicCheckboxY,
+        final String musicMuteLabel = "Mute music";
+        drawString(gc, cs, musicMuteLabel, LAYOUT.rowStartX, LAYOUT.musicCheckboxY,
                 LAYOUT.labelWidth, LAYOUT.rowHeight, false);
 
-        final Image sfxVolumeLabel = SpriteLoader.loadSprite(new StringSpriteKey("SFX")).image();
-        drawStringImage(gc, cs, sfxVolumeLabel, LAYOUT.rowStartX, LAYOUT.sfxVolumeY,
+        final String sfxVolumeLabel = "SFX";
+        drawString(gc, cs, sfxVolumeLabel, LAYOUT.rowStartX, LAYOUT.sfxVolumeY,
                 LAYOUT.labelWidth, LAYOUT.rowHeight, false);
 
-        final Integer sfxVolumeValue = (int) (PreferencesManager.getDoublePreference(PreferenceKey.SFX_VOLUME) * 100);
-        final Image sfxVolume = SpriteLoader.loadSprite(new StringSpriteKey(sfxVolumeValue.toString() + "%")).image();
-        drawStringImage(gc, cs, sfxVolume, LAYOUT.controlsStartX, LAYOUT.sfxVolumeY,
+        drawString(gc, cs, values.sfxVolume(), LAYOUT.controlsStartX, LAYOUT.sfxVolumeY,
                 LAYOUT.percentageWidth, LAYOUT.rowHeight, true);
 
-        final Image sfxMuteLabel = SpriteLoader.loadSprite(new StringSpriteKey("Mute SFX")).image();
-        drawStringImage(gc, cs, sfxMuteLabel, LAYOUT.rowStartX, LAYOUT.sfxCheckboxY,
+        final String sfxMuteLabel = "Mute SFX";
+        drawString(gc, cs, sfxMuteLabel, LAYOUT.rowStartX, LAYOUT.sfxCheckboxY,
+                LAYOUT.labelWidth, LAYOUT.rowHeight, false);
+
+        final String fullscreenLabel = "Fullscreen";
+        drawString(gc, cs, fullscreenLabel, LAYOUT.rowStartX, LAYOUT.fullscreenCheckboxY,
                 LAYOUT.labelWidth, LAYOUT.rowHeight, false);
 
-        final Image fullscreenLabel = SpriteLoader.loadSprite(new StringSpriteKey("Fullscreen")).image();
-        drawStringImage(gc, cs, fullscreenLabel, LAYOUT.rowStartX, LAYOUT.fullscreenCheckboxY,
+        final String fpsCapLabel = "FPS cap";
+        drawString(gc, cs, fpsCapLabel, LAYOUT.rowStartX, LAYOUT.fpsCapY,
                 LAYOUT.labelWidth, LAYOUT.rowHeight, false);
-        gc.restore();
+
+        drawString(gc, cs, values.fpsCap(), LAYOUT.controlsStartX, LAYOUT.fpsCapY,
+                LAYOUT.percentageWidth, LAYOUT.rowHeight, true);
+
+        final String renderScaleLabel = "Render scale";
+        drawString(gc, cs, renderScaleLabel, LAYOUT.rowStartX, LAYOUT.renderScaleY,
+                LAYOUT.labelWidth, LAYOUT.rowHeight, false);
+
+        drawString(gc, cs, values.renderScale(), LAYOUT.controlsStartX, LAYOUT.renderScaleY,
+                LAYOUT.percentageWidth, LAYOUT.rowHeight, true);
     }
 
     /**
@@ -413,8 +526,9 @@ public class Options extends GuiLayer implements GameState {
     @Override
     public void render() {
         final Renderer renderer = GameLoop.getInstance().getRenderer();
-        final GraphicsContext gc = renderer.getGraphicsContext();
-        final CoordinateSystem cs = renderer.getGuiCoordinateSystem();
+        final GraphicsContext backgroundGc = renderer.getGraphicsContext(RenderPriority.BACKGROUND);
+        final GraphicsContext gc = renderer.getGraphicsContext(RenderPriority.GUI);
+        final CoordinateSystem cs = renderer.getGuiCoordinateSystem().snapshot();
 
         final double optionsScreenWidth = (bounds.bottomRightX - bounds.topLeftX) * cs.getScale();
         final double optionsScreenHeight = (bounds.bottomRightY - bounds.topLeftY) * cs.getScale();
@@ -427,13 +541,16 @@ public class Options extends GuiLayer implements GameState {
         final Image windowBackground = SpriteLoader.loadSprite(SingleSpriteKey.OPTIONS_WINDOW_BACKGROUND).image();
 
         renderer.addRenderTask(new RenderTask(RenderPriority.BACKGROUND, () -> {
-            gc.drawImage(optionsBackground, optionsScreenX, optionsScreenY, optionsScreenWidth, optionsScreenHeight);
-            gc.drawImage(windowBackground, cs.toScreenX(LAYOUT.windowBgX), cs.toScreenY(LAYOUT.windowBgY), 
+            backgroundGc.drawImage(optionsBackground, optionsScreenX, optionsScreenY, optionsScreenWidth,
+                    optionsScreenHeight);
+            backgroundGc.drawImage(windowBackground, cs.toScreenX(LAYOUT.windowBgX), cs.toScreenY(LAYOUT.windowBgY), 
                         LAYOUT.windowBgWidth * cs.getScale(), LAYOUT.windowBgHeight * cs.getScale());
-        }));
+        }).withContentKey(List.of(SingleSpriteKey.GUI_BACKGROUND, SingleSpriteKey.OPTIONS_WINDOW_BACKGROUND)));
 
+        // The preferences are read here, so that the drawn values all come from the same frame
+        final OptionsValues values = OptionsValues.fromPreferences();
         renderer.addRenderTask(new RenderTask(RenderPriority.GUI, () -> {
-            drawOptionsText(gc, cs);
+            drawOptionsText(gc, cs, values);
         }));
 
         super.render();
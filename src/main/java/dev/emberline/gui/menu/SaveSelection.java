@@ -16,7 +16,6 @@ import dev.emberline.game.world.World;
 import dev.emberline.gui.GuiButton;
 import dev.emberline.gui.GuiLayer;
 import dev.emberline.gui.event.SetMainMenuEvent;
-import javafx.application.Platform;
 import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.image.Image;
 
@@ -24,6 +23,7 @@ import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 
 /**
  * The {@code SaveSelection} class represents a GUI layer for selecting and managing game saves.
@@ -33,6 +33,8 @@ import java.nio.file.Path;
 public class SaveSelection extends GuiLayer implements GameState {
     private final SaveSelectionBounds bounds;
     private final Serializer worldSerializer = new Serializer();
+    // Whether the buttons reflect the saves currently on disk
+    private boolean layoutValid;
     private static final Layout LAYOUT = ConfigLoader.loadConfig("/gui/saveSelection/saveSelectionLayout.json", Layout.class);
 
     /**
@@ -137,6 +139,7 @@ public class SaveSelection extends GuiLayer implements GameState {
 
     private void updateLayout() {
         super.getButtons().clear();
+        layoutValid = true;
 
         addSaveSlot(LAYOUT.firstSlotY, Saves.SAVE1);
         addSaveSlot(LAYOUT.secondSlotY, Saves.SAVE2);
@@ -189,14 +192,13 @@ public class SaveSelection extends GuiLayer implements GameState {
         );
         deleteSaveSlotButton.setOnClick(() -> {
             if (saveExists) {
-                Platform.runLater(() -> {
-                    try {
-                        Files.deleteIfExists(Path.of(worldSerializer.getSavePath() + save.displayName));
-                        updateLayout();
-                    } catch (IOException e) {
-                        throw new UncheckedIOException("Failed to delete save file: " + save.displayName, e);
-                    }
-                });
+                try {
+                    Files.deleteIfExists(Path.of(worldSerializer.getSavePath() + save.displayName));
+                } catch (IOException e) {
+                    throw new UncheckedIOException("Failed to delete save file: " + save.displayName, e);
+                }
+                // The buttons are being iterated, they are rebuilt on the next render
+                layoutValid = false;
             }
         });
         super.getButtons().add(deleteSaveSlotButton);
@@ -233,24 +235,27 @@ public class SaveSelection extends GuiLayer implements GameState {
     @Override
     public void render() {
         final Renderer renderer = GameLoop.getInstance().getRenderer();
-        final GraphicsContext gc = renderer.getGraphicsContext();
-        final CoordinateSystem cs = renderer.getGuiCoordinateSystem();
+        final GraphicsContext backgroundGc = renderer.getGraphicsContext(RenderPriority.BACKGROUND);
+        final GraphicsContext gc = renderer.getGraphicsContext(RenderPriority.GUI);
+        final CoordinateSystem cs = renderer.getGuiCoordinateSystem().snapshot();
 
         final double guiScreenWidth = (bounds.bottomRightX - bounds.topLeftX) * cs.getScale();
         final double guiScreenHeight = (bounds.bottomRightY - bounds.topLeftY) * cs.getScale();
         final double guiScreenX = cs.toScreenX(bounds.topLeftX);
         final double guiScreenY = cs.toScreenY(bounds.topLeftY);
 
-        updateLayout();
+        if (!layoutValid) {
+            updateLayout();
+        }
 
         final Image guiBackground = SpriteLoader.loadSprite(SingleSpriteKey.GUI_BACKGROUND).image();
         final Image windowBackground = SpriteLoader.loadSprite(SingleSpriteKey.SAVES_WINDOW_BACKGROUND).image();
 
         renderer.addRenderTask(new RenderTask(RenderPriority.BACKGROUND, () -> {
-            gc.drawImage(guiBackground, guiScreenX, guiScreenY, guiScreenWidth, guiScreenHeight);
-            gc.drawImage(windowBackground, cs.toScreenX(LAYOUT.windowBgX), cs.toScreenY(LAYOUT.windowBgY), 
+            backgroundGc.drawImage(guiBackground, guiScreenX, guiScreenY, guiScreenWidth, guiScreenHeight);
+            backgroundGc.drawImage(windowBackground, cs.toScreenX(LAYOUT.windowBgX), cs.toScreenY(LAYOUT.windowBgY), 
                         LAYOUT.windowBgWidth * cs.getScale(), LAYOUT.windowBgHeight * cs.getScale());
-        }));
+        }).withContentKey(List.of(SingleSpriteKey.GUI_BACKGROUND, SingleSpriteKey.SAVES_WINDOW_BACKGROUND)));
 
         renderer.addRenderTask(new RenderTask(RenderPriority.GUI, () -> {
         }));
@@ -258,6 +263,16 @@ public class SaveSelection extends GuiLayer implements GameState {
         super.render();
     }
 
+    /**
+     * Invalidates the layout, so that the save slots are read again from disk
+     * every time the save selection is shown.
+     */
+    @Override
+    public void onEnter() {
+        layoutValid = false;
+        requestRedraw();
+    }
+
     /**
      * {@inheritDoc}
      */
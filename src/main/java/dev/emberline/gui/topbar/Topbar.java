@@ -4,28 +4,32 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import dev.emberline.core.GameLoop;
 import dev.emberline.core.config.ConfigLoader;
 import dev.emberline.core.event.EventDispatcher;
+import dev.emberline.core.graphics.GlyphAtlas;
 import dev.emberline.core.graphics.SpriteLoader;
 import dev.emberline.core.graphics.spritekeys.SingleSpriteKey;
-import dev.emberline.core.graphics.spritekeys.StringSpriteKey;
 import dev.emberline.core.render.CoordinateSystem;
 import dev.emberline.core.render.RenderPriority;
 import dev.emberline.core.render.RenderTask;
 import dev.emberline.core.render.Renderer;
+import dev.emberline.core.update.GameSpeed;
+import dev.emberline.core.update.Updater;
 import dev.emberline.game.world.World;
 import dev.emberline.gui.GuiButton;
 import dev.emberline.gui.GuiLayer;
 import dev.emberline.gui.event.OpenOptionsEvent;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import javafx.scene.canvas.GraphicsContext;
-import javafx.scene.image.Image;
 
 import java.util.EventListener;
+import java.util.List;
 
 /**
  * The {@code Topbar} class represents a {@link GuiLayer} for the top section of the screen
  * displaying player stats such as health, gold, and the current wave.
  * <p>
  * This class also provides an options button that allows users to access the options menu.
+ * While the game is fast-forwarded, the current speed is shown below the bar together with
+ * the maximum speed the simulation could sustain.
  */
 public class Topbar extends GuiLayer implements EventListener {
 
@@ -33,6 +37,10 @@ public class Topbar extends GuiLayer implements EventListener {
     private int gold;
     private int wave;
     private final World world;
+    // Speed readout, refreshed periodically to avoid creating a new text image every frame
+    private String speedText = "";
+    private long lastSpeedTextRefreshNs;
+    private static final long SPEED_TEXT_REFRESH_NS = 500_000_000L;
     private static final Layout LAYOUT = ConfigLoader.loadConfig("/gui/topbar/topbarLayout.json", Layout.class);
 
     private record Layout(
@@ -59,7 +67,15 @@ public class Topbar extends GuiLayer implements EventListener {
             @JsonProperty
             double statsXGold,
             @JsonProperty
-            double statsXWave
+            double statsXWave,
+            @JsonProperty
+            double speedX,
+            @JsonProperty
+            double speedY,
+            @JsonProperty
+            double speedWidth,
+            @JsonProperty
+            double speedHeight
     ) {
     }
 
@@ -81,17 +97,13 @@ public class Topbar extends GuiLayer implements EventListener {
 
         registerEvents();
         this.world = world;
+        addOptionsButton();
     }
 
     private void registerEvents() {
         EventDispatcher.getInstance().registerListener(this);
     }
 
-    private void updateLayout() {
-        addOptionsButton();
-        addStatsImages();
-    }
-
     private void addStatsImages() {
         health = world.getPlayer().getHealth();
         gold = world.getPlayer().getGold();
@@ -108,18 +120,31 @@ public class Topbar extends GuiLayer implements EventListener {
     }
 
     private void drawStats(final GraphicsContext gc, final CoordinateSystem cs,
-                           final Image healtImage, final Image goldImage, final Image waveImage) {
-        drawStatImage(gc, cs, healtImage, LAYOUT.statsXHealth, LAYOUT.statsHeight);
-        drawStatImage(gc, cs, goldImage, LAYOUT.statsXGold, LAYOUT.statsHeight);
-        drawStatImage(gc, cs, waveImage, LAYOUT.statsXWave, LAYOUT.statsHeight);
+                           final String healthText, final String goldText, final String waveText) {
+        drawStatText(gc, cs, healthText, LAYOUT.statsXHealth, LAYOUT.statsHeight);
+        drawStatText(gc, cs, goldText, LAYOUT.statsXGold, LAYOUT.statsHeight);
+        drawStatText(gc, cs, waveText, LAYOUT.statsXWave, LAYOUT.statsHeight);
     }
 
-    private void drawStatImage(final GraphicsContext gc, final CoordinateSystem cs,
-                               final Image img, final double x, final double baseHeight) {
-        final double ratio = img.getWidth() / img.getHeight();
+    private void drawStatText(final GraphicsContext gc, final CoordinateSystem cs,
+                              final String text, final double x, final double baseHeight) {
+        final double ratio = (double) GlyphAtlas.getTextWidth(text) / GlyphAtlas.getTextHeight();
         final double targetHeight = baseHeight * 0.8;
         final double targetWidth = targetHeight * ratio;
-        Renderer.drawImage(img, gc, cs, x, (LAYOUT.bgHeight - targetHeight) / 2, targetWidth, targetHeight);
+        Renderer.drawTextStretch(text, gc, cs, x, (LAYOUT.bgHeight - targetHeight) / 2, targetWidth, targetHeight);
+    }
+
+    private void refreshSpeedText(final Updater updater) {
+        final GameSpeed gameSpeed = updater.getGameSpeed();
+        if (gameSpeed == GameSpeed.X1) {
+            speedText = "";
+            return;
+        }
+        final long now = System.nanoTime();
+        if (speedText.isEmpty() || now - lastSpeedTextRefreshNs >= SPEED_TEXT_REFRESH_NS) {
+            speedText = "x" + gameSpeed.getTicksPerStep() + " max x" + (int) updater.getMaxSustainableSpeed();
+            lastSpeedTextRefreshNs = now;
+        }
     }
 
     /**
@@ -128,22 +153,29 @@ public class Topbar extends GuiLayer implements EventListener {
     @Override
     public void render() {
         final Renderer renderer = GameLoop.getInstance().getRenderer();
-        final GraphicsContext gc = renderer.getGraphicsContext();
-        final CoordinateSystem guics = renderer.getGuiCoordinateSystem();
+        final GraphicsContext gc = renderer.getGraphicsContext(RenderPriority.GUI);
+        final CoordinateSystem guics = renderer.getGuiCoordinateSystem().snapshot();
+
+        addStatsImages();
 
-        updateLayout();
+        final String healthText = "♥: " + health;
+        final String goldText = "$: " + gold;
+        final String waveText = "☠: " + wave;
 
-        final Image healthImageString = SpriteLoader.loadSprite(new StringSpriteKey("♥: " + health)).image();
-        final Image goldImageString = SpriteLoader.loadSprite(new StringSpriteKey("$: " + gold)).image();
-        final Image waveImageString = SpriteLoader.loadSprite(new StringSpriteKey("☠: " + wave)).image();
+        refreshSpeedText(GameLoop.getInstance().getUpdater());
+        final String speed = speedText;
 
         renderer.addRenderTask(new RenderTask(RenderPriority.GUI, () -> {
             // Background
             Renderer.drawImage(SpriteLoader.loadSprite(SingleSpriteKey.TOPBAR_BACKGROUND).image(),
                     gc, guics, LAYOUT.bgX, LAYOUT.bgY, LAYOUT.bgWidth, LAYOUT.bgHeight);
             // Stats
-            drawStats(gc, guics, healthImageString, goldImageString, waveImageString);
-        }));
+            drawStats(gc, guics, healthText, goldText, waveText);
+            // Game speed
+            if (!speed.isEmpty()) {
+                Renderer.drawText(speed, gc, guics, LAYOUT.speedX, LAYOUT.speedY, LAYOUT.speedWidth, LAYOUT.speedHeight);
+            }
+        }).withContentKey(List.of(healthText, goldText, waveText, speed)));
 
         super.render();
     }
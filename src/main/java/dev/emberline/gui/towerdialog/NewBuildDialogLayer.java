@@ -90,8 +90,8 @@ public class NewBuildDialogLayer extends GuiLayer {
     @Override
     public void render() {
         final Renderer renderer = GameLoop.getInstance().getRenderer();
-        final GraphicsContext gc = renderer.getGraphicsContext();
-        final CoordinateSystem guics = renderer.getGuiCoordinateSystem();
+        final GraphicsContext gc = renderer.getGraphicsContext(RenderPriority.GUI_HIGH);
+        final CoordinateSystem guics = renderer.getGuiCoordinateSystem().snapshot();
 
         addBuildButton();
 
@@ -99,7 +99,7 @@ public class NewBuildDialogLayer extends GuiLayer {
             // Background
             Renderer.drawImage(SpriteLoader.loadSprite(SingleSpriteKey.NTDL_BACKGROUND).image(),
                     gc, guics, LAYOUT.bgX, LAYOUT.bgY, LAYOUT.bgWidth, LAYOUT.bgHeight);
-        }));
+        }).withContentKey(SingleSpriteKey.NTDL_BACKGROUND));
 
         super.render();
     }
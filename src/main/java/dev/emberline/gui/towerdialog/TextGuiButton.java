@@ -4,14 +4,15 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.databind.JsonNode;
 import dev.emberline.core.GameLoop;
 import dev.emberline.core.config.ConfigLoader;
-import dev.emberline.core.graphics.SpriteLoader;
-import dev.emberline.core.graphics.spritekeys.StringSpriteKey;
+import dev.emberline.core.render.CoordinateSystem;
 import dev.emberline.core.render.RenderPriority;
 import dev.emberline.core.render.RenderTask;
 import dev.emberline.core.render.Renderer;
 import dev.emberline.gui.GuiButton;
+import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.image.Image;
 
+import java.util.Arrays;
 import java.util.Locale;
 
 /**
@@ -137,23 +138,20 @@ public class TextGuiButton extends GuiButton {
     public void render() {
         super.render();
         final Renderer renderer = GameLoop.getInstance().getRenderer();
-        renderer.addRenderTask(new RenderTask(RenderPriority.GUI_HIGH, () -> drawText(renderer)));
-    }
-
-    private void drawText(final Renderer renderer) {
-        if (labelText == null || labelText.isEmpty()) {
-            return;
-        }
-
-        final Image textImage = SpriteLoader.loadSprite(new StringSpriteKey(labelText)).image();
+        final GraphicsContext gc = renderer.getGraphicsContext(RenderPriority.GUI_HIGH);
+        final CoordinateSystem guics = renderer.getGuiCoordinateSystem().snapshot();
+        final String text = labelText;
 
         final double textWidth = this.getWidth() * textLayout.textWidthRatio;
         final double textHeight = this.getHeight() * textLayout.textHeightRatio;
         final double textX = this.getX() + (this.getWidth() - textWidth) * textLayout.textXOffset;
         final double textY = this.getY() + (this.getHeight() - textHeight) * textLayout.textYPosition;
 
-        Renderer.drawImageFitCenter(textImage, renderer.getGraphicsContext(),
-                                    renderer.getGuiCoordinateSystem(), textX, textY, textWidth, textHeight);
+        renderer.addRenderTask(new RenderTask(RenderPriority.GUI_HIGH, () -> {
+            if (text != null && !text.isEmpty()) {
+                Renderer.drawTextFitCenter(text, gc, guics, textX, textY, textWidth, textHeight);
+            }
+        }).withContentKey(Arrays.asList(labelText, textLayout, getX(), getY(), getWidth(), getHeight())));
     }
 
 }
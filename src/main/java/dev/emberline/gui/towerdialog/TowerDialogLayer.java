@@ -35,7 +35,6 @@ import javafx.scene.paint.CycleMethod;
 import javafx.scene.paint.RadialGradient;
 import javafx.scene.paint.Stop;
 import javafx.scene.shape.StrokeLineCap;
-import javafx.scene.transform.Rotate;
 
 import java.text.DecimalFormat;
 import java.util.HashMap;
@@ -170,6 +169,10 @@ public class TowerDialogLayer extends GuiLayer {
      * Defines colors and effects used for rendering the GUI elements.
      * The colors are defined using the {@link ColorAdjust} class, which allows adjusting the hue, saturation,
      * brightness, and contrast of the color.
+     * <p>
+     * The text colors are baked into the glyphs by the {@link dev.emberline.core.graphics.EffectBaker},
+     * so they must never be modified. The bloom of the range line is applied live, since the line changes
+     * on every frame.
      */
     private static final class Colors {
         // To convert hue from 0-360 degrees to jfx range (-1 to 1):
@@ -180,6 +183,7 @@ public class TowerDialogLayer extends GuiLayer {
         private static final ColorAdjust STAT_COMPARISON = new ColorAdjust(0.9444, 1, -0.3, 0);
         private static final ColorAdjust STAT_NEW_VALUE = new ColorAdjust(0.9444, 1, -0.3, 0);
         private static final ColorAdjust SELECTOR_TITLE = new ColorAdjust(0.15, 0.9, -0.6, 0);
+        private static final Bloom RANGE_LINE_BLOOM = new Bloom(0.1);
     }
 
     /**
@@ -336,9 +340,13 @@ public class TowerDialogLayer extends GuiLayer {
         }
 
         final Renderer renderer = GameLoop.getInstance().getRenderer();
-        final GraphicsContext gc = renderer.getGraphicsContext();
-        final CoordinateSystem guics = renderer.getGuiCoordinateSystem();
+        final GraphicsContext gc = renderer.getGraphicsContext(RenderPriority.GUI);
+        final GraphicsContext worldGc = renderer.getGraphicsContext(RenderPriority.TOWER_RADIUS);
+        final CoordinateSystem guics = renderer.getGuiCoordinateSystem().snapshot();
         final CoordinateSystem worldcs = renderer.getWorldCoordinateSystem();
+        final List<TowerStatView> views = statsViews;
+        final EnchantmentInfo enchantment = displayedEnchantment;
+        final ProjectileInfo projectile = displayedProjectile;
 
         renderer.addRenderTask(new RenderTask(RenderPriority.GUI, () -> {
             // Background
@@ -348,11 +356,11 @@ public class TowerDialogLayer extends GuiLayer {
             Renderer.drawImage(SpriteLoader.loadSprite(SingleSpriteKey.STATS_BACKGROUND).image(),
                                 gc, guics, LAYOUT.statsX, LAYOUT.statsY, LAYOUT.statsWidth, LAYOUT.statsHeight);
             // Stats Overlay
-            drawStatsOverlay(statsViews, gc, guics);
+            drawStatsOverlay(views, gc, guics);
 
-            drawSelector(gc, guics, "Enchantment:", displayedEnchantment, 0);
-            drawSelector(gc, guics, "Projectile:", displayedProjectile, LAYOUT.selectorTotalHeight);
-        }));
+            drawSelector(gc, guics, "Enchantment:", enchantment, 0);
+            drawSelector(gc, guics, "Projectile:", projectile, LAYOUT.selectorTotalHeight);
+        }).withContentKey(List.of(enchantment, projectile, views)));
 
         // Draw tower radius
         final double currentTimeNs = System.nanoTime() - creationTime;
@@ -366,10 +374,10 @@ public class TowerDialogLayer extends GuiLayer {
 
 
         final double lineWorldWidth = 0.08; // era 0.08
-        final double lineDashes1 = 0.2 * worldcs.getScale();
-        final double lineDashes2 = 0.4 * worldcs.getScale();
+        final double worldScale = worldcs.getScale();
+        final double lineDashes1 = 0.2 * worldScale;
+        final double lineDashes2 = 0.4 * worldScale;
         final double lineAlpha = 0.5;
-        final double lineBloomThreshold = 0.1;
         final double rotationAngle = System.nanoTime() / 2e8;
 
         final double strokeWorldRadius = worldTowerRange - lineWorldWidth / 1.9;
@@ -377,35 +385,35 @@ public class TowerDialogLayer extends GuiLayer {
         final double strokeScreenY = worldcs.toScreenY(tower.getPosition().getY() - strokeWorldRadius);
 
         renderer.addRenderTask(new RenderTask(RenderPriority.TOWER_RADIUS, () -> {
-            gc.save();
-            gc.setEffect(new Bloom(lineBloomThreshold));
-            gc.setGlobalAlpha(lineAlpha);
-            final Rotate r = new Rotate(rotationAngle,
-                    ovalCenterScreenX,
-                    ovalCenterScreenY);
-            gc.setTransform(r.getMxx(), r.getMyx(), r.getMxy(), r.getMyy(), r.getTx(), r.getTy());
-            gc.setLineWidth(lineWorldWidth * worldcs.getScale());
-            gc.setLineDashes(lineDashes1, lineDashes2);
-            gc.setLineCap(StrokeLineCap.ROUND);
-            gc.setStroke(Color.WHITE);
-            gc.strokeOval(strokeScreenX, strokeScreenY, strokeWorldRadius * 2 * worldcs.getScale(),
-                    strokeWorldRadius * 2 * worldcs.getScale());
+            worldGc.save();
+            worldGc.setEffect(Colors.RANGE_LINE_BLOOM);
+            worldGc.setGlobalAlpha(lineAlpha);
+            // Rotation around the center of the range
+            worldGc.translate(ovalCenterScreenX, ovalCenterScreenY);
+            worldGc.rotate(rotationAngle);
+            worldGc.translate(-ovalCenterScreenX, -ovalCenterScreenY);
+            worldGc.setLineWidth(lineWorldWidth * worldScale);
+            worldGc.setLineDashes(lineDashes1, lineDashes2);
+            worldGc.setLineCap(StrokeLineCap.ROUND);
+            worldGc.setStroke(Color.WHITE);
+            worldGc.strokeOval(strokeScreenX, strokeScreenY, strokeWorldRadius * 2 * worldScale,
+                    strokeWorldRadius * 2 * worldScale);
             // Draw radial gradient
             final double secondStopOffset = 0.9;
             final double secondStopAlpha = 0.1;
             final int maxByteValue = 255;
             final RadialGradient radialGradient = new RadialGradient(
                     0, 0, ovalCenterScreenX, ovalCenterScreenY,
-                    worldTowerRange * worldcs.getScale(),
+                    worldTowerRange * worldScale,
                     false, CycleMethod.NO_CYCLE,
                     new Stop(0, Color.TRANSPARENT),
                     new Stop(secondStopOffset, Color.rgb(maxByteValue, maxByteValue, maxByteValue, secondStopAlpha)),
                     new Stop(1, Color.WHITE)
             );
-            gc.setFill(radialGradient);
-            gc.fillOval(ovalScreenX, ovalScreenY, worldTowerRange * worldcs.getScale() * 2,
-                    worldTowerRange * worldcs.getScale() * 2);
-            gc.restore();
+            worldGc.setFill(radialGradient);
+            worldGc.fillOval(ovalScreenX, ovalScreenY, worldTowerRange * worldScale * 2,
+                    worldTowerRange * worldScale * 2);
+            worldGc.restore();
         }));
 
         super.render();
@@ -441,7 +449,6 @@ public class TowerDialogLayer extends GuiLayer {
             final TowerStatView statView, final GraphicsContext gc, final CoordinateSystem cs,
             final double x, final double y, final double width, final double height
     ) {
-        gc.save();
         // Title and value strings
         final String displayName = statView.getStat().type().getDisplayName();
         final double statValue = statView.getStat().value();
@@ -461,20 +468,16 @@ public class TowerDialogLayer extends GuiLayer {
         // Icon
         Renderer.drawImage(statView.getStat().type().getIcon(), gc, cs, x, y + iconVMargin, iconSide, iconSide);
         // Title
-        gc.setEffect(Colors.STAT_TITLE);
-        Renderer.drawText(displayName, gc, cs, titleX, y, titleWidth, titleHeight);
+        Renderer.drawText(displayName, Colors.STAT_TITLE, gc, cs, titleX, y, titleWidth, titleHeight);
         // Value
-        gc.setEffect(valueColor);
-        Renderer.drawText(statValueStr, gc, cs, titleX, valueY, valueWidth, valueHeight);
+        Renderer.drawText(statValueStr, valueColor, gc, cs, titleX, valueY, valueWidth, valueHeight);
         // Comparison
         if (statView.getType() == TowerStatView.Type.COMPARED) {
             final double comparedValue = statView.getComparedStat().value();
             final String comparisonStr = new DecimalFormat("+0.##;-0.##").format(comparedValue - statValue);
-            gc.setEffect(Colors.STAT_COMPARISON);
-            Renderer.drawText(comparisonStr, gc, cs,
+            Renderer.drawText(comparisonStr, Colors.STAT_COMPARISON, gc, cs,
                     titleX + valueWidth, valueY, titleWidth - valueWidth, valueHeight);
         }
-        gc.restore();
     }
 
     private static void drawStatsOverlay(
@@ -503,11 +506,8 @@ public class TowerDialogLayer extends GuiLayer {
             final UpgradableInfo<?, ?> info, final double verticalOffset
     ) {
         // Title
-        gc.save();
-        gc.setEffect(Colors.SELECTOR_TITLE);
-        Renderer.drawText(title, gc, cs, LAYOUT.selectorX, LAYOUT.selectorNameY + verticalOffset,
-                LAYOUT.selectorNameWidth, LAYOUT.selectorNameHeight);
-        gc.restore();
+        Renderer.drawText(title, Colors.SELECTOR_TITLE, gc, cs, LAYOUT.selectorX,
+                LAYOUT.selectorNameY + verticalOffset, LAYOUT.selectorNameWidth, LAYOUT.selectorNameHeight);
         // Should we draw the selector?
         if (info.canChangeType()) {
             return;
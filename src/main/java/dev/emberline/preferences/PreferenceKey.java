@@ -25,7 +25,15 @@ public enum PreferenceKey {
     /** 
      * Whether the game starts in fullscreen mode by default. 
      */
-    FULLSCREEN("fullscreen", false);
+    FULLSCREEN("fullscreen", false),
+    /**
+     * Default maximum number of frames rendered per second.
+     */
+    FPS_CAP("fpsCap", 60.0),
+    /**
+     * Default fraction of the screen resolution at which the world is drawn (range: 0.5–1.0).
+     */
+    RENDER_SCALE("renderScale", 1.0);
 
     private final String key;
     private final Double doubleDefaultValue;
@@ -0,0 +1,34 @@
+package dev.emberline.core;
+
+import dev.emberline.game.world.World;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HeadlessSimulationTest {
+
+    private static final long MAX_TICKS = 200_000;
+
+    @Test
+    void testMatchWithoutTowersEndsInGameOver() {
+        final HeadlessSimulation.Result result = new HeadlessSimulation(new World()).run(MAX_TICKS);
+
+        assertTrue(result.gameOver());
+        assertTrue(result.ticks() > 0 && result.ticks() < MAX_TICKS);
+        assertTrue(result.simulatedSeconds() > 0);
+    }
+
+    @Test
+    void testRunStopsAtMaxTicks() {
+        final HeadlessSimulation simulation = new HeadlessSimulation(new World());
+
+        final HeadlessSimulation.Result result = simulation.run(10);
+
+        assertEquals(10, result.ticks());
+        assertFalse(result.gameOver());
+        assertThrows(IllegalArgumentException.class, () -> simulation.run(-1));
+    }
+}
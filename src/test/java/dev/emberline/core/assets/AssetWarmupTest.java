@@ -0,0 +1,134 @@
+package dev.emberline.core.assets;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AssetWarmupTest {
+    private static final long TIMEOUT_MS = 5000;
+
+    @Test
+    void testProgressUntilDone() throws InterruptedException {
+        final CountDownLatch release = new CountDownLatch(1);
+        final AssetWarmup warmup = new AssetWarmup();
+        warmup.addAsset("fast", () -> { });
+        warmup.addAsset("slow", () -> awaitQuietly(release));
+
+        assertFalse(warmup.isDone());
+        warmup.start();
+        waitFor(() -> warmup.getProgress() == 0.5);
+        assertFalse(warmup.isDone());
+
+        release.countDown();
+        waitFor(warmup::isDone);
+        assertEquals(1, warmup.getProgress());
+        assertEquals(2, warmup.getTimings().size());
+    }
+
+    @Test
+    void testFailedAssetsAreRecorded() throws InterruptedException {
+        final AssetWarmup warmup = new AssetWarmup();
+        warmup.addAsset("broken", () -> {
+            throw new IllegalStateException("Missing asset");
+        });
+        warmup.addAsset("working", () -> { });
+        warmup.start();
+        waitFor(warmup::isDone);
+
+        final List<AssetWarmup.LoadTiming> timings = warmup.getTimings();
+        assertEquals(2, timings.size());
+        for (final AssetWarmup.LoadTiming timing : timings) {
+            assertEquals("broken".equals(timing.asset()), timing.failed());
+        }
+    }
+
+    @Test
+    void testAssetsFailingWithAnErrorAreCounted() throws InterruptedException {
+        final AssetWarmup warmup = new AssetWarmup();
+        warmup.addAsset("erroneous", () -> {
+            throw new ExceptionInInitializerError("Broken metadata");
+        });
+        warmup.start();
+        waitFor(warmup::isDone);
+
+        assertEquals(1, warmup.getProgress());
+        assertTrue(warmup.getTimings().getFirst().failed());
+    }
+
+    @Test
+    void testFailedAndSlowestAssetsAreLoggedWhenDone() throws InterruptedException {
+        final List<LogRecord> records = new CopyOnWriteArrayList<>();
+        final Handler handler = new Handler() {
+            @Override
+            public void publish(final LogRecord logRecord) {
+                records.add(logRecord);
+            }
+
+            @Override
+            public void flush() {
+                // Nothing buffered
+            }
+
+            @Override
+            public void close() {
+                // Nothing to release
+            }
+        };
+        final Logger logger = Logger.getLogger(AssetWarmup.class.getName());
+        logger.addHandler(handler);
+        try {
+            final AssetWarmup warmup = new AssetWarmup();
+            warmup.addAsset("broken", () -> {
+                throw new IllegalStateException("Missing asset");
+            });
+            warmup.addAsset("working", () -> { });
+            warmup.start();
+            // The warm-ups of the other tests may still be logging, so only these records are waited for
+            waitFor(() -> records.stream().anyMatch(r -> r.getLevel() == Level.WARNING
+                    && r.getMessage().contains("broken")));
+            waitFor(() -> records.stream().anyMatch(r -> r.getLevel() == Level.INFO
+                    && r.getMessage().contains("broken") && r.getMessage().contains("working")));
+        } finally {
+            logger.removeHandler(handler);
+        }
+    }
+
+    @Test
+    void testAssetsCannotBeAddedAfterStart() {
+        final AssetWarmup warmup = new AssetWarmup();
+        warmup.start();
+
+        assertTrue(warmup.isDone());
+        assertThrows(IllegalStateException.class, () -> warmup.addAsset("late", () -> { }));
+        assertThrows(IllegalStateException.class, warmup::start);
+    }
+
+    private static void awaitQuietly(final CountDownLatch latch) {
+        try {
+            latch.await(TIMEOUT_MS, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void waitFor(final BooleanSupplier condition) throws InterruptedException {
+        final long deadline = System.currentTimeMillis() + TIMEOUT_MS;
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.currentTimeMillis() < deadline, "Timed out");
+            Thread.sleep(1);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package dev.emberline.core.graphics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class AtlasPackerTest {
+    private static final int SIDE = 64;
+    private static final int PADDING = 1;
+
+    @Test
+    void testRectanglesDoNotOverlapAndStayInTheirPage() {
+        final List<AtlasPacker.Size> sizes = List.of(new AtlasPacker.Size(30, 10), new AtlasPacker.Size(20, 40),
+                new AtlasPacker.Size(40, 20), new AtlasPacker.Size(10, 10), new AtlasPacker.Size(60, 30),
+                new AtlasPacker.Size(5, 64));
+
+        final AtlasPacker.Packing packing = new AtlasPacker(SIDE, PADDING).pack(sizes);
+
+        assertEquals(sizes.size(), packing.placements().size());
+        for (int i = 0; i < sizes.size(); i++) {
+            final AtlasPacker.Placement a = packing.placements().get(i);
+            final AtlasPacker.Size pageSize = packing.pages().get(a.page());
+            assertFalse(a.x() + sizes.get(i).width() > pageSize.width()
+                    || a.y() + sizes.get(i).height() > pageSize.height());
+            for (int j = i + 1; j < sizes.size(); j++) {
+                final AtlasPacker.Placement b = packing.placements().get(j);
+                final boolean overlap = a.page() == b.page()
+                        && a.x() < b.x() + sizes.get(j).width() + PADDING
+                        && b.x() < a.x() + sizes.get(i).width() + PADDING
+                        && a.y() < b.y() + sizes.get(j).height() + PADDING
+                        && b.y() < a.y() + sizes.get(i).height() + PADDING;
+                assertFalse(overlap, "Rectangles " + i + " and " + j + " overlap");
+            }
+        }
+    }
+
+    @Test
+    void testPagesAreShrunkToPowersOfTwo() {
+        final AtlasPacker.Packing packing = new AtlasPacker(SIDE, PADDING)
+                .pack(List.of(new AtlasPacker.Size(20, 9), new AtlasPacker.Size(10, 5)));
+
+        assertEquals(List.of(new AtlasPacker.Size(32, 16)), packing.pages());
+        assertEquals(new AtlasPacker.Placement(0, 0, 0), packing.placements().get(0));
+        assertEquals(new AtlasPacker.Placement(0, 21, 0), packing.placements().get(1));
+    }
+
+    @Test
+    void testFullPagesOpenNewOnes() {
+        final AtlasPacker.Packing packing = new AtlasPacker(SIDE, PADDING)
+                .pack(List.of(new AtlasPacker.Size(SIDE, 40), new AtlasPacker.Size(SIDE, 40)));
+
+        assertEquals(2, packing.pages().size());
+        assertEquals(1, packing.placements().get(1).page());
+    }
+
+    @Test
+    void testRectanglesLargerThanAPageAreRejected() {
+        final AtlasPacker packer = new AtlasPacker(SIDE, PADDING);
+        assertThrows(IllegalArgumentException.class, () -> packer.pack(List.of(new AtlasPacker.Size(SIDE + 1, 1))));
+    }
+}
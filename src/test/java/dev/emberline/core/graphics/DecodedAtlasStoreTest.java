@@ -0,0 +1,83 @@
+package dev.emberline.core.graphics;
+
+import javafx.scene.image.Image;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.WritableImage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DecodedAtlasStoreTest {
+    private static final String ATLAS = "/font/emberlineFont.png";
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void testStoredAtlasMatchesDecodedOne() throws IOException {
+        final DecodedAtlasStore store = new DecodedAtlasStore(directory);
+
+        final Image decoded = store.load(ATLAS);
+        assertEquals(1, listFiles().size());
+        final Image mapped = store.load(ATLAS);
+
+        assertNotSame(decoded, mapped);
+        assertEquals(decoded.getWidth(), mapped.getWidth());
+        assertEquals(decoded.getHeight(), mapped.getHeight());
+        assertArrayEquals(pixelsOf(decoded), pixelsOf(mapped));
+    }
+
+    @Test
+    void testInvalidFileIsReplaced() throws IOException {
+        final DecodedAtlasStore store = new DecodedAtlasStore(directory);
+        final Image decoded = store.load(ATLAS);
+        final Path file = listFiles().getFirst();
+        Files.write(file, new byte[] {1, 2, 3});
+
+        final Image reloaded = store.load(ATLAS);
+
+        assertArrayEquals(pixelsOf(decoded), pixelsOf(reloaded));
+        assertArrayEquals(pixelsOf(decoded), pixelsOf(store.load(ATLAS)));
+    }
+
+    @Test
+    void testStoredRegionIsMappedWithoutTheAtlas() throws IOException {
+        final DecodedAtlasStore store = new DecodedAtlasStore(directory);
+        final int x = 3, y = 2, width = 5, height = 4;
+
+        assertTrue(store.storeRegion(ATLAS, x, y, width, height));
+        assertTrue(store.storeRegion(ATLAS, x, y, width, height));
+        store.releaseDecoded(ATLAS);
+        assertEquals(1, listFiles().size());
+
+        final Image region = store.loadRegion(ATLAS, x, y, width, height);
+        final Image atlas = store.load(ATLAS);
+        assertEquals(width, region.getWidth());
+        assertEquals(height, region.getHeight());
+        assertArrayEquals(pixelsOf(new WritableImage(atlas.getPixelReader(), x, y, width, height)), pixelsOf(region));
+    }
+
+    private List<Path> listFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.toList();
+        }
+    }
+
+    private static int[] pixelsOf(final Image image) {
+        final int width = (int) image.getWidth();
+        final int height = (int) image.getHeight();
+        final int[] pixels = new int[width * height];
+        image.getPixelReader().getPixels(0, 0, width, height, PixelFormat.getIntArgbPreInstance(), pixels, 0, width);
+        return pixels;
+    }
+}
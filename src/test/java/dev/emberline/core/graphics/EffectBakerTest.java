@@ -0,0 +1,82 @@
+package dev.emberline.core.graphics;
+
+import dev.emberline.core.graphics.EffectBaker.BakedRegion;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.effect.ColorAdjust;
+import javafx.scene.effect.Effect;
+import javafx.scene.image.Image;
+import org.junit.jupiter.api.Test;
+
+import java.util.function.BiFunction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class EffectBakerTest {
+
+    private static Image image(final double width, final double height) {
+        final Image image = mock(Image.class);
+        when(image.getWidth()).thenReturn(width);
+        when(image.getHeight()).thenReturn(height);
+        return image;
+    }
+
+    private static BakedRegion unpadded(final double width, final double height) {
+        return new BakedRegion(AtlasRegion.of(image(width, height)), 0, 0, (int) width, (int) height);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testRegionsAreBakedOncePerEffect() {
+        final BiFunction<AtlasRegion, Effect, BakedRegion> painter = mock(BiFunction.class);
+        when(painter.apply(any(), any()))
+                .thenAnswer(invocation -> unpadded(4, 2));
+        final EffectBaker baker = new EffectBaker(painter);
+        final Image atlas = image(16, 16);
+        final AtlasRegion region = new AtlasRegion(atlas, 4, 8, 4, 2);
+        final ColorAdjust effect = new ColorAdjust(0.1, 0, 0, 0);
+
+        final BakedRegion baked = baker.get(region, effect);
+        assertSame(baked, baker.get(new AtlasRegion(atlas, 4, 8, 4, 2), effect));
+        verify(painter, times(1)).apply(region, effect);
+
+        assertEquals(0, baked.region().x());
+        assertEquals(0, baked.region().y());
+        assertEquals(4, baked.region().width());
+        assertEquals(2, baked.region().height());
+        assertEquals(1, baker.size());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testEffectsAreIdentifiedByInstance() {
+        final BiFunction<AtlasRegion, Effect, BakedRegion> painter = mock(BiFunction.class);
+        when(painter.apply(any(), any()))
+                .thenAnswer(invocation -> unpadded(4, 4));
+        final EffectBaker baker = new EffectBaker(painter);
+        final AtlasRegion region = AtlasRegion.of(image(4, 4));
+        final ColorAdjust first = new ColorAdjust(0.1, 0, 0, 0);
+        final ColorAdjust second = new ColorAdjust(0.1, 0, 0, 0);
+
+        assertNotSame(baker.get(region, first), baker.get(region, second));
+        assertEquals(2, baker.size());
+    }
+
+    @Test
+    void testPaddedRegionsAreDrawnAroundTheOriginalRectangle() {
+        // A 4x2 region baked with 3 pixels of bloom on every side
+        final Image image = image(10, 8);
+        final BakedRegion baked = new BakedRegion(AtlasRegion.of(image), 3, 3, 4, 2);
+        final GraphicsContext gc = mock(GraphicsContext.class);
+
+        baked.draw(gc, 100, 50, 8, 4);
+
+        verify(gc).drawImage(image, 0, 0, 10, 8, 94, 44, 20, 16);
+    }
+}
@@ -0,0 +1,58 @@
+package dev.emberline.core.graphics;
+
+import javafx.scene.canvas.GraphicsContext;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class GlyphAtlasTest {
+
+    @Test
+    void testTextWidthIncludesSpacing() {
+        final int a = GlyphAtlas.getGlyphWidth('a');
+        final int b = GlyphAtlas.getGlyphWidth('b');
+
+        assertTrue(a > 0 && b > 0);
+        assertEquals(a + b + 2, GlyphAtlas.getTextWidth("ab"));
+        assertEquals(0, GlyphAtlas.getTextWidth(""));
+    }
+
+    @Test
+    void testMissingCharactersAreSpaces() {
+        // '~' and '{' are not in the atlas
+        assertEquals(GlyphAtlas.getTextWidth(" "), GlyphAtlas.getTextWidth("~"));
+        assertEquals(GlyphAtlas.getGlyphX(' '), GlyphAtlas.getGlyphX('{'));
+        assertEquals(GlyphAtlas.getGlyphY(' '), GlyphAtlas.getGlyphY('{'));
+    }
+
+    @Test
+    void testDrawTextAdvancesByGlyph() {
+        final GraphicsContext gc = mock(GraphicsContext.class);
+        final String text = "$: 42";
+        final int height = GlyphAtlas.getTextHeight();
+        // One screen pixel for each atlas pixel
+        GlyphAtlas.drawText(gc, text, 10, 20, GlyphAtlas.getTextWidth(text), height);
+
+        final InOrder inOrder = inOrder(gc);
+        int pen = 10;
+        for (final char c : text.toCharArray()) {
+            final int width = GlyphAtlas.getGlyphWidth(c);
+            inOrder.verify(gc).drawImage(GlyphAtlas.getAtlas(), GlyphAtlas.getGlyphX(c), GlyphAtlas.getGlyphY(c),
+                    width, height, pen, 20, width, height);
+            pen += width + 1;
+        }
+        inOrder.verifyNoMoreInteractions();
+    }
+
+    @Test
+    void testEmptyTextIsNotDrawn() {
+        final GraphicsContext gc = mock(GraphicsContext.class);
+        GlyphAtlas.drawText(gc, "", 0, 0, 10, 10);
+        verifyNoInteractions(gc);
+    }
+}
@@ -0,0 +1,82 @@
+package dev.emberline.core.graphics;
+
+import dev.emberline.core.graphics.spritekeys.CrystalSpriteKey;
+import dev.emberline.core.graphics.spritekeys.ProjectileSpriteKey;
+import dev.emberline.core.graphics.spritekeys.SingleSpriteKey;
+import dev.emberline.core.graphics.spritekeys.SpriteKey;
+import dev.emberline.game.model.EnchantmentInfo;
+import dev.emberline.game.model.ProjectileInfo;
+import javafx.scene.image.Image;
+import javafx.scene.image.WritableImage;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PackedSpritesTest {
+    private static final int FRAME_TIME_NS = 1000;
+    private static final SpriteKey CRYSTAL = new CrystalSpriteKey(EnchantmentInfo.Type.FIRE);
+    private static final SpriteKey PROJECTILE = new ProjectileSpriteKey(ProjectileInfo.Type.BIG, EnchantmentInfo.Type.ICE);
+
+    private final Image page = new WritableImage(64, 64);
+
+    private PackedSprites roundTrip() throws IOException {
+        final List<PackedSprites.Rect> frames = List.of(new PackedSprites.Rect(0, 0, 0, 8, 8),
+                new PackedSprites.Rect(0, 9, 0, 8, 8));
+        final Map<SpriteKey, PackedSprites.Entry> entries = Map.of(
+                SingleSpriteKey.CANCEL_BUTTON, new PackedSprites.Entry(PackedSprites.Kind.SINGLE, 0, 0,
+                        List.of(new PackedSprites.Rect(0, 20, 30, 4, 3)), List.of()),
+                CRYSTAL, new PackedSprites.Entry(PackedSprites.Kind.ANIMATED, FRAME_TIME_NS, 0, frames, List.of()),
+                PROJECTILE, new PackedSprites.Entry(PackedSprites.Kind.ROTATED, FRAME_TIME_NS, 2, frames,
+                        List.of(new PackedSprites.Rect(0, 0, 20, 12, 12), new PackedSprites.Rect(0, 13, 20, 12, 12),
+                                new PackedSprites.Rect(0, 26, 20, 12, 12), new PackedSprites.Rect(0, 39, 20, 12, 12))));
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        PackedSprites.write(out, List.of("page0.png"), entries);
+        return PackedSprites.read(new ByteArrayInputStream(out.toByteArray()), path -> {
+            assertEquals("/packed/page0.png", path);
+            return page;
+        });
+    }
+
+    @Test
+    void testManifestRoundTrip() throws IOException {
+        final PackedSprites packed = roundTrip();
+
+        assertEquals(3, packed.size());
+        final Image single = packed.loadSprite(SingleSpriteKey.CANCEL_BUTTON).image();
+        assertEquals(4, single.getWidth());
+        assertEquals(3, single.getHeight());
+
+        final AnimatedSprite crystal = assertInstanceOf(AnimatedSprite.class, packed.loadSprite(CRYSTAL));
+        assertEquals(FRAME_TIME_NS, crystal.getFrameTimeNs());
+        assertEquals(new AtlasRegion(page, 9, 0, 8, 8), crystal.region(1));
+
+        final RotatedAnimatedSprite projectile = assertInstanceOf(RotatedAnimatedSprite.class,
+                packed.loadSprite(PROJECTILE));
+        assertEquals(2, projectile.getRotationSteps());
+        assertEquals(1.5, projectile.getRotatedScale());
+        assertSame(page, projectile.region(1, 180).atlas());
+        assertEquals(39, projectile.region(1, 180).x());
+    }
+
+    @Test
+    void testMissingKeysAreNotPacked() throws IOException {
+        assertNull(roundTrip().loadSprite(SingleSpriteKey.ADD_BUTTON));
+    }
+
+    @Test
+    void testInvalidManifestIsRejected() {
+        final byte[] garbage = {(byte) 0xAC, (byte) 0xED, 0, 5, 0x77, 8, 0, 0, 0, 1, 0, 0, 0, 1};
+        assertThrows(IllegalStateException.class,
+                () -> PackedSprites.read(new ByteArrayInputStream(garbage), path -> page));
+    }
+}
@@ -0,0 +1,67 @@
+package dev.emberline.core.graphics;
+
+import dev.emberline.core.graphics.spritekeys.StringSpriteKey;
+import javafx.scene.image.WritableImage;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class RotatedAnimatedSpriteTest {
+    private static final int RED = 0xFFFF0000;
+    private static final int STEPS = 4;
+
+    // A 4x2 frame at (1, 1) of the atlas, with only its top-left pixel set
+    private static AtlasRegion[] frames() {
+        final WritableImage atlas = new WritableImage(6, 4);
+        atlas.getPixelWriter().setArgb(1, 1, RED);
+        return new AtlasRegion[] {new AtlasRegion(atlas, 1, 1, 4, 2)};
+    }
+
+    @Test
+    void testFramesAreRotatedClockwiseAroundTheirCenter() {
+        final AtlasRegion[] rotated = RotatedAnimatedSprite.rotateFrames(frames(), STEPS);
+
+        assertEquals(STEPS, rotated.length);
+        // The cell must hold the diagonal and keep the parity of the width: 6x6
+        assertEquals(6, rotated[0].width());
+        assertEquals(6, rotated[0].height());
+        // No rotation: the frame is centered in the cell
+        assertEquals(RED, argb(rotated[0], 1, 2));
+        // A quarter turn clockwise: the top-left corner moves to the top-right
+        assertEquals(RED, argb(rotated[1], 3, 1));
+        // Half a turn: the top-left corner moves to the bottom-right
+        assertEquals(RED, argb(rotated[2], 4, 3));
+        assertEquals(0, argb(rotated[2], 1, 2));
+    }
+
+    @Test
+    void testRotationsSelectTheClosestStep() {
+        final AtlasRegion[] frames = frames();
+        final AtlasRegion[] rotated = RotatedAnimatedSprite.rotateFrames(frames, STEPS);
+        final RotatedAnimatedSprite sprite = new RotatedAnimatedSprite(frames, rotated, STEPS,
+                new StringSpriteKey("rotated"), 1);
+
+        assertSame(rotated[0], sprite.region(0, 0));
+        assertSame(rotated[1], sprite.region(0, 80));
+        assertSame(rotated[0], sprite.region(0, 359));
+        assertSame(rotated[3], sprite.region(0, -90));
+        assertSame(rotated[2], sprite.region(0, 540));
+        assertEquals(1.5, sprite.getRotatedScale());
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> sprite.region(1, 0));
+    }
+
+    @Test
+    void testRotatedFramesMustMatchSteps() {
+        final AtlasRegion[] frames = frames();
+        final AtlasRegion[] rotated = RotatedAnimatedSprite.rotateFrames(frames, STEPS);
+
+        assertThrows(IllegalArgumentException.class, () -> new RotatedAnimatedSprite(frames, rotated, STEPS + 1,
+                new StringSpriteKey("rotated"), 1));
+    }
+
+    private static int argb(final AtlasRegion region, final int x, final int y) {
+        return region.atlas().getPixelReader().getArgb(region.x() + x, region.y() + y);
+    }
+}
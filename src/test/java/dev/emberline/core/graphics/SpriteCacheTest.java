@@ -0,0 +1,88 @@
+package dev.emberline.core.graphics;
+
+import dev.emberline.core.graphics.spritekeys.StringSpriteKey;
+import javafx.scene.image.Image;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class SpriteCacheTest {
+
+    // 10x10 pixels, 400 bytes
+    private static Sprite sprite() {
+        final Image image = mock(Image.class);
+        when(image.getWidth()).thenReturn(10.0);
+        when(image.getHeight()).thenReturn(10.0);
+        return new SingleSprite(image);
+    }
+
+    @Test
+    void testLeastRecentlyUsedIsEvicted() {
+        final SpriteCache cache = new SpriteCache(800);
+        final StringSpriteKey a = new StringSpriteKey("a");
+        final StringSpriteKey b = new StringSpriteKey("b");
+        final StringSpriteKey c = new StringSpriteKey("c");
+
+        cache.putIfAbsent(a, sprite(), true);
+        cache.putIfAbsent(b, sprite(), true);
+        assertNotNull(cache.get(a)); // b is now the least recently used
+        cache.putIfAbsent(c, sprite(), true);
+
+        assertNotNull(cache.get(a));
+        assertNull(cache.get(b));
+        assertNotNull(cache.get(c));
+        final SpriteLoader.CacheStats stats = cache.getStats();
+        assertEquals(1, stats.evictions());
+        assertEquals(2, stats.size());
+        assertEquals(800, stats.evictableBytes());
+        assertEquals(3, stats.hits());
+        assertEquals(1, stats.misses());
+    }
+
+    @Test
+    void testPinnedSpritesAreNeverEvicted() {
+        final SpriteCache cache = new SpriteCache(0);
+        final StringSpriteKey pinned = new StringSpriteKey("pinned");
+
+        cache.putIfAbsent(pinned, sprite(), false);
+        cache.putIfAbsent(new StringSpriteKey("a"), sprite(), true);
+        cache.putIfAbsent(new StringSpriteKey("b"), sprite(), true);
+
+        assertNotNull(cache.get(pinned));
+        assertEquals(400, cache.getStats().pinnedBytes());
+        // Only the newest evictable sprite survives a zero budget
+        assertEquals(400, cache.getStats().evictableBytes());
+        assertEquals(1, cache.getStats().evictions());
+    }
+
+    @Test
+    void testPutIfAbsentKeepsExistingSprite() {
+        final SpriteCache cache = new SpriteCache(Long.MAX_VALUE);
+        final StringSpriteKey key = new StringSpriteKey("key");
+        final Sprite first = sprite();
+
+        assertSame(first, cache.putIfAbsent(key, first, true));
+        assertSame(first, cache.putIfAbsent(key, sprite(), true));
+        assertEquals(400, cache.getStats().evictableBytes());
+    }
+
+    @Test
+    void testRegionSpritesAreMeasuredWithoutCopies() {
+        final SpriteCache cache = new SpriteCache(Long.MAX_VALUE);
+        final Image atlas = mock(Image.class);
+        final AtlasRegion[] frames = {new AtlasRegion(atlas, 0, 0, 10, 10), new AtlasRegion(atlas, 10, 0, 10, 10)};
+
+        cache.putIfAbsent(new StringSpriteKey("animated"), new AnimatedSprite(frames, null, 1), false);
+        cache.putIfAbsent(new StringSpriteKey("region"), new RegionSprite(frames[0]), false);
+
+        assertEquals(1200, cache.getStats().pinnedBytes());
+        // Copying a region would read the pixels of the atlas
+        verifyNoInteractions(atlas);
+    }
+}
@@ -0,0 +1,42 @@
+package dev.emberline.core.render;
+
+import javafx.scene.canvas.GraphicsContext;
+import org.junit.jupiter.api.Test;
+
+import java.util.function.Consumer;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class CachedLayerTest {
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testChangingKeysArePaintedDirectly() {
+        final GraphicsContext gc = mock(GraphicsContext.class);
+        final Consumer<GraphicsContext> painter = mock(Consumer.class);
+        final CachedLayer layer = new CachedLayer();
+
+        // No snapshot is taken while the key keeps changing, so no JavaFX toolkit is needed
+        layer.draw(gc, 100, 100, 1, painter);
+        layer.draw(gc, 100, 100, 2, painter);
+        layer.draw(gc, 100, 100, 3, painter);
+
+        verify(painter, times(3)).accept(gc);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testEmptyLayerIsNotPainted() {
+        final GraphicsContext gc = mock(GraphicsContext.class);
+        final Consumer<GraphicsContext> painter = mock(Consumer.class);
+        final CachedLayer layer = new CachedLayer();
+
+        layer.draw(gc, 0, 100, 1, painter);
+        layer.draw(gc, 100, 0.5, 1, painter);
+
+        verifyNoInteractions(painter, gc);
+    }
+}
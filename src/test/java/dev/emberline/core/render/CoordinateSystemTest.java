@@ -0,0 +1,53 @@
+package dev.emberline.core.render;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CoordinateSystemTest {
+
+    private static final double EPSILON = 1e-9;
+
+    @Test
+    void testVisibleAreaCoversTheWholeScreen() {
+        final CoordinateSystem cs = new CoordinateSystem(0, 0, 32, 18);
+        // Wider than 16:9, the region fills the height and more world is visible on the sides
+        cs.update(2000, 900);
+
+        assertEquals(0, cs.getVisibleMinY(), EPSILON);
+        assertEquals(18, cs.getVisibleMaxY(), EPSILON);
+        assertEquals(cs.toWorldX(0), cs.getVisibleMinX(), EPSILON);
+        assertEquals(cs.toWorldX(2000), cs.getVisibleMaxX(), EPSILON);
+        assertTrue(cs.getVisibleMinX() < 0);
+    }
+
+    @Test
+    void testIsVisible() {
+        final CoordinateSystem cs = new CoordinateSystem(10, 10, 20, 20);
+        cs.update(100, 100);
+
+        assertTrue(cs.isVisible(12, 12, 13, 13));
+        assertTrue(cs.isVisible(0, 0, 10.5, 10.5));
+        assertTrue(cs.isVisible(0, 0, 30, 30));
+        assertFalse(cs.isVisible(0, 0, 9, 9));
+        assertFalse(cs.isVisible(21, 12, 22, 13));
+        assertFalse(cs.isVisible(12, 25, 13, 26));
+    }
+
+    @Test
+    void testSnapshotIsNotAffectedByLaterChanges() {
+        final CoordinateSystem cs = new CoordinateSystem(0, 0, 10, 10);
+        cs.update(100, 100);
+        final CoordinateSystem snapshot = cs.snapshot();
+
+        cs.setRegion(5, 5, 10, 10);
+        cs.update(400, 400);
+
+        assertEquals(10, snapshot.getScale(), EPSILON);
+        assertEquals(50, snapshot.toScreenX(5), EPSILON);
+        assertEquals(80, cs.getScale(), EPSILON);
+        assertEquals(0, cs.toScreenX(5), EPSILON);
+    }
+}
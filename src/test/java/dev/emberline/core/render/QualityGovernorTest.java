@@ -0,0 +1,81 @@
+package dev.emberline.core.render;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class QualityGovernorTest {
+
+    private static final long BUDGET_NS = 16_000_000;
+    private static final int MANY_FRAMES = 1_000;
+
+    @Test
+    void testLowersOneTierAtATimeWhenOverBudget() {
+        final QualityGovernor governor = new QualityGovernor(BUDGET_NS);
+
+        int frames = 0;
+        while (governor.getTier() == QualityTier.HIGH) {
+            governor.recordFrame(2 * BUDGET_NS, false);
+            frames++;
+        }
+        assertEquals(QualityTier.MEDIUM, governor.getTier());
+        assertTrue(frames > 1, "A single slow frame must not lower the quality");
+
+        for (int i = 0; i < MANY_FRAMES; i++) {
+            governor.recordFrame(2 * BUDGET_NS, false);
+        }
+        assertEquals(QualityTier.LOW, governor.getTier());
+    }
+
+    @Test
+    void testDroppedFramesLowerTheQuality() {
+        final QualityGovernor governor = new QualityGovernor(BUDGET_NS);
+
+        for (int i = 0; i < MANY_FRAMES; i++) {
+            governor.recordFrame(BUDGET_NS / 2, true);
+        }
+        assertEquals(QualityTier.LOW, governor.getTier());
+    }
+
+    @Test
+    void testRaisesSlowerThanItLowers() {
+        final QualityGovernor governor = new QualityGovernor(BUDGET_NS);
+        int framesToLower = 0;
+        while (governor.getTier() == QualityTier.HIGH) {
+            governor.recordFrame(2 * BUDGET_NS, false);
+            framesToLower++;
+        }
+
+        int framesToRaise = 0;
+        while (governor.getTier() != QualityTier.HIGH) {
+            governor.recordFrame(BUDGET_NS / 10, false);
+            framesToRaise++;
+        }
+        assertTrue(framesToRaise > framesToLower);
+    }
+
+    @Test
+    void testKeepsTheTierWithinTheBudget() {
+        final QualityGovernor governor = new QualityGovernor(BUDGET_NS);
+        while (governor.getTier() != QualityTier.LOW) {
+            governor.recordFrame(2 * BUDGET_NS, false);
+        }
+
+        // Neither over budget nor with enough headroom
+        for (int i = 0; i < MANY_FRAMES; i++) {
+            governor.recordFrame(BUDGET_NS * 3 / 4, false);
+        }
+        assertEquals(QualityTier.LOW, governor.getTier());
+    }
+
+    @Test
+    void testTiers() {
+        assertTrue(QualityTier.HIGH.isAtLeast(QualityTier.LOW));
+        assertTrue(QualityTier.LOW.isAtLeast(QualityTier.LOW));
+        assertFalse(QualityTier.LOW.isAtLeast(QualityTier.MEDIUM));
+        assertThrows(IllegalArgumentException.class, () -> new QualityGovernor(0));
+    }
+}
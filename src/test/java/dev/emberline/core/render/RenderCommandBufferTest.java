@@ -0,0 +1,85 @@
+package dev.emberline.core.render;
+
+import dev.emberline.core.graphics.AtlasRegion;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.effect.Effect;
+import javafx.scene.image.Image;
+import javafx.scene.paint.Color;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class RenderCommandBufferTest {
+
+    @Test
+    void testReplayInRecordingOrder() {
+        final GraphicsContext gc = mock(GraphicsContext.class);
+        final Image image = mock(Image.class);
+        final Effect effect = mock(Effect.class);
+        final RenderCommandBuffer commands = new RenderCommandBuffer();
+
+        commands.save();
+        commands.setTransform(1, 2, 3, 4, 5, 6);
+        commands.translate(7, 8);
+        commands.rotate(9);
+        commands.setEffect(effect);
+        commands.setGlobalAlpha(0.5);
+        commands.drawImage(image, 1, 2, 3, 4);
+        commands.fillRect(Color.RED, 5, 6, 7, 8);
+        commands.restore();
+        commands.replay(gc, 0, commands.size());
+
+        final InOrder inOrder = inOrder(gc);
+        inOrder.verify(gc).save();
+        inOrder.verify(gc).setTransform(1, 2, 3, 4, 5, 6);
+        inOrder.verify(gc).translate(7, 8);
+        inOrder.verify(gc).rotate(9);
+        inOrder.verify(gc).setEffect(effect);
+        inOrder.verify(gc).setGlobalAlpha(0.5);
+        inOrder.verify(gc).drawImage(image, 1, 2, 3, 4);
+        inOrder.verify(gc).setFill(Color.RED);
+        inOrder.verify(gc).fillRect(5, 6, 7, 8);
+        inOrder.verify(gc).restore();
+        inOrder.verifyNoMoreInteractions();
+    }
+
+    @Test
+    void testGrowsAndIsReusedAfterClear() {
+        final GraphicsContext gc = mock(GraphicsContext.class);
+        final Image image = mock(Image.class);
+        final RenderCommandBuffer commands = new RenderCommandBuffer();
+        final int count = 10_000;
+
+        for (int frame = 0; frame < 2; frame++) {
+            for (int i = 0; i < count; i++) {
+                commands.drawImage(image, i, 0, 1, 1);
+            }
+            assertEquals(count, commands.size());
+            commands.replay(gc, count - 1, count);
+            commands.clear();
+            assertEquals(0, commands.size());
+        }
+
+        verify(gc, times(2)).drawImage(image, count - 1, 0, 1, 1);
+    }
+
+    @Test
+    void testDrawRegionUsesSourceRect() {
+        final GraphicsContext gc = mock(GraphicsContext.class);
+        final Image atlas = mock(Image.class);
+        final RenderCommandBuffer commands = new RenderCommandBuffer();
+
+        commands.drawImage(new AtlasRegion(atlas, 16, 32, 8, 4), 1, 2, 3, 4);
+        commands.drawImage(atlas, 5, 6, 7, 8);
+        commands.replay(gc, 0, commands.size());
+
+        final InOrder inOrder = inOrder(gc);
+        inOrder.verify(gc).drawImage(atlas, 16, 32, 8, 4, 1, 2, 3, 4);
+        inOrder.verify(gc).drawImage(atlas, 5, 6, 7, 8);
+    }
+}
@@ -0,0 +1,132 @@
+package dev.emberline.core.render;
+
+import java.lang.management.ManagementFactory;
+import java.util.Queue;
+import java.util.Random;
+import java.util.concurrent.PriorityBlockingQueue;
+
+/**
+ * Compares the cost of filling and draining a frame of {@link RenderTask} with the
+ * {@link PriorityBlockingQueue} previously used by the {@link Renderer} and with the {@link RenderQueue},
+ * then the garbage produced per frame by recording capturing lambdas and by recording into a
+ * {@link RenderCommandBuffer}.
+ * <p>
+ * Accepted arguments, both optional: the number of tasks per frame (default {@value DEFAULT_TASKS})
+ * and the number of measured frames (default {@value DEFAULT_FRAMES}).
+ */
+final class RenderQueueBenchmark {
+
+    private static final int DEFAULT_TASKS = 5_000;
+    private static final int DEFAULT_FRAMES = 2_000;
+    private static final int WARMUP_FRAMES = 500;
+    private static final long SEED = 42;
+    private static final double NS_IN_US = 1e3;
+
+    // Keeps the JIT from removing the task bodies
+    private static long sink;
+
+    private RenderQueueBenchmark() {
+    }
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param args the command-line arguments passed to the benchmark.
+     */
+    @SuppressWarnings("PMD.SystemPrintln")
+    public static void main(final String[] args) {
+        final int tasks = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_TASKS;
+        final int frames = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_FRAMES;
+        final RenderTask[] frame = createFrame(tasks);
+
+        final Queue<RenderTask> priorityQueue = new PriorityBlockingQueue<>();
+        final RenderQueue renderQueue = new RenderQueue();
+        runPriorityQueue(priorityQueue, frame, WARMUP_FRAMES);
+        runRenderQueue(renderQueue, frame, WARMUP_FRAMES);
+
+        final double priorityQueueUs = runPriorityQueue(priorityQueue, frame, frames) / NS_IN_US / frames;
+        final double renderQueueUs = runRenderQueue(renderQueue, frame, frames) / NS_IN_US / frames;
+        System.out.printf("%d tasks per frame, %d frames%n", tasks, frames);
+        System.out.printf("PriorityBlockingQueue: %.1f us/frame%n", priorityQueueUs);
+        System.out.printf("RenderQueue:           %.1f us/frame (x%.1f)%n", renderQueueUs, priorityQueueUs / renderQueueUs);
+
+        // Garbage produced by the game thread while recording a frame of enemies
+        final long lambdaBytes = measureAllocatedBytes(() -> recordWithLambdas(renderQueue, tasks), frames);
+        final RenderCommandBuffer commandBuffer = new RenderCommandBuffer();
+        final long commandBytes = measureAllocatedBytes(() -> recordWithCommands(commandBuffer, tasks), frames);
+        System.out.printf("Recording with lambdas:  %d bytes/frame%n", lambdaBytes);
+        System.out.printf("Recording with commands: %d bytes/frame%n", commandBytes);
+        System.out.println(sink);
+    }
+
+    private static long measureAllocatedBytes(final Runnable frame, final int frames) {
+        final com.sun.management.ThreadMXBean threadBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        for (int f = 0; f < WARMUP_FRAMES; f++) {
+            frame.run();
+        }
+        final long before = threadBean.getCurrentThreadAllocatedBytes();
+        for (int f = 0; f < frames; f++) {
+            frame.run();
+        }
+        return (threadBean.getCurrentThreadAllocatedBytes() - before) / frames;
+    }
+
+    private static void recordWithLambdas(final RenderQueue queue, final int tasks) {
+        for (int i = 0; i < tasks; i++) {
+            final double x = i;
+            queue.add(new RenderTask(RenderPriority.ENEMIES, () -> sink += (long) x).enableZOrder(x));
+        }
+        queue.runAndClear(null);
+    }
+
+    private static void recordWithCommands(final RenderCommandBuffer commands, final int tasks) {
+        // The buffer is cleared instead of played back, there is no GraphicsContext here
+        for (int i = 0; i < tasks; i++) {
+            commands.fillRect(null, i, 0, 1, 1);
+            commands.fillRect(null, i, 0, 1, 1);
+        }
+        commands.clear();
+    }
+
+    private static RenderTask[] createFrame(final int tasks) {
+        final Random random = new Random(SEED);
+        final RenderPriority[] priorities = RenderPriority.values();
+        final RenderTask[] frame = new RenderTask[tasks];
+        for (int i = 0; i < tasks; i++) {
+            final RenderPriority priority = priorities[random.nextInt(priorities.length)];
+            final int id = i;
+            frame[i] = new RenderTask(priority, () -> sink += id);
+            if (priority == RenderPriority.ENEMIES || priority == RenderPriority.BUILDINGS) {
+                frame[i].enableZOrder(random.nextDouble() * 18);
+            }
+        }
+        return frame;
+    }
+
+    private static long runPriorityQueue(final Queue<RenderTask> queue, final RenderTask[] frame, final int frames) {
+        final long start = System.nanoTime();
+        long counter = 0;
+        for (int f = 0; f < frames; f++) {
+            for (final RenderTask renderTask : frame) {
+                renderTask.setSecondaryPriority(counter++);
+                queue.add(renderTask);
+            }
+            while (!queue.isEmpty()) {
+                queue.poll().run();
+            }
+        }
+        return System.nanoTime() - start;
+    }
+
+    private static long runRenderQueue(final RenderQueue queue, final RenderTask[] frame, final int frames) {
+        final long start = System.nanoTime();
+        for (int f = 0; f < frames; f++) {
+            for (final RenderTask renderTask : frame) {
+                queue.add(renderTask);
+            }
+            queue.runAndClear(null);
+        }
+        return System.nanoTime() - start;
+    }
+}
@@ -0,0 +1,143 @@
+package dev.emberline.core.render;
+
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.Random;
+import java.util.concurrent.PriorityBlockingQueue;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+
+class RenderQueueTest {
+
+    private static final int TASKS = 5_000;
+    private static final long SEED = 42;
+
+    @Test
+    void testSameOrderAsPriorityQueue() {
+        final List<Integer> expected = new ArrayList<>();
+        final List<Integer> actual = new ArrayList<>();
+        final Queue<RenderTask> priorityQueue = new PriorityBlockingQueue<>();
+        final RenderQueue renderQueue = new RenderQueue();
+
+        final Random random = new Random(SEED);
+        for (int i = 0; i < TASKS; i++) {
+            final RenderPriority priority = RenderPriority.values()[random.nextInt(RenderPriority.values().length)];
+            // Few distinct values, so that z-order ties are frequent
+            final double zOrder = random.nextInt(20) / 2.0;
+            final int id = i;
+            final RenderTask expectedTask = createTask(priority, zOrder, () -> expected.add(id));
+            expectedTask.setSecondaryPriority(i);
+            priorityQueue.add(expectedTask);
+            renderQueue.add(createTask(priority, zOrder, () -> actual.add(id)));
+        }
+
+        while (!priorityQueue.isEmpty()) {
+            priorityQueue.poll().run();
+        }
+        renderQueue.runAndClear(null);
+
+        assertEquals(expected, actual);
+        assertEquals(0, renderQueue.size());
+    }
+
+    @Test
+    void testBucketsAreReusableAcrossFrames() {
+        final List<String> order = new ArrayList<>();
+        final RenderQueue renderQueue = new RenderQueue();
+
+        renderQueue.add(new RenderTask(RenderPriority.ENEMIES, () -> order.add("enemy")).enableZOrder(2));
+        renderQueue.add(new RenderTask(RenderPriority.BUILDINGS, () -> order.add("tower")).enableZOrder(1));
+        renderQueue.add(new RenderTask(RenderPriority.BACKGROUND, () -> order.add("map")));
+        renderQueue.runAndClear(null);
+        renderQueue.add(new RenderTask(RenderPriority.GUI, () -> order.add("gui")));
+        renderQueue.add(new RenderTask(RenderPriority.FOG, () -> order.add("fog")));
+        renderQueue.runAndClear(null);
+
+        assertEquals(List.of("map", "tower", "enemy", "fog", "gui"), order);
+    }
+
+    @Test
+    void testCommandsAreZOrderedWithTasks() {
+        final GraphicsContext gc = mock(GraphicsContext.class);
+        final Image image = mock(Image.class);
+        final RenderQueue renderQueue = new RenderQueue();
+
+        renderQueue.recordCommands(RenderPriority.ENEMIES, true, 3).drawImage(image, 3, 0, 1, 1);
+        renderQueue.add(new RenderTask(RenderPriority.BUILDINGS, () -> gc.fillRect(2, 0, 1, 1)).enableZOrder(2));
+        final RenderCommandBuffer commands = renderQueue.recordCommands(RenderPriority.BUILDINGS, true, 1);
+        commands.drawImage(image, 1, 0, 1, 1);
+        commands.drawImage(image, 1, 1, 1, 1);
+        renderQueue.recordCommands(RenderPriority.GUI, false, 0).drawImage(image, 4, 0, 1, 1);
+        renderQueue.runAndClear(gc);
+
+        final InOrder inOrder = inOrder(gc);
+        inOrder.verify(gc).drawImage(image, 1, 0, 1, 1);
+        inOrder.verify(gc).drawImage(image, 1, 1, 1, 1);
+        inOrder.verify(gc).fillRect(2, 0, 1, 1);
+        inOrder.verify(gc).drawImage(image, 3, 0, 1, 1);
+        inOrder.verify(gc).drawImage(image, 4, 0, 1, 1);
+        inOrder.verifyNoMoreInteractions();
+    }
+
+    @Test
+    void testRunLayerOnlyRunsItsPriorities() {
+        final List<String> order = new ArrayList<>();
+        final RenderQueue renderQueue = new RenderQueue();
+
+        renderQueue.add(new RenderTask(RenderPriority.GUI, () -> order.add("gui")));
+        renderQueue.add(new RenderTask(RenderPriority.ENEMIES, () -> order.add("enemy")).enableZOrder(1));
+        renderQueue.add(new RenderTask(RenderPriority.TOWER_RADIUS, () -> order.add("radius")));
+        renderQueue.add(new RenderTask(RenderPriority.BACKGROUND, () -> order.add("map")));
+        renderQueue.runLayer(null, RenderLayer.WORLD);
+
+        assertEquals(List.of("enemy", "radius"), order);
+        assertEquals(2, renderQueue.size());
+        renderQueue.runLayer(null, RenderLayer.GUI);
+        assertEquals(List.of("enemy", "radius", "gui"), order);
+        renderQueue.clear();
+        assertEquals(0, renderQueue.size());
+    }
+
+    @Test
+    void testLayerSignatures() {
+        final Image image = mock(Image.class);
+
+        assertEquals(fillLayers(image, 1, "topbar"), fillLayers(image, 1, "topbar"));
+        assertNotEquals(fillLayers(image, 1, "topbar"), fillLayers(image, 2, "topbar"));
+        assertNotEquals(fillLayers(image, 1, "topbar"), fillLayers(image, 1, "dialog"));
+
+        final RenderQueue renderQueue = new RenderQueue();
+        renderQueue.add(new RenderTask(RenderPriority.GUI, () -> { }));
+        assertNull(renderQueue.signature(RenderLayer.GUI));
+        // Layers without entries always draw the same
+        assertEquals(new RenderQueue.LayerSignature(List.of(), 0), renderQueue.signature(RenderLayer.FOG));
+    }
+
+    // Signatures of the world and GUI layers of a frame
+    private static List<RenderQueue.LayerSignature> fillLayers(final Image image, final double enemyX,
+                                                               final String guiKey) {
+        final RenderQueue renderQueue = new RenderQueue();
+        renderQueue.recordCommands(RenderPriority.ENEMIES, true, 1).drawImage(image, enemyX, 0, 1, 1);
+        renderQueue.add(new RenderTask(RenderPriority.GUI, () -> { }).withContentKey(guiKey));
+        return List.of(renderQueue.signature(RenderLayer.WORLD), renderQueue.signature(RenderLayer.GUI));
+    }
+
+    private static RenderTask createTask(final RenderPriority priority, final double zOrder, final Runnable runnable) {
+        final RenderTask renderTask = new RenderTask(priority, runnable);
+        // Only enemies and buildings are z-ordered in the game
+        if (priority == RenderPriority.ENEMIES || priority == RenderPriority.BUILDINGS) {
+            renderTask.enableZOrder(zOrder);
+        }
+        return renderTask;
+    }
+}
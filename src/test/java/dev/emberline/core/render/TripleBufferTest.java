@@ -0,0 +1,67 @@
+package dev.emberline.core.render;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TripleBufferTest {
+
+    private static final long FRAMES = 200_000;
+
+    @Test
+    void testNothingToAcquireBeforePublishing() {
+        final TripleBuffer<AtomicLong> buffer = new TripleBuffer<>(AtomicLong::new);
+
+        assertNull(buffer.acquireNewest());
+    }
+
+    @Test
+    void testAcquiresOnlyTheNewestFrameOnce() {
+        final TripleBuffer<AtomicLong> buffer = new TripleBuffer<>(AtomicLong::new);
+
+        buffer.getBack().set(1);
+        buffer.publish();
+        buffer.getBack().set(2);
+        buffer.publish();
+
+        final AtomicLong front = buffer.acquireNewest();
+        assertEquals(2, front.get());
+        assertNull(buffer.acquireNewest());
+        // The producer never writes on the buffer owned by the consumer
+        assertNotSame(front, buffer.getBack());
+        buffer.publish();
+        assertNotSame(front, buffer.getBack());
+        assertSame(buffer.getBack(), buffer.getBack());
+    }
+
+    @Test
+    void testConsumerSeesIncreasingCompleteFrames() throws InterruptedException {
+        final TripleBuffer<long[]> buffer = new TripleBuffer<>(() -> new long[2]);
+        final Thread producer = new Thread(() -> {
+            for (long frame = 1; frame <= FRAMES; frame++) {
+                final long[] back = buffer.getBack();
+                back[0] = frame;
+                back[1] = -frame;
+                buffer.publish();
+            }
+        });
+        producer.start();
+
+        long last = 0;
+        while (last < FRAMES) {
+            final long[] front = buffer.acquireNewest();
+            if (front != null) {
+                assertTrue(front[0] > last, "Frames must be acquired in publishing order");
+                assertEquals(-front[0], front[1], "Frames must be acquired only once complete");
+                last = front[0];
+            }
+        }
+        producer.join();
+    }
+}
@@ -0,0 +1,65 @@
+package dev.emberline.core.update;
+
+import dev.emberline.core.components.UpdateComponent;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class UpdaterTest {
+
+    private static final long STEP_NS = 50_000_000L;
+
+    @Test
+    void testNormalSpeedUpdatesOnce() {
+        final UpdateComponent root = mock(UpdateComponent.class);
+        final Updater updater = new Updater(root);
+
+        updater.update(STEP_NS);
+
+        verify(root, times(1)).update(STEP_NS);
+    }
+
+    @Test
+    void testFastForwardRunsFixedStepsPerUpdate() {
+        final UpdateComponent root = mock(UpdateComponent.class);
+        final Updater updater = new Updater(root);
+
+        for (final GameSpeed gameSpeed : GameSpeed.values()) {
+            updater.setGameSpeed(gameSpeed);
+            updater.update(STEP_NS);
+        }
+
+        final int totalTicks = 1 + 2 + 4 + 8 + 16;
+        verify(root, times(totalTicks)).update(STEP_NS);
+        assertTrue(updater.getMaxSustainableSpeed() > 0);
+    }
+
+    @Test
+    void testStepBeginsOnceBeforeAllTheTicks() {
+        final UpdateComponent root = mock(UpdateComponent.class);
+        final Updater updater = new Updater(root);
+        updater.setGameSpeed(GameSpeed.X16);
+
+        updater.update(STEP_NS);
+
+        final InOrder order = inOrder(root);
+        order.verify(root, times(1)).beginStep();
+        order.verify(root, times(16)).update(STEP_NS);
+        order.verifyNoMoreInteractions();
+    }
+
+    @Test
+    void testGameSpeedCyclesBackToNormal() {
+        GameSpeed gameSpeed = GameSpeed.X1;
+        for (int i = 0; i < GameSpeed.values().length; i++) {
+            gameSpeed = gameSpeed.next();
+        }
+        assertEquals(GameSpeed.X1, gameSpeed);
+    }
+}
@@ -0,0 +1,104 @@
+package dev.emberline.game.world;
+
+import dev.emberline.core.graphics.AtlasRegion;
+import javafx.scene.image.WritableImage;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.IntFunction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class MapFrameStreamTest {
+    // Waves 0 and 1 share frame 2
+    private static final int[][] WAVE_FRAMES = {{0, 1, 2, 3}, {2, 4}, {5, 6}};
+
+    private final List<Integer> loads = new ArrayList<>();
+    private final IntFunction<AtlasRegion> loader = frame -> {
+        loads.add(frame);
+        return AtlasRegion.of(new WritableImage(1, 1));
+    };
+
+    private MapFrameStream stream() {
+        return new MapFrameStream(WAVE_FRAMES, loader, Runnable::run);
+    }
+
+    @Test
+    void testEnteringAWavePrefetchesItsFirstFramesAndTheNextWave() {
+        final MapFrameStream stream = stream();
+
+        stream.enterWave(0);
+
+        assertEquals(List.of(0, 1, 2, 4), loads);
+        assertEquals(4, stream.size());
+    }
+
+    @Test
+    void testFramesAreLoadedOnceWithALookAhead() {
+        final MapFrameStream stream = stream();
+        stream.enterWave(0);
+
+        final AtlasRegion first = stream.getFrame(0, 1);
+        assertSame(first, stream.getFrame(0, 1));
+        stream.getFrame(0, 2);
+
+        // Frame 3 is only requested once frame 2 is shown
+        assertEquals(List.of(0, 1, 2, 4, 3), loads);
+    }
+
+    @Test
+    void testFramesOfFinishedWavesAreReleased() {
+        final MapFrameStream stream = stream();
+        stream.enterWave(0);
+        stream.getFrame(0, 3);
+
+        stream.enterWave(1);
+
+        // Frames 2 and 4 of wave 1 are kept, frames 5 and 6 of wave 2 are prefetched
+        assertEquals(4, stream.size());
+        loads.clear();
+        stream.getFrame(1, 0);
+        stream.getFrame(1, 1);
+        assertEquals(List.of(), loads);
+        stream.getFrame(0, 0);
+        // Frame 2 was also released once wave 1 moved past it
+        assertEquals(List.of(0, 1, 2), loads);
+    }
+
+    @Test
+    void testFramesBehindThePlayheadAreReleased() {
+        final MapFrameStream stream = stream();
+        stream.enterWave(0);
+        stream.getFrame(0, 0);
+        stream.getFrame(0, 1);
+        stream.getFrame(0, 2);
+
+        // Frames 0 and 1 are released, frame 2 is kept for wave 1 and frame 3 is the last one of the wave
+        stream.getFrame(0, 3);
+        assertEquals(3, stream.size());
+        loads.clear();
+        stream.getFrame(0, 3);
+        assertEquals(List.of(), loads);
+    }
+
+    @Test
+    void testThePreviousFrameIsShownUntilTheNextOneIsLoaded() {
+        final Deque<Runnable> pending = new ArrayDeque<>();
+        final MapFrameStream stream = new MapFrameStream(WAVE_FRAMES, loader, pending::add);
+        stream.enterWave(0);
+        pending.forEach(Runnable::run);
+        pending.clear();
+        stream.getFrame(0, 0);
+        final AtlasRegion shown = stream.getFrame(0, 2);
+
+        // Frame 3 has been requested along with frame 2, but is not loaded yet
+        assertSame(shown, stream.getFrame(0, 3));
+        pending.forEach(Runnable::run);
+        assertNotSame(shown, stream.getFrame(0, 3));
+    }
+}
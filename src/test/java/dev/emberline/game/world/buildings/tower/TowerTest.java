@@ -14,6 +14,7 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
 import java.util.List;
+import java.util.Optional;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyDouble;
@@ -43,6 +44,14 @@ class TowerTest {
         when(enemiesManager.getNear(any(), anyDouble())).thenReturn(
                 List.of(enemy)
         );
+        doAnswer(invocation -> {
+            final List<IEnemy> buffer = invocation.getArgument(2);
+            buffer.add(enemy);
+            return 1;
+        }).when(enemiesManager).getNear(any(), anyDouble(), any());
+        when(enemiesManager.getMinBy(any(), anyDouble(), any())).thenReturn(Optional.of(enemy));
+        when(enemiesManager.getMaxBy(any(), anyDouble(), any())).thenReturn(Optional.of(enemy));
+        when(enemiesManager.getNearest(any(), anyDouble())).thenReturn(Optional.of(enemy));
         doAnswer(invocation -> {
             addedProjectiles++;
             return null;
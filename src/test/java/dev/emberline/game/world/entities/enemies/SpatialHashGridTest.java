@@ -9,9 +9,15 @@ import org.junit.jupiter.api.Test;
 
 import java.io.Serial;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Random;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Collectors;
 
 class EnemyMock implements IEnemy {
     @Serial
@@ -105,6 +111,7 @@ class SpatialHashGridTest {
 
     private static final long SEED = 123_456_789L;
     private static final Random GENERATOR = new Random(SEED);
+    private static final int TEST_SIZE = 1000;
 
     @Test
     void testAdd() {
@@ -166,6 +173,135 @@ class SpatialHashGridTest {
         integrityCheck();
     }
 
+    @Test
+    void testForEachInRect() {
+        final SpatialHashGrid grid = new SpatialHashGrid(X_MIN, Y_MIN, X_MAX, Y_MAX);
+        final List<EnemyMock> enemies = populate(grid, TEST_SIZE);
+        final double minX = 10.5, minY = -5, maxX = 42.25, maxY = 30.75;
+
+        final List<IEnemy> visited = new ArrayList<>();
+        final int count = grid.forEachInRect(minX, minY, maxX, maxY, visited::add);
+
+        final Set<IEnemy> expected = enemies.stream()
+                .filter(e -> e.getPosition().getX() >= minX && e.getPosition().getX() <= maxX
+                        && e.getPosition().getY() >= minY && e.getPosition().getY() <= maxY)
+                .collect(Collectors.toSet());
+        Assertions.assertEquals(expected, new HashSet<>(visited));
+        Assertions.assertEquals(expected.size(), visited.size());
+        Assertions.assertEquals(expected.size(), count);
+    }
+
+    @Test
+    void testGetNearAfterMovesAndRemovals() {
+        final SpatialHashGrid grid = new SpatialHashGrid(X_MIN, Y_MIN, X_MAX, Y_MAX);
+        final List<EnemyMock> enemies = populate(grid, TEST_SIZE);
+        // Removed handles are reused by the enemies added afterwards
+        for (int i = 0; i < TEST_SIZE / 2; i++) {
+            grid.remove(enemies.remove(GENERATOR.nextInt(enemies.size())));
+        }
+        for (int i = 0; i < TEST_SIZE / 4; i++) {
+            final EnemyMock enemy = generateEnemy();
+            grid.add(enemy);
+            enemies.add(enemy);
+        }
+        for (final EnemyMock enemy : enemies) {
+            final Vector2D moved = enemy.getPosition().add(GENERATOR.nextDouble() - 0.5, GENERATOR.nextDouble() - 0.5);
+            enemy.setPosition(new Coordinate2D(
+                    Math.clamp(moved.getX(), X_MIN, X_MAX), Math.clamp(moved.getY(), Y_MIN, Y_MAX)));
+            grid.update(enemy);
+        }
+
+        final Vector2D center = new Coordinate2D(X_MAX / 2.0, Y_MAX / 3.0);
+        final double radius = 12.5;
+        final List<IEnemy> near = grid.getNear(center, radius);
+
+        final Set<IEnemy> expected = enemies.stream()
+                .filter(e -> e.getPosition().distance(center) <= radius)
+                .collect(Collectors.toSet());
+        Assertions.assertEquals(expected, new HashSet<>(near));
+        Assertions.assertEquals(expected.size(), near.size());
+        Assertions.assertEquals(enemies.size(), grid.size());
+    }
+
+    @Test
+    void testNearQueriesWithFilterAndEarlyExit() {
+        final SpatialHashGrid grid = new SpatialHashGrid(X_MIN, Y_MIN, X_MAX, Y_MAX);
+        final List<EnemyMock> enemies = populate(grid, TEST_SIZE);
+        final Vector2D center = new Coordinate2D(X_MAX / 2.0, Y_MAX / 2.0);
+        final double radius = 20;
+        final Predicate<IEnemy> filter = e -> e.getPosition().getX() < center.getX();
+
+        final List<IEnemy> buffer = new ArrayList<>();
+        final int found = grid.getNear(center, radius, filter, buffer);
+        final Set<IEnemy> expected = enemies.stream()
+                .filter(e -> e.getPosition().distance(center) <= radius && filter.test(e))
+                .collect(Collectors.toSet());
+        Assertions.assertEquals(expected, new HashSet<>(buffer));
+        Assertions.assertEquals(expected.size(), found);
+        Assertions.assertEquals(expected.size(), buffer.size());
+
+        final List<IEnemy> visited = new ArrayList<>();
+        final int limit = 3;
+        final int visitedCount = grid.forEachNear(center, radius, filter, (enemy, squaredDistance) -> {
+            Assertions.assertEquals(enemy.getPosition().distance(center), Math.sqrt(squaredDistance), 1e-9);
+            visited.add(enemy);
+            return visited.size() < limit;
+        });
+        Assertions.assertEquals(limit, visitedCount);
+        Assertions.assertEquals(buffer.subList(0, limit), visited);
+    }
+
+    @Test
+    void testNearestAndBestByKey() {
+        final SpatialHashGrid grid = new SpatialHashGrid(X_MIN, Y_MIN, X_MAX, Y_MAX);
+        final List<EnemyMock> enemies = populate(grid, TEST_SIZE);
+        final Predicate<IEnemy> filter = e -> e.getPosition().getY() > e.getPosition().getX() / 2;
+        final ToDoubleFunction<IEnemy> key = e -> e.getPosition().getX() * e.getPosition().getY();
+
+        // Centers inside and outside the grid, with radii from none to covering the whole grid
+        final Vector2D[] centers = {
+            new Coordinate2D(X_MAX / 2.0, Y_MAX / 2.0), new Coordinate2D(X_MIN, Y_MAX), new Coordinate2D(-10, 50.5),
+        };
+        final double[] radii = {0, 3.5, 17, 2 * X_MAX};
+        final int count = 10;
+        for (final Vector2D center : centers) {
+            for (final double radius : radii) {
+                final List<EnemyMock> inRange = enemies.stream()
+                        .filter(e -> e.getPosition().distance(center) <= radius && filter.test(e))
+                        .toList();
+                final List<EnemyMock> expectedNearest = inRange.stream()
+                        .sorted(Comparator.comparingDouble(e -> e.getPosition().distance(center)))
+                        .limit(count)
+                        .toList();
+
+                final List<IEnemy> nearest = new ArrayList<>();
+                Assertions.assertEquals(expectedNearest.size(), grid.getNearest(center, radius, filter, count, nearest));
+                Assertions.assertEquals(expectedNearest, nearest);
+                Assertions.assertEquals(expectedNearest.isEmpty() ? null : expectedNearest.getFirst(),
+                        grid.getNearest(center, radius, filter));
+
+                Assertions.assertEquals(inRange.stream().min(Comparator.comparingDouble(key)).orElse(null),
+                        grid.getMinBy(center, radius, filter, key));
+                Assertions.assertEquals(inRange.stream().max(Comparator.comparingDouble(key)).orElse(null),
+                        grid.getMaxBy(center, radius, filter, key));
+            }
+        }
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> grid.getNearest(centers[0], 1, filter, 0, new ArrayList<>()));
+    }
+
+    // Adds enemies at random continuous positions to the grid, returning them
+    private List<EnemyMock> populate(final SpatialHashGrid grid, final int size) {
+        final List<EnemyMock> enemies = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            final EnemyMock enemy = new EnemyMock(new Coordinate2D(
+                    GENERATOR.nextDouble() * X_MAX, GENERATOR.nextDouble() * Y_MAX));
+            grid.add(enemy);
+            enemies.add(enemy);
+        }
+        return enemies;
+    }
+
     private EnemyMock generateEnemy() {
         final double x = nextX();
         final double y = nextY();
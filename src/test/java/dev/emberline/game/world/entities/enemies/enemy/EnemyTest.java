@@ -8,6 +8,7 @@ import dev.emberline.game.world.entities.player.Player;
 import dev.emberline.game.world.waves.Wave;
 import dev.emberline.game.world.waves.WaveManager;
 import dev.emberline.utility.Coordinate2D;
+import dev.emberline.utility.Vector2D;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -79,6 +80,18 @@ class EnemyTest {
         testMovementWithoutSlowFactor();
     }
 
+    @Test
+    void testInterpolatedPositionBetweenUpdates() {
+        final Vector2D start = enemy.getPosition();
+        final long travelTime = (long) (nodes[0].distance(nodes[1]) / enemy.getSpeed() / 2);
+        enemy.update(travelTime);
+        final Vector2D end = enemy.getPosition();
+
+        Assertions.assertEquals(start, enemy.getInterpolatedPosition(0));
+        Assertions.assertEquals(end, enemy.getInterpolatedPosition(1));
+        Assertions.assertEquals((start.getY() + end.getY()) / 2, enemy.getInterpolatedPosition(0.5).getY(), 1e-9);
+    }
+
     @Test
     void testDealingDamage() {
         double health = enemy.getHealth();
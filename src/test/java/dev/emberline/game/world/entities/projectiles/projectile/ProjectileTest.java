@@ -4,6 +4,7 @@ import dev.emberline.game.model.EnchantmentInfo;
 import dev.emberline.game.model.ProjectileInfo;
 import dev.emberline.game.world.World;
 import dev.emberline.game.world.entities.enemies.EnemiesManager;
+import dev.emberline.game.world.entities.enemies.NearEnemyVisitor;
 import dev.emberline.game.world.entities.enemies.enemy.IEnemy;
 import dev.emberline.game.world.entities.projectiles.FlightPathNotFound;
 import dev.emberline.game.world.entities.projectiles.events.ProjectileHitListener;
@@ -16,6 +17,7 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
 import java.util.List;
+import java.util.Optional;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyDouble;
@@ -54,6 +56,12 @@ class ProjectileTest {
         }).when(enemy).dealDamage(anyDouble());
 
         when(enemiesManager.getNear(any(), anyDouble())).thenReturn(List.of(enemy));
+        doAnswer(invocation -> {
+            final NearEnemyVisitor visitor = invocation.getArgument(2);
+            visitor.visit(enemy, 0);
+            return 1;
+        }).when(enemiesManager).forEachNear(any(), anyDouble(), any());
+        when(enemiesManager.getNearest(any(), anyDouble())).thenReturn(Optional.of(enemy));
         final ProjectileHitListener projectileHitListener = new ProjectileHitListener(enemiesManager);
         when(world.getProjectileHitListener()).thenReturn(projectileHitListener);
     }